@@ -0,0 +1,537 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/*
+ * WorldDao decorator that remembers the answers of the grouped lookups
+ * (findCountriesByContinent, findCitiesByCountryCode, getAllContinents) and of any
+ * aggregate handed to query(), for dashboards that ask the same thing many times a
+ * second while the data rarely changes.
+ *
+ * At most maxEntries answers are kept, the least recently used goes first. Every
+ * answer is tagged with what it read: one country, one continent, the list of
+ * countries or the whole world. A change drops exactly the answers it can affect: a
+ * city change those of its country, of that country's continent and the whole-world
+ * ones; a country change those of its old and new continent and getAllContinents too.
+ *
+ * Changes made through this decorator are always seen. Changes made on the dao
+ * directly are only seen when the cache is attached to it as a WorldChangeListener
+ * (see attach), and a lookup racing such a change can keep the old answer until the
+ * next change in the same scope. Everything that is not cached goes straight to the
+ * dao.
+ */
+public class CachingWorldDao implements WorldDao, WorldChangeListener {
+	private static final String WORLD = "";
+
+	private final WorldDao delegate;
+	private final int maxEntries;
+
+	// all guarded by this; access ordered, so iteration starts at the least recently used
+	private final LinkedHashMap<Key, Object> entries;
+	private final Map<String, Set<Key>> byCountry = new HashMap<>();
+	private final Map<String, Set<Key>> byContinent = new HashMap<>();
+	private final Set<Key> byCountries = new HashSet<>();
+	private final Set<Key> byWorld = new HashSet<>();
+	// bumped by every invalidation, an answer computed across one is not stored
+	private long generation;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
+
+	public CachingWorldDao(WorldDao delegate, int maxEntries) {
+		if (maxEntries < 1)
+			throw new IllegalArgumentException("maxEntries must be positive");
+		this.delegate = Objects.requireNonNull(delegate);
+		this.maxEntries = maxEntries;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	// also invalidates on changes made on the dao directly
+	public static CachingWorldDao attach(InMemoryWorldDao dao, int maxEntries) {
+		CachingWorldDao cache = new CachingWorldDao(dao, maxEntries);
+		dao.addChangeListener(cache);
+		return cache;
+	}
+
+	/*
+	 * A custom aggregate over the whole world, e.g. query("exercise2",
+	 * Exercise2::maxCityPerContinent). The name identifies it, so one name must always
+	 * mean the same computation. Dropped on any change.
+	 */
+	public <T> T query(String name, Function<? super WorldDao, ? extends T> query) {
+		return cached(new Key(Scope.WORLD, WORLD, name), () -> query.apply(delegate));
+	}
+
+	// a custom aggregate that only reads one continent, its countries and their cities
+	public <T> T queryContinent(String continent, String name, Function<? super WorldDao, ? extends T> query) {
+		return cached(new Key(Scope.CONTINENT, continent, name), () -> query.apply(delegate));
+	}
+
+	// a custom aggregate that only reads one country and its cities
+	public <T> T queryCountry(String countryCode, String name, Function<? super WorldDao, ? extends T> query) {
+		return cached(new Key(Scope.COUNTRY, countryCode, name), () -> query.apply(delegate));
+	}
+
+	public long hitCount() {
+		return hits.sum();
+	}
+
+	public long missCount() {
+		return misses.sum();
+	}
+
+	// dropped to stay within maxEntries
+	public long evictionCount() {
+		return evictions.sum();
+	}
+
+	// dropped because a change made them stale
+	public long invalidationCount() {
+		return invalidations.sum();
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized void clear() {
+		invalidations.add(entries.size());
+		entries.clear();
+		byCountry.clear();
+		byContinent.clear();
+		byCountries.clear();
+		byWorld.clear();
+		generation++;
+	}
+
+	@Override
+	public String toString() {
+		return "hits=" + hitCount() + " misses=" + missCount() + " evictions=" + evictionCount() + " invalidations="
+				+ invalidationCount() + " size=" + size();
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// cached lookups
+
+	@Override
+	public List<Country> findCountriesByContinent(String continent) {
+		return cached(new Key(Scope.CONTINENT, continent, "findCountriesByContinent"),
+				() -> Collections.unmodifiableList(new ArrayList<>(delegate.findCountriesByContinent(continent))));
+	}
+
+	@Override
+	public List<City> findCitiesByCountryCode(String countryCode) {
+		return cached(new Key(Scope.COUNTRY, countryCode, "findCitiesByCountryCode"),
+				() -> Collections.unmodifiableList(new ArrayList<>(delegate.findCitiesByCountryCode(countryCode))));
+	}
+
+	@Override
+	public Set<String> getAllContinents() {
+		return cached(new Key(Scope.COUNTRIES, WORLD, "getAllContinents"),
+				() -> Collections.unmodifiableSet(new LinkedHashSet<>(delegate.getAllContinents())));
+	}
+
+	@Override
+	public Stream<Country> streamCountriesByContinent(String continent) {
+		return findCountriesByContinent(continent).stream();
+	}
+
+	@Override
+	public Stream<City> streamCitiesByCountryCode(String countryCode) {
+		return findCitiesByCountryCode(countryCode).stream();
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// mutations go to the dao, then drop what they touched
+
+	@Override
+	public Country removeCountry(Country country) {
+		Country removed = delegate.removeCountry(country);
+		if (removed != null)
+			countryChanged(removed, null);
+		return removed;
+	}
+
+	@Override
+	public Country addCountry(Country country) {
+		Country previous = delegate.addCountry(country);
+		countryChanged(previous, country);
+		return previous;
+	}
+
+	@Override
+	public Country updateCountry(Country country) {
+		Country previous = delegate.updateCountry(country);
+		if (previous != null)
+			countryChanged(previous, country);
+		return previous;
+	}
+
+	@Override
+	public City removeCity(City city) {
+		City removed = delegate.removeCity(city);
+		if (removed != null)
+			cityChanged(removed, null);
+		return removed;
+	}
+
+	@Override
+	public City addCity(City city) {
+		City previous = delegate.addCity(city);
+		if (previous == null)
+			cityChanged(null, city);
+		return previous;
+	}
+
+	@Override
+	public City updateCity(City city) {
+		City previous = delegate.updateCity(city);
+		if (previous != null)
+			cityChanged(previous, city);
+		return previous;
+	}
+
+	@Override
+	public boolean updateCity(City expected, City replacement) {
+		boolean swapped = delegate.updateCity(expected, replacement);
+		if (swapped)
+			cityChanged(expected, replacement);
+		return swapped;
+	}
+
+	@Override
+	public List<City> addCities(Collection<? extends City> batch) {
+		List<City> results = delegate.addCities(batch);
+		citiesChanged(batch, results);
+		return results;
+	}
+
+	@Override
+	public List<City> updateCities(Collection<? extends City> batch) {
+		List<City> results = delegate.updateCities(batch);
+		citiesChanged(batch, results);
+		return results;
+	}
+
+	@Override
+	public List<City> removeCities(Collection<? extends City> batch) {
+		List<City> results = delegate.removeCities(batch);
+		citiesChanged(batch, results);
+		return results;
+	}
+
+	@Override
+	public List<Country> addCountries(Collection<? extends Country> batch) {
+		List<Country> results = delegate.addCountries(batch);
+		countriesChanged(batch, results);
+		return results;
+	}
+
+	@Override
+	public List<Country> updateCountries(Collection<? extends Country> batch) {
+		List<Country> results = delegate.updateCountries(batch);
+		countriesChanged(batch, results);
+		return results;
+	}
+
+	@Override
+	public List<Country> removeCountries(Collection<? extends Country> batch) {
+		List<Country> results = delegate.removeCountries(batch);
+		countriesChanged(batch, results);
+		return results;
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// WorldChangeListener
+
+	@Override
+	public void cityAdded(City city) {
+		cityChanged(null, city);
+	}
+
+	@Override
+	public void cityUpdated(City previous, City current) {
+		cityChanged(previous, current);
+	}
+
+	@Override
+	public void cityRemoved(City city) {
+		cityChanged(city, null);
+	}
+
+	@Override
+	public void countryAdded(Country country) {
+		countryChanged(null, country);
+	}
+
+	@Override
+	public void countryUpdated(Country previous, Country current) {
+		countryChanged(previous, current);
+	}
+
+	@Override
+	public void countryRemoved(Country country) {
+		countryChanged(country, null);
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// not cached
+
+	@Override
+	public Country findCountryByCode(String code) {
+		return delegate.findCountryByCode(code);
+	}
+
+	@Override
+	public List<Country> findAllCountries() {
+		return delegate.findAllCountries();
+	}
+
+	@Override
+	public City findCityById(int id) {
+		return delegate.findCityById(id);
+	}
+
+	@Override
+	public List<City> findAllCities() {
+		return delegate.findAllCities();
+	}
+
+	@Override
+	public Stream<Country> streamCountries() {
+		return delegate.streamCountries();
+	}
+
+	@Override
+	public Stream<City> streamCities() {
+		return delegate.streamCities();
+	}
+
+	@Override
+	public <K> Map<K, City> topCityBy(Function<? super City, ? extends K> groupingKey,
+			Comparator<? super City> comparator) {
+		return delegate.topCityBy(groupingKey, comparator);
+	}
+
+	@Override
+	public Map<String, City> topCityByCountry(Comparator<? super City> comparator) {
+		return delegate.topCityByCountry(comparator);
+	}
+
+	@Override
+	public Map<String, City> topCityByContinent(Comparator<? super City> comparator) {
+		return delegate.topCityByContinent(comparator);
+	}
+
+	@Override
+	public City findMostPopulatedCity() {
+		return delegate.findMostPopulatedCity();
+	}
+
+	@Override
+	public long sumCityPopulation() {
+		return delegate.sumCityPopulation();
+	}
+
+	@Override
+	public int countCitiesByPopulationRange(int minPopulation, int maxPopulation) {
+		return delegate.countCitiesByPopulationRange(minPopulation, maxPopulation);
+	}
+
+	@Override
+	public List<City> findCitiesByNamePrefix(String prefix, int limit) {
+		return delegate.findCitiesByNamePrefix(prefix, limit);
+	}
+
+	@Override
+	public List<City> findCitiesByNameFuzzy(String name, int maxDistance, int limit) {
+		return delegate.findCitiesByNameFuzzy(name, maxDistance, limit);
+	}
+
+	@Override
+	public List<City> findCitiesByPopulationRange(int minPopulation, int maxPopulation) {
+		return delegate.findCitiesByPopulationRange(minPopulation, maxPopulation);
+	}
+
+	@Override
+	public List<City> topCities(int n) {
+		return delegate.topCities(n);
+	}
+
+	@Override
+	public List<City> findNearest(double latitude, double longitude, int k) {
+		return delegate.findNearest(latitude, longitude, k);
+	}
+
+	@Override
+	public List<City> findWithin(GeoBox box) {
+		return delegate.findWithin(box);
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	private enum Scope {
+		// one country, one continent, which countries exist (not their cities), everything
+		COUNTRY, CONTINENT, COUNTRIES, WORLD
+	}
+
+	private static final class Key {
+		final Scope scope;
+		final String scopeName;
+		final String query;
+		final int hash;
+
+		Key(Scope scope, String scopeName, String query) {
+			this.scope = scope;
+			this.scopeName = scopeName;
+			this.query = query;
+			this.hash = (scope.hashCode() * 31 + Objects.hashCode(scopeName)) * 31 + query.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return scope == other.scope && Objects.equals(scopeName, other.scopeName) && query.equals(other.query);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T cached(Key key, Supplier<? extends T> compute) {
+		long seen;
+		synchronized (this) {
+			Object value = entries.get(key);
+			if (value != null) {
+				hits.increment();
+				return (T) value;
+			}
+			seen = generation;
+		}
+		misses.increment();
+		// computed outside the lock, two misses on the same key may both compute
+		T value = compute.get();
+		if (value == null)
+			return null;
+		synchronized (this) {
+			if (generation == seen && entries.putIfAbsent(key, value) == null) {
+				tags(key).add(key);
+				if (entries.size() > maxEntries)
+					evictEldest();
+			}
+		}
+		return value;
+	}
+
+	private Set<Key> tags(Key key) {
+		switch (key.scope) {
+		case COUNTRY:
+			return byCountry.computeIfAbsent(key.scopeName, name -> new HashSet<>());
+		case CONTINENT:
+			return byContinent.computeIfAbsent(key.scopeName, name -> new HashSet<>());
+		case COUNTRIES:
+			return byCountries;
+		default:
+			return byWorld;
+		}
+	}
+
+	// guarded by this
+	private void evictEldest() {
+		Key eldest = entries.keySet().iterator().next();
+		entries.remove(eldest);
+		untag(eldest);
+		evictions.increment();
+	}
+
+	private void untag(Key key) {
+		Set<Key> tagged = tags(key);
+		tagged.remove(key);
+		if (tagged.isEmpty() && key.scope == Scope.COUNTRY)
+			byCountry.remove(key.scopeName);
+		else if (tagged.isEmpty() && key.scope == Scope.CONTINENT)
+			byContinent.remove(key.scopeName);
+	}
+
+	private void cityChanged(City previous, City current) {
+		citiesChanged(Collections.singletonList(previous), Collections.singletonList(current));
+	}
+
+	// one invalidation for everything a batch touched, nulls are skipped
+	private void citiesChanged(Collection<? extends City> previous, Collection<? extends City> current) {
+		Set<String> codes = new HashSet<>();
+		for (Collection<? extends City> cities : List.of(previous, current))
+			for (City city : cities)
+				if (city != null)
+					codes.add(city.getCountryCode());
+		// read before the lock, findCountryByCode is a plain map lookup on every dao
+		Set<String> continents = new HashSet<>();
+		for (String code : codes) {
+			Country country = code == null ? null : delegate.findCountryByCode(code);
+			if (country != null)
+				continents.add(country.getContinent());
+		}
+		invalidate(codes, continents, false);
+	}
+
+	private void countryChanged(Country previous, Country current) {
+		countriesChanged(Collections.singletonList(previous), Collections.singletonList(current));
+	}
+
+	private void countriesChanged(Collection<? extends Country> previous, Collection<? extends Country> current) {
+		Set<String> codes = new HashSet<>();
+		Set<String> continents = new HashSet<>();
+		for (Collection<? extends Country> countries : List.of(previous, current)) {
+			for (Country country : countries) {
+				if (country != null) {
+					codes.add(country.getCode());
+					continents.add(country.getContinent());
+				}
+			}
+		}
+		invalidate(codes, continents, true);
+	}
+
+	private synchronized void invalidate(Set<String> codes, Set<String> continents, boolean countries) {
+		generation++;
+		for (String code : codes)
+			drop(byCountry.remove(code));
+		for (String continent : continents)
+			drop(byContinent.remove(continent));
+		if (countries) {
+			drop(byCountries);
+			byCountries.clear();
+		}
+		drop(byWorld);
+		byWorld.clear();
+	}
+
+	private void drop(Iterable<Key> keys) {
+		if (keys == null)
+			return;
+		for (Key key : keys) {
+			if (entries.remove(key) != null)
+				invalidations.increment();
+		}
+	}
+}
@@ -1,8 +1,21 @@
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
 public class City {
+	private static final AtomicLongFieldUpdater<City> ENTRY_VERSION = AtomicLongFieldUpdater.newUpdater(City.class,
+			"entryVersion");
+
 	private int id;
 	private String name;
 	private int population;
+	// the code table's instance once a country with this code is known, see CodeTable
 	private String countryCode;
+	// its ordinal in CodeTable.COUNTRY_CODES, -1 for no code or one no country registered yet
+	private int countryOrdinal = -1;
+	// degrees, float is good to about 2 m; NaN for a city with no known location
+	private float latitude = Float.NaN;
+	private float longitude = Float.NaN;
+	// set once, by the InMemoryWorldDao that stores this instance; 0 for one never stored
+	private volatile long entryVersion;
 
 	public City()  // default const.
 	{
@@ -14,7 +27,13 @@ public class City {
 		this.id = id;
 		this.name = name;
 		this.population = population;
-		this.countryCode = countryCode;
+		setCountryCode(countryCode);
+	}
+
+	public City(int id, String name, String countryCode, int population, double latitude, double longitude) {
+		this(id, name, countryCode, population);
+		this.latitude = (float) latitude;
+		this.longitude = (float) longitude;
 	}
 
 	public int getId() {                       // gettersssss  && Settersss
@@ -41,12 +60,71 @@ public class City {
 		this.population = population;
 	}
 
+	// cities of a known country all hand out the same String instance
 	public String getCountryCode() {
 		return countryCode;
 	}
 
 	public void setCountryCode(String countryCode) {
-		this.countryCode = countryCode;
+		int ordinal = countryCode == null ? -1 : CodeTable.COUNTRY_CODES.find(countryCode);
+		this.countryCode = ordinal < 0 ? countryCode : CodeTable.COUNTRY_CODES.name(ordinal);
+		this.countryOrdinal = ordinal;
+	}
+
+	// equal codes have equal ordinals, and the same ordinal as Country.getCodeOrdinal(); -1 for an unknown code
+	public int getCountryOrdinal() {
+		int ordinal = countryOrdinal;
+		if (ordinal < 0 && countryCode != null) {
+			// its country may have been registered since
+			ordinal = CodeTable.COUNTRY_CODES.find(countryCode);
+			if (ordinal >= 0)
+				countryOrdinal = ordinal;
+		}
+		return ordinal;
+	}
+
+	public double getLatitude() {
+		return latitude;
+	}
+
+	public void setLatitude(double latitude) {
+		this.latitude = (float) latitude;
+	}
+
+	public double getLongitude() {
+		return longitude;
+	}
+
+	public void setLongitude(double longitude) {
+		this.longitude = (float) longitude;
+	}
+
+	public boolean hasLocation() {
+		return !Float.isNaN(latitude) && !Float.isNaN(longitude);
+	}
+
+	long getEntryVersion() {
+		return entryVersion;
+	}
+
+	/*
+	 * This city stamped with version, or a stamped copy when this instance was stored
+	 * before: a version is never reused, so one stored twice (removed and added back,
+	 * updated with itself) does not look like the entry it was the first time.
+	 */
+	City asEntry(long version) {
+		if (ENTRY_VERSION.compareAndSet(this, 0, version))
+			return this;
+		City copy = new City();
+		copy.id = id;
+		copy.name = name;
+		copy.population = population;
+		copy.countryCode = countryCode;
+		copy.countryOrdinal = countryOrdinal;
+		copy.latitude = latitude;
+		copy.longitude = longitude;
+		copy.entryVersion = version;
+		return copy;
 	}
 
 	@Override
@@ -80,6 +158,6 @@ public class City {
 //	};
 	@Override
 	public String toString() {
-		return  name + ", "+ population + ", " + countryCode;
+		return  name + ", "+ population + ", " + getCountryCode();
 	};
 }
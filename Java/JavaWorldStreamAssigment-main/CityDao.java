@@ -1,6 +1,12 @@
 
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 public interface CityDao {
@@ -8,11 +14,114 @@ public interface CityDao {
 
 	City removeCity(City city);
 
+	// null when added, otherwise the city already stored under its id, left in place
 	City addCity(City city);
 
 	City updateCity(City city);
 
+	/*
+	 * Compare and set: stores replacement only while the dao still holds the city the
+	 * caller read as expected, and tells whether it did. A read-modify-write loop on
+	 * it never loses a concurrent update. This default is not atomic and compares as
+	 * sameEntry does; InMemoryWorldDao's is, and compares entry versions.
+	 */
+	default boolean updateCity(City expected, City replacement) {
+		if (expected.getId() != replacement.getId())
+			throw new IllegalArgumentException("expected and replacement must have the same id");
+		City current = findCityById(expected.getId());
+		if (current == null || !sameEntry(current, expected))
+			return false;
+		updateCity(replacement);
+		return true;
+	}
+
+	// by entry version when an InMemoryWorldDao stored current, by fields for cities of other daos
+	static boolean sameEntry(City current, City expected) {
+		if (current.getEntryVersion() != 0)
+			return current.getEntryVersion() == expected.getEntryVersion();
+		return current == expected || sameFields(current, expected);
+	}
+
+	// the location by its float bits, so two cities without one (NaN) compare equal
+	static boolean sameFields(City a, City b) {
+		return a.getId() == b.getId() && a.getPopulation() == b.getPopulation()
+				&& Objects.equals(a.getName(), b.getName()) && Objects.equals(a.getCountryCode(), b.getCountryCode())
+				&& Float.floatToIntBits((float) a.getLatitude()) == Float.floatToIntBits((float) b.getLatitude())
+				&& Float.floatToIntBits((float) a.getLongitude()) == Float.floatToIntBits((float) b.getLongitude());
+	}
+
+	// a copy, stable while the dao keeps changing
 	List<City> findAllCities();
 
+	// read-only, never the dao's own list
 	List<City> findCitiesByCountryCode(String countryCode);
+
+	/*
+	 * Batch versions of addCity / updateCity / removeCity, one result per city in
+	 * iteration order: what the single call would have returned. These defaults just
+	 * loop; InMemoryWorldDao applies a batch as one atomic change.
+	 */
+	default List<City> addCities(Collection<? extends City> cities) {
+		List<City> results = new ArrayList<>(cities.size());
+		for (City city : cities)
+			results.add(addCity(city));
+		return results;
+	}
+
+	default List<City> updateCities(Collection<? extends City> cities) {
+		List<City> results = new ArrayList<>(cities.size());
+		for (City city : cities)
+			results.add(updateCity(city));
+		return results;
+	}
+
+	default List<City> removeCities(Collection<? extends City> cities) {
+		List<City> results = new ArrayList<>(cities.size());
+		for (City city : cities)
+			results.add(removeCity(city));
+		return results;
+	}
+
+	// stream straight over the dao's storage where it can, no copy first
+	default Stream<City> streamCities() {
+		return findAllCities().stream();
+	}
+
+	default Stream<City> streamCitiesByCountryCode(String countryCode) {
+		return findCitiesByCountryCode(countryCode).stream();
+	}
+
+	// name search, see CityNameIndex for how names are compared; these scan every city
+	default List<City> findCitiesByNamePrefix(String prefix, int limit) {
+		return new CityNameIndex(findAllCities()).findByPrefix(prefix, limit);
+	}
+
+	// names at most maxDistance edits away, closest first
+	default List<City> findCitiesByNameFuzzy(String name, int maxDistance, int limit) {
+		return new CityNameIndex(findAllCities()).findByName(name, maxDistance, limit);
+	}
+
+	// minPopulation <= population <= maxPopulation, least populated first; this one scans and sorts
+	default List<City> findCitiesByPopulationRange(int minPopulation, int maxPopulation) {
+		return streamCities().filter(c -> c.getPopulation() >= minPopulation && c.getPopulation() <= maxPopulation)
+				.sorted(Comparator.comparingInt(City::getPopulation).thenComparingInt(City::getId))
+				.collect(Collectors.toList());
+	}
+
+	// the n most populated cities, most populated first
+	default List<City> topCities(int n) {
+		return streamCities()
+				.sorted(Comparator.comparingInt(City::getPopulation).thenComparingInt(City::getId).reversed())
+				.limit(Math.max(0, n)).collect(Collectors.toList());
+	}
+
+	// location search, see CitySpatialIndex; the k located cities closest to the point, closest first
+	default List<City> findNearest(double latitude, double longitude, int k) {
+		return new CitySpatialIndex(findAllCities()).findNearest(latitude, longitude, k);
+	}
+
+	// located cities inside the box, in no particular order; this one scans
+	default List<City> findWithin(GeoBox box) {
+		return streamCities().filter(box::contains).collect(Collectors.toList());
+	}
 }
@@ -0,0 +1,266 @@
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/*
+ * Trie over normalized city names, for autocomplete and typo tolerant lookups.
+ *
+ * Names are normalized with normalize(): accents stripped, lower case, so "sao"
+ * finds São Paulo. Every trie node keeps its children in a sorted char array and
+ * the cities whose whole name ends there. A prefix query walks down to the prefix
+ * and then depth first, so it touches little more than the limit it was asked for.
+ * A fuzzy query walks the trie carrying one row of the Levenshtein table per level
+ * and leaves a branch as soon as no name below it can be close enough.
+ *
+ * Kept current through WorldChangeListener; reads take a shared lock, changes an
+ * exclusive one.
+ */
+public class CityNameIndex implements WorldChangeListener {
+	private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+	private static final char[] NO_LABELS = new char[0];
+	private static final Node[] NO_CHILDREN = new Node[0];
+	private static final City[] NO_CITIES = new City[0];
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	// guarded by lock
+	private final Node root = new Node();
+	// where each city was filed, so a city renamed in place can still be found
+	private final Map<Integer, Node> nodeOf = new HashMap<>();
+	// length of the longest name ever filed, the depth of the trie, nodes are never pruned
+	private int longest;
+
+	public CityNameIndex() {
+	}
+
+	public CityNameIndex(Iterable<City> cities) {
+		for (City city : cities)
+			add(city);
+	}
+
+	// the form names are indexed and looked up in
+	public static String normalize(String name) {
+		if (name == null)
+			return "";
+		String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+		return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).trim();
+	}
+
+	public int size() {
+		Lock read = lock.readLock();
+		read.lock();
+		try {
+			return nodeOf.size();
+		} finally {
+			read.unlock();
+		}
+	}
+
+	// cities whose normalized name starts with the normalized prefix, in name order
+	public List<City> findByPrefix(String prefix, int limit) {
+		List<City> result = new ArrayList<>(Math.min(limit, 64));
+		if (limit <= 0)
+			return result;
+		String key = normalize(prefix);
+		Lock read = lock.readLock();
+		read.lock();
+		try {
+			Node node = root;
+			for (int i = 0; i < key.length() && node != null; i++)
+				node = node.child(key.charAt(i));
+			if (node != null)
+				collect(node, result, limit);
+		} finally {
+			read.unlock();
+		}
+		return result;
+	}
+
+	/*
+	 * Cities whose normalized name is at most maxDistance edits (insert, delete,
+	 * substitute one char) away from the normalized name, closest first and then
+	 * in name order.
+	 */
+	public List<City> findByName(String name, int maxDistance, int limit) {
+		List<City> result = new ArrayList<>();
+		if (limit <= 0 || maxDistance < 0)
+			return result;
+		char[] key = normalize(name).toCharArray();
+		int[] firstRow = new int[key.length + 1];
+		for (int i = 0; i <= key.length; i++)
+			firstRow[i] = i;
+
+		Lock read = lock.readLock();
+		read.lock();
+		try {
+			// no two names are further apart than the longer one is long
+			maxDistance = Math.min(maxDistance, Math.max(key.length, longest));
+			// one bucket of nodes per distance, so the closest come first however the trie is walked
+			List<List<Node>> byDistance = new ArrayList<>(maxDistance + 1);
+			for (int d = 0; d <= maxDistance; d++)
+				byDistance.add(new ArrayList<>());
+			if (root.count > 0 && key.length <= maxDistance)
+				byDistance.get(key.length).add(root);
+			for (int c = 0; c < root.labels.length; c++)
+				fuzzy(root.children[c], root.labels[c], key, firstRow, maxDistance, byDistance);
+			for (List<Node> nodes : byDistance) {
+				for (Node node : nodes) {
+					for (int i = 0; i < node.count && result.size() < limit; i++)
+						result.add(node.cities[i]);
+					if (result.size() >= limit)
+						return result;
+				}
+			}
+		} finally {
+			read.unlock();
+		}
+		return result;
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// WorldChangeListener
+
+	@Override
+	public void cityAdded(City city) {
+		add(city);
+	}
+
+	@Override
+	public void cityUpdated(City previous, City current) {
+		Lock write = lock.writeLock();
+		write.lock();
+		try {
+			removeLocked(previous.getId());
+			addLocked(current);
+		} finally {
+			write.unlock();
+		}
+	}
+
+	@Override
+	public void cityRemoved(City city) {
+		Lock write = lock.writeLock();
+		write.lock();
+		try {
+			removeLocked(city.getId());
+		} finally {
+			write.unlock();
+		}
+	}
+
+	public void add(City city) {
+		Lock write = lock.writeLock();
+		write.lock();
+		try {
+			removeLocked(city.getId());
+			addLocked(city);
+		} finally {
+			write.unlock();
+		}
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	private void addLocked(City city) {
+		String key = normalize(city.getName());
+		Node node = root;
+		for (int i = 0; i < key.length(); i++)
+			node = node.childOrCreate(key.charAt(i));
+		node.addCity(city);
+		nodeOf.put(city.getId(), node);
+		longest = Math.max(longest, key.length());
+	}
+
+	private void removeLocked(int id) {
+		Node node = nodeOf.remove(id);
+		if (node != null)
+			node.removeCity(id);
+		// empty nodes are left in place, a churning dataset keeps reusing the same names
+	}
+
+	// depth first in label order, so the result comes out in name order
+	private static boolean collect(Node node, List<City> result, int limit) {
+		for (int i = 0; i < node.count; i++) {
+			result.add(node.cities[i]);
+			if (result.size() >= limit)
+				return true;
+		}
+		for (Node child : node.children)
+			if (collect(child, result, limit))
+				return true;
+		return false;
+	}
+
+	private static void fuzzy(Node node, char label, char[] key, int[] previousRow, int maxDistance,
+			List<List<Node>> byDistance) {
+		int[] row = new int[key.length + 1];
+		row[0] = previousRow[0] + 1;
+		int best = row[0];
+		for (int i = 1; i <= key.length; i++) {
+			int substitute = previousRow[i - 1] + (key[i - 1] == label ? 0 : 1);
+			row[i] = Math.min(substitute, Math.min(row[i - 1] + 1, previousRow[i] + 1));
+			best = Math.min(best, row[i]);
+		}
+		if (node.count > 0 && row[key.length] <= maxDistance)
+			byDistance.get(row[key.length]).add(node);
+		// every name further down is at least best edits away
+		if (best > maxDistance)
+			return;
+		for (int c = 0; c < node.labels.length; c++)
+			fuzzy(node.children[c], node.labels[c], key, row, maxDistance, byDistance);
+	}
+
+	private static final class Node {
+		char[] labels = NO_LABELS;
+		Node[] children = NO_CHILDREN;
+		City[] cities = NO_CITIES;
+		int count;
+
+		Node child(char label) {
+			int at = Arrays.binarySearch(labels, label);
+			return at < 0 ? null : children[at];
+		}
+
+		Node childOrCreate(char label) {
+			int at = Arrays.binarySearch(labels, label);
+			if (at >= 0)
+				return children[at];
+			at = -at - 1;
+			Node child = new Node();
+			char[] newLabels = new char[labels.length + 1];
+			Node[] newChildren = new Node[children.length + 1];
+			System.arraycopy(labels, 0, newLabels, 0, at);
+			System.arraycopy(children, 0, newChildren, 0, at);
+			newLabels[at] = label;
+			newChildren[at] = child;
+			System.arraycopy(labels, at, newLabels, at + 1, labels.length - at);
+			System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+			labels = newLabels;
+			children = newChildren;
+			return child;
+		}
+
+		void addCity(City city) {
+			if (count == cities.length)
+				cities = Arrays.copyOf(cities, Math.max(2, count * 2));
+			cities[count++] = city;
+		}
+
+		// keeps the rest in insertion order
+		void removeCity(int id) {
+			for (int i = 0; i < count; i++) {
+				if (cities[i].getId() == id) {
+					System.arraycopy(cities, i + 1, cities, i, count - i - 1);
+					cities[--count] = null;
+					return;
+				}
+			}
+		}
+	}
+}
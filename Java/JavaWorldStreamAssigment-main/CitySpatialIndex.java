@@ -0,0 +1,426 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * Uniform latitude / longitude grid over the located cities, for nearest-N and
+ * bounding box queries. Cities without a location are not indexed.
+ *
+ * Every cell packs its points as unit vectors, three floats each, with the City
+ * next to them. Distances are compared as squared chord lengths on the unit
+ * sphere: three subtractions and multiplications per point, no trigonometry, and
+ * the same order as great circle distance. A float vector is good to well under a
+ * metre.
+ *
+ * findNearest searches a circle around the point: the cells overlapping the
+ * circle's latitude / longitude box are scanned, and the circle doubles until it
+ * holds k cities. The first radius is where k cities would be if the cities were
+ * spread evenly, so a query usually reads a handful of cells.
+ *
+ * Cells are a quarter degree: real cities cluster, and at a few million of them
+ * a whole degree holds thousands. Cells are grouped in blocks of BLOCK x BLOCK
+ * with a city count each, and the scan goes block by block: an empty block is
+ * stepped over in one go, and so is one whose nearest point is farther than the
+ * k-th city already found. A point far from everything then neither walks every
+ * empty cell nor reads every cluster the circle grows over.
+ *
+ * Kept current through WorldChangeListener; reads take a shared lock, changes an
+ * exclusive one.
+ */
+public class CitySpatialIndex implements WorldChangeListener {
+	public static final double EARTH_RADIUS_KM = 6371.0088;
+	static final double DEFAULT_CELL_DEGREES = 0.25;
+	private static final int BLOCK = 16;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final double cellDegrees;
+	private final int rows;
+	private final int columns;
+	// all guarded by lock; a cell is created on its first city
+	private final Cell[] cells;
+	private final int blockColumns;
+	private final int[] blockCounts;
+	// the cell each city was filed in, so a city moved in place can still be found
+	private final IntIndexMap cellOf = new IntIndexMap(1024);
+
+	public CitySpatialIndex() {
+		this(DEFAULT_CELL_DEGREES);
+	}
+
+	public CitySpatialIndex(Collection<City> cities) {
+		this(DEFAULT_CELL_DEGREES);
+		for (City city : cities)
+			addLocked(city);
+	}
+
+	public CitySpatialIndex(double cellDegrees) {
+		if (!(cellDegrees > 0 && cellDegrees <= 90))
+			throw new IllegalArgumentException("Cell size out of range: " + cellDegrees);
+		this.cellDegrees = cellDegrees;
+		rows = (int) Math.ceil(180 / cellDegrees);
+		columns = (int) Math.ceil(360 / cellDegrees);
+		cells = new Cell[rows * columns];
+		blockColumns = (columns + BLOCK - 1) / BLOCK;
+		blockCounts = new int[(rows + BLOCK - 1) / BLOCK * blockColumns];
+	}
+
+	public int size() {
+		Lock read = lock.readLock();
+		read.lock();
+		try {
+			return cellOf.size();
+		} finally {
+			read.unlock();
+		}
+	}
+
+	// great circle distance in km
+	public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+		double dLatitude = Math.toRadians(latitude2 - latitude1);
+		double dLongitude = Math.toRadians(longitude2 - longitude1);
+		double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2) + Math.cos(Math.toRadians(latitude1))
+				* Math.cos(Math.toRadians(latitude2)) * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+		return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+	}
+
+	// the k cities closest to the point, closest first
+	public List<City> findNearest(double latitude, double longitude, int k) {
+		checkPoint(latitude, longitude);
+		List<City> result = new ArrayList<>();
+		if (k <= 0)
+			return result;
+		double phi = Math.toRadians(latitude);
+		double lambda = Math.toRadians(longitude);
+		double x = Math.cos(phi) * Math.cos(lambda);
+		double y = Math.cos(phi) * Math.sin(lambda);
+		double z = Math.sin(phi);
+		Lock read = lock.readLock();
+		read.lock();
+		try {
+			int size = cellOf.size();
+			if (size == 0)
+				return result;
+			Nearest nearest = new Nearest(Math.min(k, size));
+			// the circle k evenly spread cities would fill, at least half a cell across
+			double radius = Math.max(Math.toRadians(cellDegrees) / 2, Math.sqrt(4.0 * k / size));
+			// once a circle held k cities the answer is no farther than its k-th
+			double bound = Double.POSITIVE_INFINITY;
+			while (true) {
+				nearest.clear();
+				boolean everything = scanCircle(latitude, longitude, radius, x, y, z, bound, nearest);
+				// full, and nothing outside the circle can be closer than the farthest one kept
+				if (everything || nearest.full() && nearest.worst() <= chordSquared(radius))
+					break;
+				if (nearest.full())
+					bound = nearest.worst();
+				radius *= 2;
+			}
+			return nearest.sorted(result);
+		} finally {
+			read.unlock();
+		}
+	}
+
+	public List<City> findWithin(GeoBox box) {
+		List<City> result = new ArrayList<>();
+		int fromRow = row(box.getMinLatitude());
+		int toRow = row(box.getMaxLatitude());
+		int fromColumn = column(box.getMinLongitude());
+		// 180 is the same meridian as -180, but as a right edge it closes the last column
+		int toColumn = box.getMaxLongitude() >= 180 ? columns - 1 : column(box.getMaxLongitude());
+		// a box crossing the antimeridian runs past the last column and wraps around
+		int span = box.crossesAntimeridian() ? toColumn + columns - fromColumn : toColumn - fromColumn;
+		Lock read = lock.readLock();
+		read.lock();
+		try {
+			for (int row = fromRow; row <= toRow; row++) {
+				for (int c = 0; c <= Math.min(span, columns - 1); c++) {
+					Cell cell = cells[row * columns + (fromColumn + c) % columns];
+					if (cell == null)
+						continue;
+					for (int i = 0; i < cell.size; i++)
+						if (box.contains(cell.cities[i]))
+							result.add(cell.cities[i]);
+				}
+			}
+		} finally {
+			read.unlock();
+		}
+		return result;
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// WorldChangeListener
+
+	@Override
+	public void cityAdded(City city) {
+		add(city);
+	}
+
+	@Override
+	public void cityUpdated(City previous, City current) {
+		Lock write = lock.writeLock();
+		write.lock();
+		try {
+			removeLocked(previous.getId());
+			addLocked(current);
+		} finally {
+			write.unlock();
+		}
+	}
+
+	@Override
+	public void cityRemoved(City city) {
+		Lock write = lock.writeLock();
+		write.lock();
+		try {
+			removeLocked(city.getId());
+		} finally {
+			write.unlock();
+		}
+	}
+
+	public void add(City city) {
+		Lock write = lock.writeLock();
+		write.lock();
+		try {
+			addLocked(city);
+		} finally {
+			write.unlock();
+		}
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	private void addLocked(City city) {
+		if (!city.hasLocation())
+			return;
+		// a second add of the same id replaces the first
+		removeLocked(city.getId());
+		int index = row(city.getLatitude()) * columns + column(city.getLongitude());
+		Cell cell = cells[index];
+		if (cell == null)
+			cells[index] = cell = new Cell();
+		cell.add(city);
+		blockCounts[block(index)]++;
+		cellOf.put(city.getId(), index);
+	}
+
+	private void removeLocked(int id) {
+		int index = cellOf.remove(id);
+		if (index >= 0) {
+			cells[index].remove(id);
+			blockCounts[block(index)]--;
+		}
+	}
+
+	/*
+	 * Offers every city in the cells under the circle's bounding box, true when that
+	 * box already is the whole globe. The box: latitude +- radius, and longitude
+	 * +- asin(sin(radius) / cos(latitude)), all longitudes once a pole is inside.
+	 */
+	private boolean scanCircle(double latitude, double longitude, double radius, double x, double y, double z,
+			double bound, Nearest nearest) {
+		double degrees = Math.toDegrees(radius);
+		double minLatitude = latitude - degrees;
+		double maxLatitude = latitude + degrees;
+		int fromColumn = 0;
+		int span = columns - 1;
+		boolean allLongitudes = minLatitude <= -90 || maxLatitude >= 90;
+		if (!allLongitudes) {
+			double halfWidth = Math.toDegrees(Math.asin(Math.sin(radius) / Math.cos(Math.toRadians(latitude))));
+			// NaN when the circle is wider than the parallel it sits on
+			if (halfWidth < 180 - cellDegrees) {
+				fromColumn = column(longitude - halfWidth);
+				span = Math.min(columns - 1, Math.floorMod(column(longitude + halfWidth) - fromColumn, columns));
+			} else {
+				allLongitudes = true;
+			}
+		}
+		int fromRow = row(Math.max(-90, minLatitude));
+		int toRow = row(Math.min(90, maxLatitude));
+		for (int blockRow = fromRow / BLOCK; blockRow <= toRow / BLOCK; blockRow++) {
+			int firstRow = Math.max(fromRow, blockRow * BLOCK);
+			int lastRow = Math.min(toRow, blockRow * BLOCK + BLOCK - 1);
+			// the columns of the box that fall in one block at a time
+			for (int c = 0; c <= span;) {
+				int column = (fromColumn + c) % columns;
+				int run = Math.min(span - c + 1, Math.min(BLOCK - column % BLOCK, columns - column));
+				c += run;
+				int blockColumn = column / BLOCK;
+				if (blockCounts[blockRow * blockColumns + blockColumn] == 0)
+					continue;
+				double limit = nearest.full() ? Math.min(bound, nearest.worst()) : bound;
+				if (limit < Double.POSITIVE_INFINITY && closest(blockRow, blockColumn, x, y, z) > limit)
+					continue;
+				for (int row = firstRow; row <= lastRow; row++)
+					for (int at = row * columns + column, end = at + run; at < end; at++)
+						if (cells[at] != null)
+							cells[at].offer(x, y, z, nearest);
+			}
+		}
+		return allLongitudes && fromRow == 0 && toRow == rows - 1;
+	}
+
+	private int block(int index) {
+		return index / columns / BLOCK * blockColumns + index % columns / BLOCK;
+	}
+
+	// squared chord from the point to the nearest place the block could hold a city
+	private double closest(int blockRow, int blockColumn, double x, double y, double z) {
+		double south = Math.toRadians(-90 + blockRow * BLOCK * cellDegrees);
+		double north = Math.min(Math.PI / 2, south + Math.toRadians(BLOCK * cellDegrees));
+		double west = Math.toRadians(-180 + blockColumn * BLOCK * cellDegrees);
+		double east = Math.min(Math.PI, west + Math.toRadians(BLOCK * cellDegrees));
+		double phi = (south + north) / 2;
+		double lambda = (west + east) / 2;
+		// from the centre to the farthest corner, a little over so float rounding cannot matter
+		double radius = Math.max(angle(phi, south, (east - west) / 2), angle(phi, north, (east - west) / 2)) + 1e-6;
+		double dot = x * Math.cos(phi) * Math.cos(lambda) + y * Math.cos(phi) * Math.sin(lambda) + z * Math.sin(phi);
+		return chordSquared(Math.max(0, Math.acos(Math.max(-1, Math.min(1, dot))) - radius));
+	}
+
+	private int row(double latitude) {
+		return Math.min(rows - 1, Math.max(0, (int) ((latitude + 90) / cellDegrees)));
+	}
+
+	// longitudes outside [-180, 180) wrap around
+	private int column(double longitude) {
+		return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), columns);
+	}
+
+	// between (latitude1, 0) and (latitude2, dLongitude), in radians, by haversine
+	private static double angle(double latitude1, double latitude2, double dLongitude) {
+		double a = Math.sin((latitude2 - latitude1) / 2) * Math.sin((latitude2 - latitude1) / 2)
+				+ Math.cos(latitude1) * Math.cos(latitude2) * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+		return 2 * Math.asin(Math.min(1, Math.sqrt(a)));
+	}
+
+	// squared chord of an angle on the unit sphere, for comparing against the points' chords
+	private static double chordSquared(double radians) {
+		if (radians >= Math.PI)
+			return 4;
+		double half = Math.sin(radians / 2);
+		return 4 * half * half;
+	}
+
+	private static void checkPoint(double latitude, double longitude) {
+		if (!(latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180))
+			throw new IllegalArgumentException("Not a point: " + latitude + ", " + longitude);
+	}
+
+	private static final class Cell {
+		float[] points = new float[3 * 4];
+		City[] cities = new City[4];
+		int size;
+
+		void add(City city) {
+			if (size == cities.length) {
+				cities = Arrays.copyOf(cities, size * 2);
+				points = Arrays.copyOf(points, 3 * size * 2);
+			}
+			double phi = Math.toRadians(city.getLatitude());
+			double lambda = Math.toRadians(city.getLongitude());
+			points[3 * size] = (float) (Math.cos(phi) * Math.cos(lambda));
+			points[3 * size + 1] = (float) (Math.cos(phi) * Math.sin(lambda));
+			points[3 * size + 2] = (float) Math.sin(phi);
+			cities[size++] = city;
+		}
+
+		// the last city takes the removed one's place
+		void remove(int id) {
+			for (int i = 0; i < size; i++) {
+				if (cities[i].getId() != id)
+					continue;
+				size--;
+				cities[i] = cities[size];
+				System.arraycopy(points, 3 * size, points, 3 * i, 3);
+				cities[size] = null;
+				return;
+			}
+		}
+
+		void offer(double x, double y, double z, Nearest nearest) {
+			for (int i = 0; i < size; i++) {
+				double dx = x - points[3 * i];
+				double dy = y - points[3 * i + 1];
+				double dz = z - points[3 * i + 2];
+				nearest.offer(dx * dx + dy * dy + dz * dz, cities[i]);
+			}
+		}
+	}
+
+	// the k closest offered so far, a max heap on distance so the farthest is replaced first
+	private static final class Nearest {
+		private final double[] distances;
+		private final City[] cities;
+		private int size;
+
+		Nearest(int k) {
+			distances = new double[k];
+			cities = new City[k];
+		}
+
+		void clear() {
+			size = 0;
+		}
+
+		boolean full() {
+			return size == distances.length;
+		}
+
+		double worst() {
+			return distances[0];
+		}
+
+		void offer(double distance, City city) {
+			if (size < distances.length) {
+				int at = size++;
+				while (at > 0 && distances[(at - 1) / 2] < distance) {
+					distances[at] = distances[(at - 1) / 2];
+					cities[at] = cities[(at - 1) / 2];
+					at = (at - 1) / 2;
+				}
+				distances[at] = distance;
+				cities[at] = city;
+			} else if (distance < distances[0]) {
+				siftDown(distance, city);
+			}
+		}
+
+		// replaces the root and restores the heap
+		private void siftDown(double distance, City city) {
+			int at = 0;
+			while (true) {
+				int child = 2 * at + 1;
+				if (child >= size)
+					break;
+				if (child + 1 < size && distances[child + 1] > distances[child])
+					child++;
+				if (distances[child] <= distance)
+					break;
+				distances[at] = distances[child];
+				cities[at] = cities[child];
+				at = child;
+			}
+			distances[at] = distance;
+			cities[at] = city;
+		}
+
+		// drains the heap, closest first
+		List<City> sorted(List<City> result) {
+			City[] ordered = new City[size];
+			for (int i = size - 1; i >= 0; i--) {
+				ordered[i] = cities[0];
+				size--;
+				if (size > 0)
+					siftDown(distances[size], cities[size]);
+			}
+			result.addAll(Arrays.asList(ordered));
+			return result;
+		}
+	}
+}
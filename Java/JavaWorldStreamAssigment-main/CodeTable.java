@@ -0,0 +1,59 @@
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Dictionary of small strings (country codes, continents) to dense int ordinals.
+ * Ordinals are handed out in first-seen order and never reused, so an ordinal
+ * stored anywhere stays valid for the life of the table.
+ *
+ * The process wide tables never shrink, so only known countries go in: ordinal()
+ * is called for the countries the loaders read and the ones a dao takes in (see
+ * Country.registerCodes). City and Country themselves only find(), a code that
+ * just passes through (a shard request, a log record, a throwaway object) leaves
+ * no trace here.
+ */
+public final class CodeTable {
+	// the ordinals City and Country compare by, one per process so ordinals compare across daos
+	public static final CodeTable COUNTRY_CODES = new CodeTable();
+	public static final CodeTable CONTINENTS = new CodeTable();
+
+	private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+	private volatile String[] names = new String[16];
+	private volatile int size;
+
+	public int ordinal(String name) {
+		Integer ordinal = ordinals.get(name);
+		if (ordinal != null)
+			return ordinal;
+		synchronized (this) {
+			ordinal = ordinals.get(name);
+			if (ordinal != null)
+				return ordinal;
+			int next = size;
+			if (next == names.length)
+				names = Arrays.copyOf(names, next * 2);
+			names[next] = name;
+			// size is published after the name, name(next) never sees a null slot
+			size = next + 1;
+			ordinals.put(name, next);
+			return next;
+		}
+	}
+
+	// -1 when the name was never added
+	public int find(String name) {
+		Integer ordinal = ordinals.get(name);
+		return ordinal == null ? -1 : ordinal;
+	}
+
+	public String name(int ordinal) {
+		if (ordinal < 0 || ordinal >= size)
+			throw new IndexOutOfBoundsException("No code with ordinal " + ordinal);
+		return names[ordinal];
+	}
+
+	public int size() {
+		return size;
+	}
+}
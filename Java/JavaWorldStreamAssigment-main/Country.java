@@ -1,30 +1,35 @@
 
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 
 
 public class Country {
+	// ordinals in CodeTable.COUNTRY_CODES and CodeTable.CONTINENTS, -1 for none or not registered yet
 	private String code;
+	private int codeOrdinal = -1;
 	private String name;
 	private String continent;
+	private int continentOrdinal = -1;
 	private double surfaceArea;
 	private int population;
 	private double gnp;
 	private int capital;
+	// the holding dao's cities by country code, as lists it never changes afterwards; null while no dao holds this country
+	private Function<String, List<City>> cityIndex;
+	// taken from cityIndex by the first getCities(), dropped when the dao changes this country's cities
 	private List<City> cities;
-	{
-		cities = new ArrayList<>();
-	}
 
 	public Country() {
 	}
 
 	public Country(String code, String name, String continent, int population,
 			double surfaceArea, double gnp, int capital) {
-		this.code = code;
+		setCode(code);
 		this.name = name;
-		this.continent = continent;
+		setContinent(continent);
 		this.surfaceArea = surfaceArea;
 		this.population = population;
 		this.capital = capital;
@@ -36,7 +41,31 @@ public class Country {
 	}
 
 	public void setCode(String code) {
-		this.code = code;
+		codeOrdinal = code == null ? -1 : CodeTable.COUNTRY_CODES.find(code);
+		this.code = codeOrdinal < 0 ? code : CodeTable.COUNTRY_CODES.name(codeOrdinal);
+	}
+
+	// same ordinal as City.getCountryOrdinal() for the cities of this country, -1 until registered
+	public int getCodeOrdinal() {
+		int ordinal = codeOrdinal;
+		if (ordinal < 0 && code != null && (ordinal = CodeTable.COUNTRY_CODES.find(code)) >= 0)
+			codeOrdinal = ordinal;
+		return ordinal;
+	}
+
+	/*
+	 * Adds the code and continent to the process wide code tables. The loaders and the
+	 * daos call it for the countries they take in; nothing else grows the tables.
+	 */
+	void registerCodes() {
+		if (code != null) {
+			codeOrdinal = CodeTable.COUNTRY_CODES.ordinal(code);
+			code = CodeTable.COUNTRY_CODES.name(codeOrdinal);
+		}
+		if (continent != null) {
+			continentOrdinal = CodeTable.CONTINENTS.ordinal(continent);
+			continent = CodeTable.CONTINENTS.name(continentOrdinal);
+		}
 	}
 
 	public String getName() {
@@ -47,12 +76,21 @@ public class Country {
 		this.name = name;
 	}
 
+	// one shared String instance per registered continent, so equals is settled by the identity check
 	public String getContinent() {
 		return continent;
 	}
 
 	public void setContinent(String continent) {
-		this.continent = continent;
+		continentOrdinal = continent == null ? -1 : CodeTable.CONTINENTS.find(continent);
+		this.continent = continentOrdinal < 0 ? continent : CodeTable.CONTINENTS.name(continentOrdinal);
+	}
+
+	public int getContinentOrdinal() {
+		int ordinal = continentOrdinal;
+		if (ordinal < 0 && continent != null && (ordinal = CodeTable.CONTINENTS.find(continent)) >= 0)
+			continentOrdinal = ordinal;
+		return ordinal;
 	}
 
 	public double getSurfaceArea() {
@@ -87,15 +125,48 @@ public class Country {
 		return population;
 	}
 
-	public List<City> getCities() {
+	// read-only, the cities the holding dao has for this code right now; empty when no dao holds it
+	public synchronized List<City> getCities() {
+		if (cities == null) {
+			List<City> indexed = cityIndex == null || code == null ? null : cityIndex.apply(code);
+			// not copied: a list that is already unmodifiable, like WorldSnapshot's, comes back as it is
+			cities = indexed == null || indexed.isEmpty() ? Collections.emptyList()
+					: Collections.unmodifiableList(indexed);
+		}
 		return cities;
 	}
 
+	// the dao calls these after changing its index, so a copy is never taken from an index older than the drop
+	synchronized void bindCities(Function<String, List<City>> cityIndex) {
+		this.cityIndex = cityIndex;
+		cities = null;
+	}
+
+	synchronized void invalidateCities() {
+		cities = null;
+	}
+
+	// the same fields, with getCities() answered from cityIndex; for views that must not follow the dao
+	Country copyBoundTo(Function<String, List<City>> cityIndex) {
+		Country copy = new Country();
+		copy.code = code;
+		copy.codeOrdinal = codeOrdinal;
+		copy.name = name;
+		copy.continent = continent;
+		copy.continentOrdinal = continentOrdinal;
+		copy.surfaceArea = surfaceArea;
+		copy.population = population;
+		copy.gnp = gnp;
+		copy.capital = capital;
+		copy.cityIndex = cityIndex;
+		return copy;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + ((code == null) ? 0 : code.hashCode());
+		result = prime * result + Objects.hashCode(code);
 		return result;
 	}
 
@@ -108,12 +179,7 @@ public class Country {
 		if (getClass() != obj.getClass())
 			return false;
 		Country other = (Country) obj;
-		if (code == null) {
-			if (other.code != null)
-				return false;
-		} else if (!code.equals(other.code))
-			return false;
-		return true;
+		return Objects.equals(code, other.code);
 	}
 
 //	@Override
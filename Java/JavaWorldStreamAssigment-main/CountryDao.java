@@ -1,7 +1,10 @@
 
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 
 
@@ -15,9 +18,41 @@ public interface CountryDao {
 
 	Country updateCountry(Country country);
 
+	// a copy, stable while the dao keeps changing
 	List<Country> findAllCountries();
 
 	List<Country> findCountriesByContinent(String continent);
 
 	Set<String> getAllContinents();
+
+	// batch versions, see CityDao.addCities
+	default List<Country> addCountries(Collection<? extends Country> countries) {
+		List<Country> results = new ArrayList<>(countries.size());
+		for (Country country : countries)
+			results.add(addCountry(country));
+		return results;
+	}
+
+	default List<Country> updateCountries(Collection<? extends Country> countries) {
+		List<Country> results = new ArrayList<>(countries.size());
+		for (Country country : countries)
+			results.add(updateCountry(country));
+		return results;
+	}
+
+	default List<Country> removeCountries(Collection<? extends Country> countries) {
+		List<Country> results = new ArrayList<>(countries.size());
+		for (Country country : countries)
+			results.add(removeCountry(country));
+		return results;
+	}
+
+	// stream straight over the dao's storage where it can, no copy first
+	default Stream<Country> streamCountries() {
+		return findAllCountries().stream();
+	}
+
+	default Stream<Country> streamCountriesByContinent(String continent) {
+		return findCountriesByContinent(continent).stream();
+	}
 }
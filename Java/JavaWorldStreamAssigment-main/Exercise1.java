@@ -29,17 +29,7 @@ public class Exercise1
    {
       CountryDao countryDao= InMemoryWorldDao.getInstance();
       //write your answer here
-      List<City> maxCitiesList=            //list of cities collection
-      countryDao.findAllCountries()   //list of countries 
-      .stream()                    // stream of countries
-      .map(Country::getCities)      //stream of list of cities (values without key)
-      .map(List::stream)            //stream of stream of cities (make operations on each group of cities in an unkown country)  // stream func no input
-      .map((streamOfCities)-> 
-                 streamOfCities.max(Comparator.comparing(City::getPopulation))  // population of ech city in certain country -> compared in table -> take max city of each country 
-      ) // Stream of Optional Max cities (due to max())
-      .filter(Optional::isPresent)   // stream of non null optional max cities
-      .map(Optional::get)            // stream of max cities
-      .collect(Collectors.toList()); // list of max cities
+      List<City> maxCitiesList= maxCityPerCountry(countryDao);
 
       for(City city : maxCitiesList)
       {
@@ -49,6 +39,21 @@ public class Exercise1
       System.out.println(maxCitiesList.size());
       
    } 
+
+   // also run by WorldStreamBenchmark
+   static List<City> maxCityPerCountry(CountryDao countryDao)
+   {
+      return                           //list of cities collection
+      countryDao.streamCountries()   // stream of countries (no copy of the country list)
+      .map(Country::getCities)      //stream of list of cities (values without key)
+      .map(List::stream)            //stream of stream of cities (make operations on each group of cities in an unkown country)  // stream func no input
+      .map((streamOfCities)-> 
+                 streamOfCities.max(Comparator.comparing(City::getPopulation))  // population of ech city in certain country -> compared in table -> take max city of each country 
+      ) // Stream of Optional Max cities (due to max())
+      .filter(Optional::isPresent)   // stream of non null optional max cities
+      .map(Optional::get)            // stream of max cities
+      .collect(Collectors.toList()); // list of max cities
+   }
 }
 // if cities then gama3 cities then compare
 // if countries already metgama3 , just compare
@@ -20,29 +20,7 @@ public class Exercise2 {
         CountryDao countryDao = InMemoryWorldDao.getInstance();
   //      write your answer here
 
-    List<City> maxCitiesList=            //list of cities collection
-    countryDao.getAllContinents()   //list of countinents
-    .stream()                      // stream of continents
-    .map(countryDao::findCountriesByContinent)      //stream of list of contries (values without key)
-    .map( (listofCountries)-> listofCountries   //list of countries 
-            .stream()                    // stream of countries
-            .map(Country::getCities)      //stream of list of cities (values without key)
-            .map(List::stream)            //stream of stream of cities (make operations on each group of cities in an unkown country)  // stream func no input
-            .map((streamOfCities)-> 
-                        { return streamOfCities.max(Comparator.comparing(City::getPopulation));}  // population of ech city in certain country -> compared in table -> take max city of each country 
-                    ) // Stream of Optional Max cities (due to max())
-            .filter(Optional::isPresent)   // stream of non null optional max cities
-            .map(Optional::get)            // stream of max cities
-            .collect(Collectors.toList())// list of max cities
-        
-        )   // stream of list of max cities
-                .map(List::stream)            //stream of stream of cities (make operations on each group of cities in an unkown country)  // stream func no input
-                .map((streamOfCities)-> 
-                        { return streamOfCities.max(Comparator.comparing(City::getPopulation));}  // population of ech city in certain country -> compared in table -> take max city of each country 
-                    ) // Stream of Optional Max cities (due to max())
-                .filter(Optional::isPresent)   // stream of non null optional max cities
-                .map(Optional::get)            // stream of max cities
-                .collect(Collectors.toList());// list of max cities
+    List<City> maxCitiesList= maxCityPerContinent(countryDao);
 
 
      for(City city : maxCitiesList)
@@ -81,4 +59,30 @@ public class Exercise2 {
 
     }
 
+    // also run by WorldStreamBenchmark
+    static List<City> maxCityPerContinent(CountryDao countryDao) {
+    return                               //list of cities collection
+    countryDao.getAllContinents()   //list of countinents
+    .stream()                      // stream of continents
+    .map( (continent)-> countryDao
+            .streamCountriesByContinent(continent)   // stream of countries (no copy of the country list)
+            .map(Country::getCities)      //stream of list of cities (values without key)
+            .map(List::stream)            //stream of stream of cities (make operations on each group of cities in an unkown country)  // stream func no input
+            .map((streamOfCities)-> 
+                        { return streamOfCities.max(Comparator.comparing(City::getPopulation));}  // population of ech city in certain country -> compared in table -> take max city of each country 
+                    ) // Stream of Optional Max cities (due to max())
+            .filter(Optional::isPresent)   // stream of non null optional max cities
+            .map(Optional::get)            // stream of max cities
+            .collect(Collectors.toList())// list of max cities
+        
+        )   // stream of list of max cities
+                .map(List::stream)            //stream of stream of cities (make operations on each group of cities in an unkown country)  // stream func no input
+                .map((streamOfCities)-> 
+                        { return streamOfCities.max(Comparator.comparing(City::getPopulation));}  // population of ech city in certain country -> compared in table -> take max city of each country 
+                    ) // Stream of Optional Max cities (due to max())
+                .filter(Optional::isPresent)   // stream of non null optional max cities
+                .map(Optional::get)            // stream of max cities
+                .collect(Collectors.toList());// list of max cities
+    }
+
 }
@@ -27,17 +27,21 @@ public class Exercise5
        // optioanl max => non null optional max => max
        // print 
        
-       City mycity=
-       countryDao.findAllCountries()
-       .stream()
+       City mycity= highestPopulatedCapital(countryDao, cityDao);
+       
+       System.out.print(mycity);
+
+    }
+
+    // also run by WorldStreamBenchmark
+    static City highestPopulatedCapital(CountryDao countryDao, CityDao cityDao) {
+       return
+       countryDao.streamCountries()
        .map(Country::getCapital)
        .map(cityDao::findCityById)
        .filter((city)-> city!=null)
        .max(comparing(City::getPopulation))
        .get();
-       
-       System.out.print(mycity);
-
     }
 
 }
\ No newline at end of file
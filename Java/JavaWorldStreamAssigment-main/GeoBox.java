@@ -0,0 +1,58 @@
+/*
+ * Latitude / longitude rectangle in degrees, edges included. A box whose
+ * minLongitude is greater than its maxLongitude crosses the antimeridian:
+ * GeoBox(-10, 170, 10, -170) is the 20 degrees of longitude around 180.
+ */
+public final class GeoBox {
+	private final double minLatitude;
+	private final double minLongitude;
+	private final double maxLatitude;
+	private final double maxLongitude;
+
+	public GeoBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+		if (!(minLatitude >= -90 && minLatitude <= maxLatitude && maxLatitude <= 90))
+			throw new IllegalArgumentException("Latitudes out of order or range: " + minLatitude + ", " + maxLatitude);
+		if (!(minLongitude >= -180 && minLongitude <= 180 && maxLongitude >= -180 && maxLongitude <= 180))
+			throw new IllegalArgumentException("Longitudes out of range: " + minLongitude + ", " + maxLongitude);
+		this.minLatitude = minLatitude;
+		this.minLongitude = minLongitude;
+		this.maxLatitude = maxLatitude;
+		this.maxLongitude = maxLongitude;
+	}
+
+	public double getMinLatitude() {
+		return minLatitude;
+	}
+
+	public double getMinLongitude() {
+		return minLongitude;
+	}
+
+	public double getMaxLatitude() {
+		return maxLatitude;
+	}
+
+	public double getMaxLongitude() {
+		return maxLongitude;
+	}
+
+	public boolean crossesAntimeridian() {
+		return minLongitude > maxLongitude;
+	}
+
+	public boolean contains(double latitude, double longitude) {
+		if (latitude < minLatitude || latitude > maxLatitude)
+			return false;
+		return crossesAntimeridian() ? longitude >= minLongitude || longitude <= maxLongitude
+				: longitude >= minLongitude && longitude <= maxLongitude;
+	}
+
+	public boolean contains(City city) {
+		return city.hasLocation() && contains(city.getLatitude(), city.getLongitude());
+	}
+
+	@Override
+	public String toString() {
+		return "GeoBox [" + minLatitude + ", " + minLongitude + " .. " + maxLatitude + ", " + maxLongitude + "]";
+	}
+}
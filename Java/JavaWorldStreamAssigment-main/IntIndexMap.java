@@ -0,0 +1,118 @@
+import java.util.Arrays;
+
+/*
+ * Open-addressing int -> int map (linear probing, backward-shift delete).
+ * Key and value sit next to each other in one int[], so a probe touches a
+ * single cache line and a resize swaps one reference. Values must be >= 0,
+ * -1 marks an empty slot, so nothing is boxed.
+ * Not thread-safe, callers guard it.
+ */
+final class IntIndexMap {
+	private static final int EMPTY = -1;
+
+	private int[] table;
+	private int size;
+
+	IntIndexMap(int expected) {
+		int slots = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+		table = newTable(slots);
+	}
+
+	// -1 when absent
+	int get(int key) {
+		int[] table = this.table;
+		int mask = (table.length >> 1) - 1;
+		// bounded so an optimistic reader racing a writer always terminates
+		for (int i = mix(key) & mask, probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+			int value = table[2 * i + 1];
+			if (value == EMPTY)
+				return EMPTY;
+			if (table[2 * i] == key)
+				return value;
+		}
+		return EMPTY;
+	}
+
+	void put(int key, int value) {
+		if ((size + 1) * 4 > table.length)
+			table = rehash(table, table.length);
+		int mask = (table.length >> 1) - 1;
+		int i = mix(key) & mask;
+		while (table[2 * i + 1] != EMPTY) {
+			if (table[2 * i] == key) {
+				table[2 * i + 1] = value;
+				return;
+			}
+			i = (i + 1) & mask;
+		}
+		table[2 * i] = key;
+		table[2 * i + 1] = value;
+		size++;
+	}
+
+	// returns the removed value or -1
+	int remove(int key) {
+		int mask = (table.length >> 1) - 1;
+		int i = mix(key) & mask;
+		while (table[2 * i + 1] != EMPTY) {
+			if (table[2 * i] == key) {
+				int removed = table[2 * i + 1];
+				shiftBack(i);
+				size--;
+				return removed;
+			}
+			i = (i + 1) & mask;
+		}
+		return EMPTY;
+	}
+
+	int size() {
+		return size;
+	}
+
+	// pulls later entries of the probe chain into the hole so get() never stops early
+	private void shiftBack(int hole) {
+		int mask = (table.length >> 1) - 1;
+		int i = hole;
+		while (true) {
+			i = (i + 1) & mask;
+			if (table[2 * i + 1] == EMPTY)
+				break;
+			int home = mix(table[2 * i]) & mask;
+			boolean movable = hole <= i ? (home <= hole || home > i) : (home <= hole && home > i);
+			if (movable) {
+				table[2 * hole] = table[2 * i];
+				table[2 * hole + 1] = table[2 * i + 1];
+				hole = i;
+			}
+		}
+		table[2 * hole + 1] = EMPTY;
+	}
+
+	// copies into a fresh table of twice the slots, the old one stays intact for readers
+	private static int[] rehash(int[] old, int oldLength) {
+		int[] table = newTable(oldLength);
+		int mask = (table.length >> 1) - 1;
+		for (int j = 0; j < old.length; j += 2) {
+			if (old[j + 1] == EMPTY)
+				continue;
+			int i = mix(old[j]) & mask;
+			while (table[2 * i + 1] != EMPTY)
+				i = (i + 1) & mask;
+			table[2 * i] = old[j];
+			table[2 * i + 1] = old[j + 1];
+		}
+		return table;
+	}
+
+	private static int[] newTable(int slots) {
+		int[] table = new int[slots * 2];
+		Arrays.fill(table, EMPTY);
+		return table;
+	}
+
+	private static int mix(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
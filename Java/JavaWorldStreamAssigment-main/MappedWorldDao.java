@@ -0,0 +1,299 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/*
+ * Read-only WorldDao served straight from a WorldSnapshotFile mapping.
+ *
+ * Opening costs a page-in of the file instead of building every City, and
+ * JVMs mapping the same file share one page-cache copy. City and Country
+ * objects are only created for the rows a caller asks for; the population
+ * queries below never create any.
+ */
+public class MappedWorldDao implements WorldDao {
+	private final MappedByteBuffer data;
+	private final WorldSnapshotFile.Layout layout;
+	// the small tables are decoded once, codes are sorted so lookups binary search them
+	private final String[] codes;
+	private final String[] continents;
+	private final Set<String> continentSet;
+	// what the Countries handed out read their cities from, a slice of the country's row range
+	private final Function<String, List<City>> cityIndex = this::findCitiesByCountryCode;
+
+	public MappedWorldDao(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE)
+				throw new IOException("Snapshot larger than 2 GB cannot be mapped: " + path);
+			data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		if (data.getInt(0) != WorldSnapshotFile.MAGIC)
+			throw new IOException("Not a world snapshot: " + path);
+		// version 1 is the same without the city locations
+		int version = data.getInt(4);
+		if (version < 1 || version > WorldSnapshotFile.VERSION)
+			throw new IOException("Unsupported snapshot version " + version + ": " + path);
+		layout = new WorldSnapshotFile.Layout(version, data.getInt(8), data.getInt(12), data.getInt(16),
+				data.getInt(20), data.getInt(24));
+		if (layout.size != data.capacity())
+			throw new IOException("Truncated snapshot: " + path);
+
+		codes = new String[layout.codeCount];
+		// the codes of the countries in the file are known codes, see CodeTable; those only cities carry stay out
+		for (int c = 0; c < codes.length; c++) {
+			codes[c] = string(intAt(layout.code, c));
+			if (intAt(layout.countryName, c) >= 0)
+				codes[c] = CodeTable.COUNTRY_CODES.name(CodeTable.COUNTRY_CODES.ordinal(codes[c]));
+		}
+		continents = new String[layout.continentCount];
+		for (int c = 0; c < continents.length; c++)
+			continents[c] = CodeTable.CONTINENTS.name(CodeTable.CONTINENTS.ordinal(string(intAt(layout.continentName, c))));
+		continentSet = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(continents)));
+	}
+
+	public int cityCount() {
+		return layout.cityCount;
+	}
+
+	@Override
+	public City findCityById(int id) {
+		int row = rowOf(id);
+		return row < 0 ? null : city(row);
+	}
+
+	@Override
+	public List<City> findAllCities() {
+		List<City> result = new ArrayList<>(layout.cityCount);
+		for (int row = 0; row < layout.cityCount; row++)
+			result.add(city(row));
+		return result;
+	}
+
+	@Override
+	public List<City> findCitiesByCountryCode(String countryCode) {
+		int code = ordinalOf(countryCode);
+		if (code < 0)
+			return new ArrayList<>();
+		int from = intAt(layout.countryCityStart, code);
+		int to = intAt(layout.countryCityStart, code + 1);
+		List<City> result = new ArrayList<>(to - from);
+		for (int row = from; row < to; row++)
+			result.add(city(row));
+		return result;
+	}
+
+	// rows are turned into City objects as the stream pulls them
+	@Override
+	public Stream<City> streamCities() {
+		return IntStream.range(0, layout.cityCount).mapToObj(this::city);
+	}
+
+	@Override
+	public Stream<City> streamCitiesByCountryCode(String countryCode) {
+		int code = ordinalOf(countryCode);
+		if (code < 0)
+			return Stream.empty();
+		return IntStream.range(intAt(layout.countryCityStart, code), intAt(layout.countryCityStart, code + 1))
+				.mapToObj(this::city);
+	}
+
+	@Override
+	public Country findCountryByCode(String code) {
+		int ordinal = ordinalOf(code);
+		return ordinal < 0 ? null : country(ordinal);
+	}
+
+	@Override
+	public List<Country> findAllCountries() {
+		List<Country> result = new ArrayList<>();
+		for (int code = 0; code < layout.codeCount; code++)
+			if (intAt(layout.countryName, code) >= 0)
+				result.add(country(code));
+		return result;
+	}
+
+	@Override
+	public List<Country> findCountriesByContinent(String continent) {
+		int ordinal = Arrays.binarySearch(continents, continent);
+		List<Country> result = new ArrayList<>();
+		if (ordinal < 0)
+			return result;
+		for (int code = 0; code < layout.codeCount; code++)
+			if (intAt(layout.countryContinent, code) == ordinal && intAt(layout.countryName, code) >= 0)
+				result.add(country(code));
+		return result;
+	}
+
+	@Override
+	public Set<String> getAllContinents() {
+		return continentSet;
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// population queries, answered from the packed columns
+
+	public City findMostPopulatedCityByCountryCode(String countryCode) {
+		int code = ordinalOf(countryCode);
+		if (code < 0)
+			return null;
+		int row = maxRow(intAt(layout.countryCityStart, code), intAt(layout.countryCityStart, code + 1), -1);
+		return row < 0 ? null : city(row);
+	}
+
+	public City findMostPopulatedCityByContinent(String continent) {
+		int ordinal = Arrays.binarySearch(continents, continent);
+		if (ordinal < 0)
+			return null;
+		int best = -1;
+		for (int code = 0; code < layout.codeCount; code++)
+			if (intAt(layout.countryContinent, code) == ordinal)
+				best = maxRow(intAt(layout.countryCityStart, code), intAt(layout.countryCityStart, code + 1), best);
+		return best < 0 ? null : city(best);
+	}
+
+	public City findMostPopulatedCapital() {
+		int best = -1;
+		for (int code = 0; code < layout.codeCount; code++) {
+			if (intAt(layout.countryName, code) < 0)
+				continue;
+			int row = rowOf(intAt(layout.countryCapital, code));
+			if (row >= 0 && (best < 0 || intAt(layout.cityPopulation, row) > intAt(layout.cityPopulation, best)))
+				best = row;
+		}
+		return best < 0 ? null : city(best);
+	}
+
+	public long sumCityPopulationByCountryCode(String countryCode) {
+		int code = ordinalOf(countryCode);
+		if (code < 0)
+			return 0;
+		long sum = 0;
+		for (int row = intAt(layout.countryCityStart, code); row < intAt(layout.countryCityStart, code + 1); row++)
+			sum += intAt(layout.cityPopulation, row);
+		return sum;
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// the snapshot is immutable
+
+	@Override
+	public City removeCity(City city) {
+		throw readOnly();
+	}
+
+	@Override
+	public City addCity(City city) {
+		throw readOnly();
+	}
+
+	@Override
+	public City updateCity(City city) {
+		throw readOnly();
+	}
+
+	@Override
+	public Country removeCountry(Country country) {
+		throw readOnly();
+	}
+
+	@Override
+	public Country addCountry(Country country) {
+		throw readOnly();
+	}
+
+	@Override
+	public Country updateCountry(Country country) {
+		throw readOnly();
+	}
+
+	private static UnsupportedOperationException readOnly() {
+		return new UnsupportedOperationException("A mapped world snapshot is read-only");
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	private int maxRow(int from, int to, int best) {
+		for (int row = from; row < to; row++)
+			if (best < 0 || intAt(layout.cityPopulation, row) > intAt(layout.cityPopulation, best))
+				best = row;
+		return best;
+	}
+
+	private int rowOf(int id) {
+		int low = 0;
+		int high = layout.cityCount - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int row = intAt(layout.cityByIdOrder, mid);
+			int midId = intAt(layout.cityId, row);
+			if (midId < id)
+				low = mid + 1;
+			else if (midId > id)
+				high = mid - 1;
+			else
+				return row;
+		}
+		return -1;
+	}
+
+	private int ordinalOf(String code) {
+		if (code == null)
+			return -1;
+		int ordinal = Arrays.binarySearch(codes, code);
+		return ordinal < 0 ? -1 : ordinal;
+	}
+
+	private City city(int row) {
+		int code = intAt(layout.cityCode, row);
+		City city = new City(intAt(layout.cityId, row), string(intAt(layout.cityName, row)),
+				code < 0 ? null : codes[code], intAt(layout.cityPopulation, row));
+		if (layout.hasLocations) {
+			city.setLatitude(floatAt(layout.cityLatitude, row));
+			city.setLongitude(floatAt(layout.cityLongitude, row));
+		}
+		return city;
+	}
+
+	private Country country(int code) {
+		int name = intAt(layout.countryName, code);
+		if (name < 0)
+			return null;
+		int continent = intAt(layout.countryContinent, code);
+		Country country = new Country(codes[code], string(name), continent < 0 ? null : continents[continent],
+				intAt(layout.countryPopulation, code), doubleAt(layout.countrySurfaceArea, code),
+				doubleAt(layout.countryGnp, code), intAt(layout.countryCapital, code));
+		country.bindCities(cityIndex);
+		return country;
+	}
+
+	private int intAt(long section, int index) {
+		return data.getInt((int) (section + 4L * index));
+	}
+
+	private float floatAt(long section, int index) {
+		return data.getFloat((int) (section + 4L * index));
+	}
+
+	private double doubleAt(long section, int index) {
+		return data.getDouble((int) (section + 8L * index));
+	}
+
+	private String string(int index) {
+		int from = intAt(layout.stringOffset, index);
+		int to = intAt(layout.stringOffset, index + 1);
+		byte[] bytes = new byte[to - from];
+		data.get((int) layout.blob + from, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,446 @@
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/*
+ * Immutable hash array mapped trie. A new version, made through a Builder, shares
+ * everything but the path to each changed key with the one it came from, so
+ * InMemoryWorldDao publishes a version per mutation for a few small array copies
+ * (O(log32 n)) instead of a copy of the dao. Reads never lock.
+ *
+ * A Builder changes the nodes it created itself in place and copies any other node
+ * it touches, so a batch pays for each shared path once, not once per key. After
+ * build() it copies again; the map it returned never changes.
+ *
+ * Keys and values must not be null. Iteration follows the key hashes.
+ */
+final class PersistentMap<K, V> extends AbstractMap<K, V> {
+	private static final int BITS = 5;
+	private static final int MASK = (1 << BITS) - 1;
+	private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+
+	private final Object root;
+	private final int size;
+	private Set<Map.Entry<K, V>> entrySet;
+	private Collection<V> values;
+
+	private PersistentMap(Object root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	@SuppressWarnings("unchecked")
+	static <K, V> PersistentMap<K, V> empty() {
+		return (PersistentMap<K, V>) EMPTY;
+	}
+
+	static <K, V> PersistentMap<K, V> of(Map<? extends K, ? extends V> map) {
+		Builder<K, V> builder = new Builder<>(empty());
+		for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+			builder.put(entry.getKey(), entry.getValue());
+		return builder.build();
+	}
+
+	Builder<K, V> toBuilder() {
+		return new Builder<>(this);
+	}
+
+	PersistentMap<K, V> with(K key, V value) {
+		return toBuilder().put(key, value).build();
+	}
+
+	PersistentMap<K, V> without(K key) {
+		return toBuilder().remove(key).build();
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		return (V) get(root, key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		Set<Map.Entry<K, V>> entries = entrySet;
+		if (entries == null) {
+			entrySet = entries = new AbstractSet<Map.Entry<K, V>>() {
+				@Override
+				public Iterator<Map.Entry<K, V>> iterator() {
+					return new Walk<Map.Entry<K, V>>(root) {
+						@Override
+						@SuppressWarnings("unchecked")
+						Map.Entry<K, V> item(Object key, Object value) {
+							return new SimpleImmutableEntry<>((K) key, (V) value);
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+			};
+		}
+		return entries;
+	}
+
+	// no entry object per value
+	@Override
+	public Collection<V> values() {
+		Collection<V> all = values;
+		if (all == null) {
+			values = all = new AbstractCollection<V>() {
+				@Override
+				public Iterator<V> iterator() {
+					return new Walk<V>(root) {
+						@Override
+						@SuppressWarnings("unchecked")
+						V item(Object key, Object value) {
+							return (V) value;
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+			};
+		}
+		return all;
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	static final class Builder<K, V> {
+		// nodes carrying this token belong to this builder and are changed in place
+		private Object edit = new Object();
+		private Object root;
+		private int size;
+		private final boolean[] changed = new boolean[1];
+
+		private Builder(PersistentMap<K, V> map) {
+			root = map.root;
+			size = map.size;
+		}
+
+		int size() {
+			return size;
+		}
+
+		@SuppressWarnings("unchecked")
+		V get(K key) {
+			return (V) PersistentMap.get(root, key);
+		}
+
+		Builder<K, V> put(K key, V value) {
+			Objects.requireNonNull(key);
+			Objects.requireNonNull(value);
+			changed[0] = root == null;
+			root = root == null ? Node.single(edit, hash(key), 0, key, value) : put(root, 0, hash(key), key, value);
+			if (changed[0])
+				size++;
+			return this;
+		}
+
+		Builder<K, V> remove(K key) {
+			if (root == null || key == null)
+				return this;
+			changed[0] = false;
+			root = remove(root, 0, hash(key), key);
+			if (changed[0])
+				size--;
+			return this;
+		}
+
+		// the builder can go on, what it changes from now on is copied first
+		PersistentMap<K, V> build() {
+			edit = new Object();
+			return size == 0 ? empty() : new PersistentMap<>(root, size);
+		}
+
+		// changed[0] is set when the key was not there before
+		private Object put(Object node, int shift, int hash, Object key, Object value) {
+			if (node instanceof Collision)
+				return ((Collision) node).put(edit, key, value, changed);
+			Node trie = (Node) node;
+			int bit = bit(hash, shift);
+			int i = trie.index(bit);
+			if ((trie.bitmap & bit) == 0) {
+				changed[0] = true;
+				return trie.insert(edit, bit, i, key, value);
+			}
+			Object k = trie.array[i];
+			Object v = trie.array[i + 1];
+			if (k == null) {
+				Object child = put(v, shift + BITS, hash, key, value);
+				return child == v ? trie : trie.set(edit, i, null, child);
+			}
+			if (key.equals(k))
+				return v == value ? trie : trie.set(edit, i, k, value);
+			changed[0] = true;
+			return trie.set(edit, i, null, pair(edit, shift + BITS, hash(k), k, v, hash, key, value));
+		}
+
+		// null once nothing is left; changed[0] is set when the key was there
+		private Object remove(Object node, int shift, int hash, Object key) {
+			if (node instanceof Collision)
+				return ((Collision) node).remove(edit, key, changed);
+			Node trie = (Node) node;
+			int bit = bit(hash, shift);
+			if ((trie.bitmap & bit) == 0)
+				return trie;
+			int i = trie.index(bit);
+			Object k = trie.array[i];
+			Object v = trie.array[i + 1];
+			if (k == null) {
+				Object child = remove(v, shift + BITS, hash, key);
+				if (child == v)
+					return trie;
+				return child == null ? trie.delete(edit, bit, i) : trie.set(edit, i, null, child);
+			}
+			if (!key.equals(k))
+				return trie;
+			changed[0] = true;
+			return trie.delete(edit, bit, i);
+		}
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	private static Object get(Object node, Object key) {
+		if (key == null || node == null)
+			return null;
+		int hash = hash(key);
+		for (int shift = 0;; shift += BITS) {
+			if (node instanceof Collision)
+				return ((Collision) node).get(key);
+			Node trie = (Node) node;
+			int bit = bit(hash, shift);
+			if ((trie.bitmap & bit) == 0)
+				return null;
+			int i = trie.index(bit);
+			Object k = trie.array[i];
+			if (k == null) {
+				node = trie.array[i + 1];
+				continue;
+			}
+			return key.equals(k) ? trie.array[i + 1] : null;
+		}
+	}
+
+	private static int hash(Object key) {
+		int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	private static int bit(int hash, int shift) {
+		return 1 << ((hash >>> shift) & MASK);
+	}
+
+	// two keys that met in one slot, pushed down until their hashes part
+	private static Object pair(Object edit, int shift, int hash1, Object key1, Object value1, int hash2, Object key2,
+			Object value2) {
+		if (shift >= Integer.SIZE)
+			return new Collision(edit, new Object[] { key1, value1, key2, value2 });
+		int bit1 = bit(hash1, shift);
+		int bit2 = bit(hash2, shift);
+		if (bit1 == bit2)
+			return new Node(edit, bit1, new Object[] { null, pair(edit, shift + BITS, hash1, key1, value1, hash2, key2, value2) });
+		// slot 31 makes a negative bit, compare unsigned
+		return Integer.compareUnsigned(bit1, bit2) < 0 ? new Node(edit, bit1 | bit2, new Object[] { key1, value1, key2, value2 })
+				: new Node(edit, bit1 | bit2, new Object[] { key2, value2, key1, value1 });
+	}
+
+	/*
+	 * One level: bitmap says which of the 32 slots are used, array holds two entries
+	 * per used slot, the key and its value, or null and the next level down.
+	 */
+	private static final class Node {
+		final Object edit;
+		int bitmap;
+		Object[] array;
+
+		Node(Object edit, int bitmap, Object[] array) {
+			this.edit = edit;
+			this.bitmap = bitmap;
+			this.array = array;
+		}
+
+		static Node single(Object edit, int hash, int shift, Object key, Object value) {
+			return new Node(edit, bit(hash, shift), new Object[] { key, value });
+		}
+
+		int index(int bit) {
+			return 2 * Integer.bitCount(bitmap & (bit - 1));
+		}
+
+		private Node editable(Object edit) {
+			return this.edit == edit ? this : new Node(edit, bitmap, array.clone());
+		}
+
+		Node set(Object edit, int i, Object key, Object value) {
+			Node node = editable(edit);
+			node.array[i] = key;
+			node.array[i + 1] = value;
+			return node;
+		}
+
+		Node insert(Object edit, int bit, int i, Object key, Object value) {
+			Object[] grown = new Object[array.length + 2];
+			System.arraycopy(array, 0, grown, 0, i);
+			grown[i] = key;
+			grown[i + 1] = value;
+			System.arraycopy(array, i, grown, i + 2, array.length - i);
+			Node node = this.edit == edit ? this : new Node(edit, bitmap, null);
+			node.bitmap |= bit;
+			node.array = grown;
+			return node;
+		}
+
+		// null when it was the last slot
+		Node delete(Object edit, int bit, int i) {
+			if (bitmap == bit)
+				return null;
+			Object[] shrunk = new Object[array.length - 2];
+			System.arraycopy(array, 0, shrunk, 0, i);
+			System.arraycopy(array, i + 2, shrunk, i, array.length - i - 2);
+			Node node = this.edit == edit ? this : new Node(edit, bitmap, null);
+			node.bitmap &= ~bit;
+			node.array = shrunk;
+			return node;
+		}
+	}
+
+	// keys whose whole hash is equal, searched linearly
+	private static final class Collision {
+		final Object edit;
+		Object[] array;
+
+		Collision(Object edit, Object[] array) {
+			this.edit = edit;
+			this.array = array;
+		}
+
+		Object get(Object key) {
+			for (int i = 0; i < array.length; i += 2)
+				if (key.equals(array[i]))
+					return array[i + 1];
+			return null;
+		}
+
+		Collision put(Object edit, Object key, Object value, boolean[] added) {
+			Object[] entries = array;
+			Collision node = this.edit == edit ? this : new Collision(edit, entries);
+			for (int i = 0; i < entries.length; i += 2) {
+				if (key.equals(entries[i])) {
+					if (entries[i + 1] == value)
+						return this;
+					node.array = entries.clone();
+					node.array[i + 1] = value;
+					return node;
+				}
+			}
+			added[0] = true;
+			node.array = Arrays.copyOf(entries, entries.length + 2);
+			node.array[entries.length] = key;
+			node.array[entries.length + 1] = value;
+			return node;
+		}
+
+		Collision remove(Object edit, Object key, boolean[] removed) {
+			for (int i = 0; i < array.length; i += 2) {
+				if (key.equals(array[i])) {
+					removed[0] = true;
+					if (array.length == 2)
+						return null;
+					Collision node = this.edit == edit ? this : new Collision(edit, null);
+					Object[] shrunk = new Object[array.length - 2];
+					System.arraycopy(array, 0, shrunk, 0, i);
+					System.arraycopy(array, i + 2, shrunk, i, array.length - i - 2);
+					node.array = shrunk;
+					return node;
+				}
+			}
+			return this;
+		}
+	}
+
+	// depth first over the levels, a stack of arrays and positions instead of recursion
+	private abstract static class Walk<T> implements Iterator<T> {
+		private final Object[][] arrays = new Object[Integer.SIZE / BITS + 2][];
+		private final int[] positions = new int[arrays.length];
+		private int depth = -1;
+		private Object nextKey;
+		private Object nextValue;
+
+		Walk(Object root) {
+			if (root != null)
+				push(root);
+			advance();
+		}
+
+		abstract T item(Object key, Object value);
+
+		private void push(Object node) {
+			arrays[++depth] = node instanceof Node ? ((Node) node).array : ((Collision) node).array;
+			positions[depth] = 0;
+		}
+
+		private void advance() {
+			nextKey = null;
+			while (depth >= 0) {
+				Object[] array = arrays[depth];
+				int i = positions[depth];
+				if (i >= array.length) {
+					arrays[depth--] = null;
+					continue;
+				}
+				positions[depth] = i + 2;
+				if (array[i] == null) {
+					push(array[i + 1]);
+					continue;
+				}
+				nextKey = array[i];
+				nextValue = array[i + 1];
+				return;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextKey != null;
+		}
+
+		@Override
+		public T next() {
+			if (nextKey == null)
+				throw new NoSuchElementException();
+			T item = item(nextKey, nextValue);
+			advance();
+			return item;
+		}
+	}
+}
@@ -0,0 +1,218 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * The cities laid out for PopulationKernels: the population and the country ordinal
+ * of row i in two int arrays, the City in a third.
+ *
+ * WorldSnapshot builds one for its version and never changes it. InMemoryWorldDao
+ * keeps one current through WorldChangeListener instead of building a new one after
+ * every mutation: a change patches the city's row, an add appends one, a remove
+ * moves the last row into the hole. Reads take a shared lock, changes an exclusive
+ * one, so a kernel never scans a half-patched row.
+ */
+final class PopulationColumns implements WorldChangeListener {
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	// all guarded by lock; rows 0 to size - 1 are in use
+	private City[] cities;
+	private int[] populations;
+	private int[] countries;
+	private int size;
+	// city id -> its row
+	private final IntIndexMap rows;
+	// rows with a code no country had registered when they were set, CodeTable had no ordinal for them; usually none
+	private int unresolved;
+
+	PopulationColumns(Collection<City> cities) {
+		City[] all = cities.toArray(new City[0]);
+		int capacity = Math.max(16, all.length);
+		this.cities = new City[capacity];
+		populations = new int[capacity];
+		countries = new int[capacity];
+		rows = new IntIndexMap(capacity);
+		for (City city : all) {
+			rows.put(city.getId(), size);
+			set(size++, city);
+		}
+	}
+
+	int size() {
+		Lock read = lock.readLock();
+		read.lock();
+		try {
+			return size;
+		} finally {
+			read.unlock();
+		}
+	}
+
+	City mostPopulated(PopulationKernels kernels) {
+		Lock read = lock.readLock();
+		read.lock();
+		try {
+			int row = kernels.maxIndex(populations, 0, size);
+			return row < 0 ? null : cities[row];
+		} finally {
+			read.unlock();
+		}
+	}
+
+	long sum(PopulationKernels kernels) {
+		Lock read = lock.readLock();
+		read.lock();
+		try {
+			return kernels.sum(populations, 0, size);
+		} finally {
+			read.unlock();
+		}
+	}
+
+	int countBetween(PopulationKernels kernels, int minPopulation, int maxPopulation) {
+		Lock read = lock.readLock();
+		read.lock();
+		try {
+			return kernels.countBetween(populations, 0, size, minPopulation, maxPopulation);
+		} finally {
+			read.unlock();
+		}
+	}
+
+	// keyed by City.getCountryCode(), like topCityByCountry
+	Map<String, City> mostPopulatedByCountry(PopulationKernels kernels) {
+		Lock read = lock.readLock();
+		read.lock();
+		try {
+			int[] best = bestPerCountry(kernels);
+			Map<String, City> result = new HashMap<>();
+			for (int row : best)
+				if (row >= 0)
+					result.put(cities[row].getCountryCode(), cities[row]);
+			// in row order, so ties go to the first row like they do in the kernels
+			for (int row = 0; unresolved > 0 && row < size; row++)
+				if (isUnresolved(row))
+					result.merge(cities[row].getCountryCode(), cities[row],
+							(a, b) -> b.getPopulation() > a.getPopulation() ? b : a);
+			return result;
+		} finally {
+			read.unlock();
+		}
+	}
+
+	// continents[ordinal] is the continent of that country ordinal, null when it has none
+	Map<String, City> mostPopulatedByContinent(PopulationKernels kernels, String[] continents) {
+		Lock read = lock.readLock();
+		read.lock();
+		try {
+			int[] best = bestPerCountry(kernels);
+			Map<String, Integer> bestRow = new HashMap<>();
+			for (int country = 0; country < best.length && country < continents.length; country++)
+				if (best[country] >= 0 && continents[country] != null)
+					bestRow.merge(continents[country], best[country], this::better);
+			// their country may have been registered since the row was set
+			for (int row = 0; unresolved > 0 && row < size; row++) {
+				int country = isUnresolved(row) ? cities[row].getCountryOrdinal() : -1;
+				if (country >= 0 && country < continents.length && continents[country] != null)
+					bestRow.merge(continents[country], row, this::better);
+			}
+			Map<String, City> result = new HashMap<>();
+			bestRow.forEach((continent, row) -> result.put(continent, cities[row]));
+			return result;
+		} finally {
+			read.unlock();
+		}
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// WorldChangeListener, the dao calls these under the city's lock, so one id's changes come in order
+
+	@Override
+	public void cityAdded(City city) {
+		put(city);
+	}
+
+	@Override
+	public void cityUpdated(City previous, City current) {
+		put(current);
+	}
+
+	@Override
+	public void cityRemoved(City city) {
+		Lock write = lock.writeLock();
+		write.lock();
+		try {
+			int row = rows.remove(city.getId());
+			if (row < 0)
+				return;
+			int last = size - 1;
+			clear(row);
+			if (row != last) {
+				City moved = cities[last];
+				clear(last);
+				set(row, moved);
+				rows.put(moved.getId(), row);
+			}
+			size = last;
+		} finally {
+			write.unlock();
+		}
+	}
+
+	private void put(City city) {
+		Lock write = lock.writeLock();
+		write.lock();
+		try {
+			int row = rows.get(city.getId());
+			if (row >= 0) {
+				clear(row);
+				set(row, city);
+				return;
+			}
+			if (size == cities.length) {
+				int capacity = cities.length * 2;
+				cities = Arrays.copyOf(cities, capacity);
+				populations = Arrays.copyOf(populations, capacity);
+				countries = Arrays.copyOf(countries, capacity);
+			}
+			rows.put(city.getId(), size);
+			set(size++, city);
+		} finally {
+			write.unlock();
+		}
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	private void set(int row, City city) {
+		cities[row] = city;
+		populations[row] = city.getPopulation();
+		countries[row] = city.getCountryOrdinal();
+		if (isUnresolved(row))
+			unresolved++;
+	}
+
+	private void clear(int row) {
+		if (isUnresolved(row))
+			unresolved--;
+		cities[row] = null;
+	}
+
+	private boolean isUnresolved(int row) {
+		return countries[row] < 0 && cities[row].getCountryCode() != null;
+	}
+
+	private int better(int a, int b) {
+		return populations[b] > populations[a] || (populations[b] == populations[a] && b < a) ? b : a;
+	}
+
+	private int[] bestPerCountry(PopulationKernels kernels) {
+		// read after every ordinal in the rows was, so each of them is below it
+		int[] best = new int[CodeTable.COUNTRY_CODES.size()];
+		Arrays.fill(best, -1);
+		kernels.groupedMaxIndex(populations, countries, 0, size, best);
+		return best;
+	}
+}
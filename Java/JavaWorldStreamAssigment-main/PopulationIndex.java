@@ -0,0 +1,283 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * Cities ordered by population, for range queries and a global top N.
+ *
+ * Every city is one long key, population in the high half and id in the low half,
+ * so the order is population then id and no key is ever boxed. The keys sit in
+ * sorted blocks of at most BLOCK_SIZE, with the City next to its key, and the first
+ * key of every block in one more array: a lookup is a binary search over the blocks
+ * and one inside a block, an insert or remove moves at most one block's worth of
+ * entries. A full block splits in two, an empty one is dropped. It is the leaf level
+ * of a B+ tree with a flat array as the only inner node, which is plenty for a few
+ * million cities.
+ *
+ * Kept current through WorldChangeListener; reads take a shared lock, changes an
+ * exclusive one.
+ */
+public class PopulationIndex implements WorldChangeListener {
+	private static final int BLOCK_SIZE = 512;
+	// bulk loads leave room so the first inserts do not split every block
+	private static final int FILL = BLOCK_SIZE * 3 / 4;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	// all guarded by lock; lows[i] is the first key of blocks[i]
+	private Block[] blocks = new Block[16];
+	private long[] lows = new long[16];
+	private int blockCount;
+	private int size;
+
+	public PopulationIndex() {
+	}
+
+	public PopulationIndex(Collection<City> cities) {
+		City[] sorted = cities.toArray(new City[0]);
+		Arrays.sort(sorted, Comparator.comparingLong(PopulationIndex::key));
+		for (City city : sorted) {
+			if (blockCount == 0 || blocks[blockCount - 1].size == FILL)
+				insertBlock(blockCount, new Block());
+			blocks[blockCount - 1].append(key(city), city);
+		}
+		size = sorted.length;
+		for (int b = 0; b < blockCount; b++)
+			lows[b] = blocks[b].keys[0];
+	}
+
+	public int size() {
+		Lock read = lock.readLock();
+		read.lock();
+		try {
+			return size;
+		} finally {
+			read.unlock();
+		}
+	}
+
+	// cities with minPopulation <= population <= maxPopulation, least populated first
+	public List<City> findByPopulationRange(int minPopulation, int maxPopulation) {
+		List<City> result = new ArrayList<>();
+		if (minPopulation > maxPopulation)
+			return result;
+		long from = (long) minPopulation << 32;
+		long to = (long) maxPopulation << 32 | 0xFFFFFFFFL;
+		Lock read = lock.readLock();
+		read.lock();
+		try {
+			if (blockCount == 0)
+				return result;
+			int b = blockOf(from);
+			int i = blocks[b].position(from);
+			for (; b < blockCount; b++, i = 0) {
+				Block block = blocks[b];
+				for (; i < block.size; i++) {
+					if (block.keys[i] > to)
+						return result;
+					result.add(block.cities[i]);
+				}
+			}
+		} finally {
+			read.unlock();
+		}
+		return result;
+	}
+
+	// the n most populated cities, most populated first
+	public List<City> top(int n) {
+		List<City> result = new ArrayList<>(Math.max(0, Math.min(n, 1024)));
+		Lock read = lock.readLock();
+		read.lock();
+		try {
+			for (int b = blockCount - 1; b >= 0 && result.size() < n; b--) {
+				Block block = blocks[b];
+				for (int i = block.size - 1; i >= 0 && result.size() < n; i--)
+					result.add(block.cities[i]);
+			}
+		} finally {
+			read.unlock();
+		}
+		return result;
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// WorldChangeListener
+
+	@Override
+	public void cityAdded(City city) {
+		add(city);
+	}
+
+	@Override
+	public void cityUpdated(City previous, City current) {
+		Lock write = lock.writeLock();
+		write.lock();
+		try {
+			removeLocked(previous);
+			insertLocked(key(current), current);
+		} finally {
+			write.unlock();
+		}
+	}
+
+	@Override
+	public void cityRemoved(City city) {
+		Lock write = lock.writeLock();
+		write.lock();
+		try {
+			removeLocked(city);
+		} finally {
+			write.unlock();
+		}
+	}
+
+	public void add(City city) {
+		Lock write = lock.writeLock();
+		write.lock();
+		try {
+			insertLocked(key(city), city);
+		} finally {
+			write.unlock();
+		}
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	// population in the high half keeps the order, the id as unsigned low half keeps keys unique
+	private static long key(City city) {
+		return (long) city.getPopulation() << 32 | (city.getId() & 0xFFFFFFFFL);
+	}
+
+	// the last block whose first key is <= key, or 0
+	private int blockOf(long key) {
+		int at = Arrays.binarySearch(lows, 0, blockCount, key);
+		return at >= 0 ? at : Math.max(0, -at - 2);
+	}
+
+	private void insertLocked(long key, City city) {
+		if (blockCount == 0)
+			insertBlock(0, new Block());
+		int b = blockOf(key);
+		Block block = blocks[b];
+		int at = block.position(key);
+		if (at < block.size && block.keys[at] == key) {
+			// same id and population, only the City object changed
+			block.cities[at] = city;
+			return;
+		}
+		if (block.size == BLOCK_SIZE) {
+			Block upper = block.split();
+			insertBlock(b + 1, upper);
+			lows[b + 1] = upper.keys[0];
+			if (key >= upper.keys[0]) {
+				block = upper;
+				b++;
+			}
+			at = block.position(key);
+		}
+		block.insert(at, key, city);
+		lows[b] = block.keys[0];
+		size++;
+	}
+
+	private void removeLocked(City city) {
+		if (!removeKey(key(city)))
+			// the City was changed in place before updateCity, so its old population is gone: find it by id
+			removeId(city.getId());
+	}
+
+	private boolean removeKey(long key) {
+		if (blockCount == 0)
+			return false;
+		int b = blockOf(key);
+		Block block = blocks[b];
+		int at = block.position(key);
+		if (at == block.size || block.keys[at] != key)
+			return false;
+		removeAt(b, at);
+		return true;
+	}
+
+	private void removeId(int id) {
+		for (int b = 0; b < blockCount; b++) {
+			Block block = blocks[b];
+			for (int i = 0; i < block.size; i++) {
+				if ((int) block.keys[i] == id) {
+					removeAt(b, i);
+					return;
+				}
+			}
+		}
+	}
+
+	private void removeAt(int b, int at) {
+		Block block = blocks[b];
+		block.remove(at);
+		size--;
+		if (block.size > 0) {
+			lows[b] = block.keys[0];
+			return;
+		}
+		System.arraycopy(blocks, b + 1, blocks, b, blockCount - b - 1);
+		System.arraycopy(lows, b + 1, lows, b, blockCount - b - 1);
+		blocks[--blockCount] = null;
+	}
+
+	private void insertBlock(int b, Block block) {
+		if (blockCount == blocks.length) {
+			blocks = Arrays.copyOf(blocks, blockCount * 2);
+			lows = Arrays.copyOf(lows, blockCount * 2);
+		}
+		System.arraycopy(blocks, b, blocks, b + 1, blockCount - b);
+		System.arraycopy(lows, b, lows, b + 1, blockCount - b);
+		blocks[b] = block;
+		blockCount++;
+	}
+
+	private static final class Block {
+		final long[] keys = new long[BLOCK_SIZE];
+		final City[] cities = new City[BLOCK_SIZE];
+		int size;
+
+		// index of the first key >= key
+		int position(long key) {
+			int at = Arrays.binarySearch(keys, 0, size, key);
+			return at >= 0 ? at : -at - 1;
+		}
+
+		void append(long key, City city) {
+			keys[size] = key;
+			cities[size++] = city;
+		}
+
+		void insert(int at, long key, City city) {
+			System.arraycopy(keys, at, keys, at + 1, size - at);
+			System.arraycopy(cities, at, cities, at + 1, size - at);
+			keys[at] = key;
+			cities[at] = city;
+			size++;
+		}
+
+		void remove(int at) {
+			System.arraycopy(keys, at + 1, keys, at, size - at - 1);
+			System.arraycopy(cities, at + 1, cities, at, size - at - 1);
+			cities[--size] = null;
+		}
+
+		// moves the upper half into a new block
+		Block split() {
+			Block upper = new Block();
+			int half = size / 2;
+			upper.size = size - half;
+			System.arraycopy(keys, half, upper.keys, 0, upper.size);
+			System.arraycopy(cities, half, upper.cities, 0, upper.size);
+			Arrays.fill(cities, half, size, null);
+			size = half;
+			return upper;
+		}
+	}
+}
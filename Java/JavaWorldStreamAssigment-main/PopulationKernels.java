@@ -0,0 +1,129 @@
+/*
+ * The loops behind the population analytics, over a plain int column: index of the
+ * maximum, sum, count in a range and the maximum per group. PopulationColumns lays
+ * the cities out for them.
+ *
+ * Two implementations. The scalar one here, and VectorPopulationKernels in vector/,
+ * which runs the same loops on jdk.incubator.vector. That one lives in its own source
+ * directory so that the rest still builds without the incubator module:
+ *
+ *   javac -d out *.java
+ *   javac --add-modules jdk.incubator.vector -cp out -d out vector/*.java
+ *   java --add-modules jdk.incubator.vector -cp out ...
+ *
+ * preferred() is what the daos use unless WorldDaoBuilder.kernels() picks others for
+ * one of them. The world.kernels system property says scalar, vector or auto (the
+ * default), and auto takes vector when the class and the module are both there. Every implementation gives the same answers; ties go to the lowest
+ * index.
+ */
+public abstract class PopulationKernels {
+	private static final String VECTOR_CLASS = "VectorPopulationKernels";
+	private static final PopulationKernels SCALAR = new Scalar();
+	private static final PopulationKernels VECTOR = loadVector();
+	private static final PopulationKernels PREFERRED = select(System.getProperty("world.kernels", "auto"));
+
+	protected PopulationKernels() {
+	}
+
+	public static PopulationKernels scalar() {
+		return SCALAR;
+	}
+
+	// null when VectorPopulationKernels was not compiled in or jdk.incubator.vector is not added
+	public static PopulationKernels vector() {
+		return VECTOR;
+	}
+
+	public static PopulationKernels preferred() {
+		return PREFERRED;
+	}
+
+	private static PopulationKernels select(String name) {
+		switch (name) {
+		case "scalar":
+			return SCALAR;
+		case "vector":
+			if (VECTOR == null)
+				throw new IllegalStateException("world.kernels=vector but " + VECTOR_CLASS
+						+ " is not on the class path or jdk.incubator.vector is not added");
+			return VECTOR;
+		case "auto":
+			return VECTOR != null ? VECTOR : SCALAR;
+		default:
+			throw new IllegalArgumentException("world.kernels must be scalar, vector or auto: " + name);
+		}
+	}
+
+	private static PopulationKernels loadVector() {
+		try {
+			return (PopulationKernels) Class.forName(VECTOR_CLASS).getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			// not compiled in, or the module is missing and the class cannot link
+			return null;
+		}
+	}
+
+	public abstract String name();
+
+	// index of the first maximum in [from, to), -1 for an empty range
+	public abstract int maxIndex(int[] values, int from, int to);
+
+	public abstract long sum(int[] values, int from, int to);
+
+	// how many of [from, to) have min <= value <= max
+	public abstract int countBetween(int[] values, int from, int to, int min, int max);
+
+	/*
+	 * For every group the index of its first maximum, merged into best: best[g] is -1
+	 * or an index already holding group g's best so far. Indexes whose group is outside
+	 * [0, best.length) are skipped.
+	 */
+	public abstract void groupedMaxIndex(int[] values, int[] groups, int from, int to, int[] best);
+
+	@Override
+	public String toString() {
+		return name();
+	}
+
+	private static final class Scalar extends PopulationKernels {
+		@Override
+		public String name() {
+			return "scalar";
+		}
+
+		@Override
+		public int maxIndex(int[] values, int from, int to) {
+			int best = -1;
+			for (int i = from; i < to; i++)
+				if (best < 0 || values[i] > values[best])
+					best = i;
+			return best;
+		}
+
+		@Override
+		public long sum(int[] values, int from, int to) {
+			long sum = 0;
+			for (int i = from; i < to; i++)
+				sum += values[i];
+			return sum;
+		}
+
+		@Override
+		public int countBetween(int[] values, int from, int to, int min, int max) {
+			int count = 0;
+			for (int i = from; i < to; i++)
+				if (values[i] >= min && values[i] <= max)
+					count++;
+			return count;
+		}
+
+		@Override
+		public void groupedMaxIndex(int[] values, int[] groups, int from, int to, int[] best) {
+			for (int i = from; i < to; i++) {
+				int group = groups[i];
+				if (group >= 0 && group < best.length && (best[group] < 0 || values[i] > values[best[group]]))
+					best[group] = i;
+			}
+		}
+	}
+}
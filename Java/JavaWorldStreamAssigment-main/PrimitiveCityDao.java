@@ -0,0 +1,265 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+/*
+ * CityDao storing cities as parallel primitive columns (struct of arrays):
+ * int id, int population, short country ordinal, an int reference into an
+ * interned name table and the location as two float bit patterns in one long. findCityById goes through an open-addressing int map,
+ * so neither keys nor populations are ever boxed. City objects are only built
+ * for what a caller asks for, and changing such a City does not change the dao
+ * until it is passed back to updateCity.
+ *
+ * Rows are dense: removing a city moves the last row into its place. A city without
+ * a country code gets the country ordinal NO_COUNTRY, which no lookup by code matches.
+ */
+public class PrimitiveCityDao implements CityDao {
+	private static final int NO_COUNTRY = -1;
+
+	private final StampedLock lock = new StampedLock();
+	private final CodeTable countryCodes;
+	private final IntIndexMap rowById;
+	private final Map<String, Integer> nameRefs = new HashMap<>();
+	private String[] names = new String[16];
+	private int nameCount;
+
+	private int[] ids;
+	private int[] populations;
+	private short[] countries;
+	private int[] nameOf;
+	private long[] locations;
+	private int size;
+
+	public PrimitiveCityDao() {
+		this(new CodeTable(), 16);
+	}
+
+	public PrimitiveCityDao(Collection<City> cities) {
+		this(new CodeTable(), cities.size());
+		for (City city : cities)
+			addCity(city);
+	}
+
+	public PrimitiveCityDao(CodeTable countryCodes, int expectedCities) {
+		this.countryCodes = countryCodes;
+		int capacity = Math.max(16, expectedCities);
+		rowById = new IntIndexMap(capacity);
+		ids = new int[capacity];
+		populations = new int[capacity];
+		countries = new short[capacity];
+		nameOf = new int[capacity];
+		locations = new long[capacity];
+	}
+
+	public int size() {
+		long stamp = lock.readLock();
+		try {
+			return size;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public City findCityById(int id) {
+		// optimistic first: no write to the lock word, so readers never contend with each other
+		long stamp = lock.tryOptimisticRead();
+		int row = rowById.get(id);
+		int[] ids = this.ids;
+		int[] populations = this.populations;
+		short[] countries = this.countries;
+		int[] nameOf = this.nameOf;
+		long[] locations = this.locations;
+		String[] names = this.names;
+		if (row >= 0 && row < ids.length && row < populations.length && row < countries.length
+				&& row < nameOf.length && row < locations.length) {
+			int cityId = ids[row];
+			int population = populations[row];
+			int country = countries[row];
+			int name = nameOf[row];
+			long location = locations[row];
+			if (lock.validate(stamp))
+				return cityId == id && name < names.length
+						? view(cityId, names[name], country, population, location)
+						: null;
+		} else if (row < 0 && lock.validate(stamp)) {
+			return null;
+		}
+		stamp = lock.readLock();
+		try {
+			row = rowById.get(id);
+			return row < 0 ? null : view(row);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public City removeCity(City city) {
+		long stamp = lock.writeLock();
+		try {
+			int row = rowById.remove(city.getId());
+			if (row < 0)
+				return null;
+			City removed = view(row);
+			int last = --size;
+			if (row != last) {
+				ids[row] = ids[last];
+				populations[row] = populations[last];
+				countries[row] = countries[last];
+				nameOf[row] = nameOf[last];
+				locations[row] = locations[last];
+				rowById.put(ids[row], row);
+			}
+			return removed;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public City addCity(City city) {
+		long stamp = lock.writeLock();
+		try {
+			int existing = rowById.get(city.getId());
+			if (existing >= 0)
+				return view(existing);
+			if (size == ids.length)
+				grow();
+			int row = size;
+			write(row, city);
+			rowById.put(city.getId(), row);
+			// size last, so an optimistic reader never sees a row that is not filled in
+			size = row + 1;
+			return null;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public City updateCity(City city) {
+		long stamp = lock.writeLock();
+		try {
+			int row = rowById.get(city.getId());
+			if (row < 0)
+				return null;
+			City previous = view(row);
+			write(row, city);
+			return previous;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public List<City> findAllCities() {
+		long stamp = lock.readLock();
+		try {
+			List<City> result = new ArrayList<>(size);
+			for (int row = 0; row < size; row++)
+				result.add(view(row));
+			return result;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public List<City> findCitiesByCountryCode(String countryCode) {
+		int country = find(countryCode);
+		List<City> result = new ArrayList<>();
+		if (country < 0)
+			return result;
+		long stamp = lock.readLock();
+		try {
+			for (int row = 0; row < size; row++)
+				if (countries[row] == country)
+					result.add(view(row));
+			return result;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	// int compares over the population column, no Comparator and no boxing
+	public City findMostPopulatedCityByCountryCode(String countryCode) {
+		int country = find(countryCode);
+		if (country < 0)
+			return null;
+		long stamp = lock.readLock();
+		try {
+			int best = -1;
+			for (int row = 0; row < size; row++)
+				if (countries[row] == country && (best < 0 || populations[row] > populations[best]))
+					best = row;
+			return best < 0 ? null : view(best);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	public long sumPopulation() {
+		return sumPopulation(PopulationKernels.preferred());
+	}
+
+	public long sumPopulation(PopulationKernels kernels) {
+		long stamp = lock.readLock();
+		try {
+			return kernels.sum(populations, 0, size);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	private void write(int row, City city) {
+		int country = city.getCountryCode() == null ? NO_COUNTRY : countryCodes.ordinal(city.getCountryCode());
+		if (country > Short.MAX_VALUE)
+			throw new IllegalStateException("More than " + (Short.MAX_VALUE + 1) + " country codes");
+		ids[row] = city.getId();
+		populations[row] = city.getPopulation();
+		countries[row] = (short) country;
+		nameOf[row] = intern(city.getName());
+		locations[row] = (long) Float.floatToRawIntBits((float) city.getLatitude()) << 32
+				| (Float.floatToRawIntBits((float) city.getLongitude()) & 0xFFFFFFFFL);
+	}
+
+	// NO_COUNTRY for null as well as for a code never added
+	private int find(String countryCode) {
+		return countryCode == null ? NO_COUNTRY : countryCodes.find(countryCode);
+	}
+
+	private int intern(String name) {
+		Integer ref = nameRefs.get(name);
+		if (ref != null)
+			return ref;
+		if (nameCount == names.length)
+			names = Arrays.copyOf(names, nameCount * 2);
+		names[nameCount] = name;
+		nameRefs.put(name, nameCount);
+		return nameCount++;
+	}
+
+	// new arrays are filled before they are published, optimistic readers see either the old or the new ones
+	private void grow() {
+		int capacity = ids.length * 2;
+		ids = Arrays.copyOf(ids, capacity);
+		populations = Arrays.copyOf(populations, capacity);
+		countries = Arrays.copyOf(countries, capacity);
+		nameOf = Arrays.copyOf(nameOf, capacity);
+		locations = Arrays.copyOf(locations, capacity);
+	}
+
+	private City view(int row) {
+		return view(ids[row], names[nameOf[row]], countries[row], populations[row], locations[row]);
+	}
+
+	private City view(int id, String name, int country, int population, long location) {
+		return new City(id, name, country == NO_COUNTRY ? null : countryCodes.name(country), population,
+				Float.intBitsToFloat((int) (location >>> 32)), Float.intBitsToFloat((int) location));
+	}
+}
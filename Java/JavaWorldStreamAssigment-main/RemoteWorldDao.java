@@ -0,0 +1,336 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+
+/*
+ * WorldDao client of a WorldShardServer. Every call is one round trip on a pooled
+ * connection: a thread takes an idle connection or opens one, and gives it back
+ * after reading the answer. Up to POOL idle connections are kept.
+ *
+ * What comes back is a copy. Changing a City does nothing until it is passed to
+ * updateCity. A Country found here fetches its cities from this shard with
+ * findCitiesByCountryCode on the first getCities() and keeps that list.
+ * Exceptions the shard's dao throws come back as the same type when it is
+ * UnsupportedOperationException or IllegalArgumentException and as
+ * IllegalStateException otherwise; a broken connection is an UncheckedIOException.
+ *
+ * Aggregations take a Comparator that cannot travel, so topCityByCountry and
+ * topCityByContinent only run on the shard for WorldDao.BY_POPULATION; anything
+ * else falls back to the defaults, which pull every city.
+ */
+public class RemoteWorldDao implements WorldDao, Closeable {
+	private static final int POOL = 64;
+	private static final int CONNECT_TIMEOUT_MS = 5000;
+
+	private final InetSocketAddress address;
+	private final BlockingQueue<Connection> idle = new ArrayBlockingQueue<>(POOL);
+	private final Function<String, List<City>> cityIndex = this::findCitiesByCountryCode;
+	private volatile boolean closed;
+
+	public RemoteWorldDao(InetSocketAddress address) {
+		this.address = address;
+	}
+
+	public InetSocketAddress getAddress() {
+		return address;
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		for (Connection connection; (connection = idle.poll()) != null;)
+			connection.close();
+	}
+
+	@Override
+	public String toString() {
+		return "RemoteWorldDao [" + address + "]";
+	}
+
+	@Override
+	public City findCityById(int id) {
+		return call(WorldShardProtocol.CITY_BY_ID, out -> out.writeInt(id), WorldShardProtocol::readCity);
+	}
+
+	@Override
+	public City removeCity(City city) {
+		return call(WorldShardProtocol.REMOVE_CITY, out -> WorldShardProtocol.writeCity(out, city),
+				WorldShardProtocol::readCity);
+	}
+
+	@Override
+	public City addCity(City city) {
+		return call(WorldShardProtocol.ADD_CITY, out -> WorldShardProtocol.writeCity(out, city),
+				WorldShardProtocol::readCity);
+	}
+
+	@Override
+	public City updateCity(City city) {
+		return call(WorldShardProtocol.UPDATE_CITY, out -> WorldShardProtocol.writeCity(out, city),
+				WorldShardProtocol::readCity);
+	}
+
+	// atomic on the shard, which compares field by field: expected is a copy here anyway
+	@Override
+	public boolean updateCity(City expected, City replacement) {
+		if (expected.getId() != replacement.getId())
+			throw new IllegalArgumentException("expected and replacement must have the same id");
+		return call(WorldShardProtocol.COMPARE_AND_SET_CITY, out -> {
+			WorldShardProtocol.writeCity(out, expected);
+			WorldShardProtocol.writeCity(out, replacement);
+		}, DataInputStream::readBoolean);
+	}
+
+	@Override
+	public List<City> findAllCities() {
+		return call(WorldShardProtocol.ALL_CITIES, out -> {
+		}, WorldShardProtocol::readCities);
+	}
+
+	@Override
+	public List<City> findCitiesByCountryCode(String countryCode) {
+		return call(WorldShardProtocol.CITIES_BY_COUNTRY, out -> WorldShardProtocol.writeString(out, countryCode),
+				WorldShardProtocol::readCities);
+	}
+
+	@Override
+	public Country findCountryByCode(String code) {
+		return bound(call(WorldShardProtocol.COUNTRY_BY_CODE, out -> WorldShardProtocol.writeString(out, code),
+				WorldShardProtocol::readCountry));
+	}
+
+	@Override
+	public Country removeCountry(Country country) {
+		return call(WorldShardProtocol.REMOVE_COUNTRY, out -> WorldShardProtocol.writeCountry(out, country),
+				WorldShardProtocol::readCountry);
+	}
+
+	@Override
+	public Country addCountry(Country country) {
+		return call(WorldShardProtocol.ADD_COUNTRY, out -> WorldShardProtocol.writeCountry(out, country),
+				WorldShardProtocol::readCountry);
+	}
+
+	@Override
+	public Country updateCountry(Country country) {
+		return call(WorldShardProtocol.UPDATE_COUNTRY, out -> WorldShardProtocol.writeCountry(out, country),
+				WorldShardProtocol::readCountry);
+	}
+
+	@Override
+	public List<Country> findAllCountries() {
+		return bound(call(WorldShardProtocol.ALL_COUNTRIES, out -> {
+		}, WorldShardProtocol::readCountries));
+	}
+
+	@Override
+	public List<Country> findCountriesByContinent(String continent) {
+		return bound(call(WorldShardProtocol.COUNTRIES_BY_CONTINENT,
+				out -> WorldShardProtocol.writeString(out, continent), WorldShardProtocol::readCountries));
+	}
+
+	// the countries a lookup returns read their cities from here, the ones a mutation returns stay empty
+	private Country bound(Country country) {
+		if (country != null)
+			country.bindCities(cityIndex);
+		return country;
+	}
+
+	private List<Country> bound(List<Country> countries) {
+		for (Country country : countries)
+			country.bindCities(cityIndex);
+		return countries;
+	}
+
+	@Override
+	public Set<String> getAllContinents() {
+		return call(WorldShardProtocol.CONTINENTS, out -> {
+		}, in -> {
+			int count = in.readInt();
+			Set<String> continents = new HashSet<>();
+			for (int i = 0; i < count; i++)
+				continents.add(WorldShardProtocol.readString(in));
+			return continents;
+		});
+	}
+
+	@Override
+	public Map<String, City> topCityByCountry(Comparator<? super City> comparator) {
+		if (comparator != BY_POPULATION)
+			return WorldDao.super.topCityByCountry(comparator);
+		return call(WorldShardProtocol.MOST_POPULATED_BY_COUNTRY, out -> {
+		}, WorldShardProtocol::readCityMap);
+	}
+
+	@Override
+	public Map<String, City> topCityByContinent(Comparator<? super City> comparator) {
+		if (comparator != BY_POPULATION)
+			return WorldDao.super.topCityByContinent(comparator);
+		return call(WorldShardProtocol.MOST_POPULATED_BY_CONTINENT, out -> {
+		}, WorldShardProtocol::readCityMap);
+	}
+
+	@Override
+	public City findMostPopulatedCity() {
+		return call(WorldShardProtocol.MOST_POPULATED_CITY, out -> {
+		}, WorldShardProtocol::readCity);
+	}
+
+	@Override
+	public long sumCityPopulation() {
+		return call(WorldShardProtocol.SUM_POPULATION, out -> {
+		}, DataInputStream::readLong);
+	}
+
+	@Override
+	public int countCitiesByPopulationRange(int minPopulation, int maxPopulation) {
+		return call(WorldShardProtocol.COUNT_POPULATION_RANGE, out -> {
+			out.writeInt(minPopulation);
+			out.writeInt(maxPopulation);
+		}, DataInputStream::readInt);
+	}
+
+	@Override
+	public List<City> topCities(int n) {
+		return call(WorldShardProtocol.TOP_CITIES, out -> out.writeInt(n), WorldShardProtocol::readCities);
+	}
+
+	@Override
+	public List<City> findCitiesByPopulationRange(int minPopulation, int maxPopulation) {
+		return call(WorldShardProtocol.POPULATION_RANGE, out -> {
+			out.writeInt(minPopulation);
+			out.writeInt(maxPopulation);
+		}, WorldShardProtocol::readCities);
+	}
+
+	@Override
+	public List<City> findCitiesByNamePrefix(String prefix, int limit) {
+		return call(WorldShardProtocol.NAME_PREFIX, out -> {
+			WorldShardProtocol.writeString(out, prefix);
+			out.writeInt(limit);
+		}, WorldShardProtocol::readCities);
+	}
+
+	@Override
+	public List<City> findCitiesByNameFuzzy(String name, int maxDistance, int limit) {
+		return call(WorldShardProtocol.NAME_FUZZY, out -> {
+			WorldShardProtocol.writeString(out, name);
+			out.writeInt(maxDistance);
+			out.writeInt(limit);
+		}, WorldShardProtocol::readCities);
+	}
+
+	@Override
+	public List<City> findNearest(double latitude, double longitude, int k) {
+		return call(WorldShardProtocol.NEAREST, out -> {
+			out.writeDouble(latitude);
+			out.writeDouble(longitude);
+			out.writeInt(k);
+		}, WorldShardProtocol::readCities);
+	}
+
+	@Override
+	public List<City> findWithin(GeoBox box) {
+		return call(WorldShardProtocol.WITHIN, out -> {
+			out.writeDouble(box.getMinLatitude());
+			out.writeDouble(box.getMinLongitude());
+			out.writeDouble(box.getMaxLatitude());
+			out.writeDouble(box.getMaxLongitude());
+		}, WorldShardProtocol::readCities);
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	@FunctionalInterface
+	private interface Arguments {
+		void write(DataOutputStream out) throws IOException;
+	}
+
+	@FunctionalInterface
+	private interface Result<T> {
+		T read(DataInputStream in) throws IOException;
+	}
+
+	private <T> T call(byte op, Arguments arguments, Result<T> result) {
+		if (closed)
+			throw new IllegalStateException(this + " is closed");
+		Connection connection = idle.poll();
+		try {
+			if (connection == null)
+				connection = new Connection(address);
+			connection.out.writeByte(op);
+			arguments.write(connection.out);
+			connection.out.flush();
+			byte status = connection.in.readByte();
+			if (status == WorldShardProtocol.ERROR) {
+				String type = connection.in.readUTF();
+				String message = connection.in.readUTF();
+				release(connection);
+				throw shardException(type, message);
+			}
+			T value = result.read(connection.in);
+			release(connection);
+			return value;
+		} catch (IOException e) {
+			// the stream may be mid message, the connection cannot be reused
+			if (connection != null)
+				connection.close();
+			throw new UncheckedIOException(this + ": " + e.getMessage(), e);
+		}
+	}
+
+	private void release(Connection connection) {
+		if (closed || !idle.offer(connection))
+			connection.close();
+	}
+
+	private RuntimeException shardException(String type, String message) {
+		String text = address + ": " + message;
+		if (type.equals(UnsupportedOperationException.class.getSimpleName()))
+			return new UnsupportedOperationException(text);
+		if (type.equals(IllegalArgumentException.class.getSimpleName()))
+			return new IllegalArgumentException(text);
+		return new IllegalStateException(type + " on " + text);
+	}
+
+	private static final class Connection {
+		final Socket socket;
+		final DataInputStream in;
+		final DataOutputStream out;
+
+		Connection(InetSocketAddress address) throws IOException {
+			socket = new Socket();
+			try {
+				socket.setTcpNoDelay(true);
+				socket.connect(address, CONNECT_TIMEOUT_MS);
+				in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+				out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			} catch (IOException e) {
+				socket.close();
+				throw e;
+			}
+		}
+
+		void close() {
+			try {
+				socket.close();
+			} catch (IOException e) {
+				// nothing left to do with it
+			}
+		}
+	}
+}
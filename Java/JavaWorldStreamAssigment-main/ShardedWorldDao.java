@@ -0,0 +1,513 @@
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/*
+ * WorldDao over N shards partitioned by country code: a country and all of its
+ * cities live on shard shardOf(code), so everything keyed by a country goes to one
+ * shard and per country or per continent aggregations are finished on each shard
+ * and only merged here.
+ *
+ *   point lookups     findCountryByCode, findCitiesByCountryCode go to the owning
+ *                     shard; findCityById through a directory of city id to shard
+ *   scatter-gather    lists, topCityBy*, topCities, name and location searches ask
+ *                     every shard at once and merge what comes back
+ *   writes            go to the owning shard; a city whose country code changes
+ *                     moves to its new shard
+ *
+ * The shards can be any WorldDao: InMemoryWorldDaos in this JVM (inMemory), or
+ * WorldShardServer processes on localhost behind RemoteWorldDao (launch). Either
+ * way a Country found here reads getCities() from the shard that owns it. The
+ * directory is filled from the shards when the router is made and kept by its own
+ * writes, so once shards sit behind a router they must only be changed through it.
+ * Writes to one city id are serialized here; a city moving between shards is added
+ * to the new one before it leaves the old one, and readers find it on either.
+ */
+public class ShardedWorldDao implements WorldDao, Closeable {
+	private static final int STRIPES = 64;
+	private static final Comparator<City> BY_POPULATION_AND_ID = Comparator.comparingInt(City::getPopulation)
+			.thenComparingInt(City::getId);
+
+	private final WorldDao[] shards;
+	// guarded by directoryLock, readers try optimistic first like PrimitiveCityDao
+	private final IntIndexMap directory;
+	private final StampedLock directoryLock = new StampedLock();
+	private final Object[] stripes = new Object[STRIPES];
+	private final ExecutorService scatter;
+	private final boolean ownsShards;
+	private final List<Process> processes;
+
+	// the router does not own these shards, close() leaves them open
+	public ShardedWorldDao(List<? extends WorldDao> shards) {
+		this(shards, false, Collections.emptyList());
+	}
+
+	private ShardedWorldDao(List<? extends WorldDao> shards, boolean ownsShards, List<Process> processes) {
+		if (shards.isEmpty())
+			throw new IllegalArgumentException("No shards");
+		this.shards = shards.toArray(new WorldDao[0]);
+		this.ownsShards = ownsShards;
+		this.processes = processes;
+		for (int i = 0; i < STRIPES; i++)
+			stripes[i] = new Object();
+		scatter = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "world-shard-scatter");
+			thread.setDaemon(true);
+			return thread;
+		});
+		List<List<City>> cities = scatterGather(WorldDao::findAllCities);
+		directory = new IntIndexMap(cities.stream().mapToInt(List::size).sum());
+		for (int shard = 0; shard < cities.size(); shard++)
+			for (City city : cities.get(shard)) {
+				int other = directory.get(city.getId());
+				if (other >= 0)
+					throw new IllegalArgumentException("City " + city.getId() + " is on shards " + other + " and " + shard);
+				directory.put(city.getId(), shard);
+			}
+	}
+
+	// the shard a country code and its cities belong to; cities without a code go to 0
+	public static int shardOf(String countryCode, int shards) {
+		return countryCode == null ? 0 : Math.floorMod(countryCode.hashCode(), shards);
+	}
+
+	/*
+	 * The maps split into InMemoryWorldDao shards in this JVM, see
+	 * WorldShardServer.partition. The objects move into the shards.
+	 */
+	public static ShardedWorldDao inMemory(Map<String, Country> countries, Map<Integer, City> cities, int shards) {
+		List<WorldDao> daos = new ArrayList<>(shards);
+		for (int shard = 0; shard < shards; shard++)
+			daos.add(WorldShardServer.partition(countries, cities, shard, shards));
+		return new ShardedWorldDao(daos, true, Collections.emptyList());
+	}
+
+	// every shard a WorldShardServer process on localhost, serving its part of the data files
+	public static ShardedWorldDao launch(int shards) throws IOException {
+		return launch(shards, WorldShardServer.class.getName(), Collections.emptyList());
+	}
+
+	/*
+	 * Starts one JVM per shard with this JVM's class path, running mainClass with the
+	 * arguments <shard> <shards>. The main class must serve its shard the way
+	 * WorldShardServer.serveUntilStdinCloses does: print the READY line, exit when
+	 * standard input closes. close() stops them.
+	 */
+	public static ShardedWorldDao launch(int shards, String mainClass, List<String> jvmOptions) throws IOException {
+		String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+		List<Process> processes = new ArrayList<>(shards);
+		List<WorldDao> daos = new ArrayList<>(shards);
+		try {
+			// all started first, they load their data side by side
+			for (int shard = 0; shard < shards; shard++) {
+				List<String> command = new ArrayList<>();
+				command.add(java);
+				command.addAll(jvmOptions);
+				command.addAll(Arrays.asList("-cp", System.getProperty("java.class.path"), mainClass,
+						String.valueOf(shard), String.valueOf(shards)));
+				processes.add(new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start());
+			}
+			for (int shard = 0; shard < shards; shard++) {
+				int port = awaitReady(processes.get(shard), shard);
+				daos.add(new RemoteWorldDao(new InetSocketAddress(InetAddress.getLoopbackAddress(), port)));
+			}
+			return new ShardedWorldDao(daos, true, processes);
+		} catch (IOException | RuntimeException e) {
+			for (WorldDao dao : daos)
+				((RemoteWorldDao) dao).close();
+			for (Process process : processes)
+				process.destroyForcibly();
+			throw e;
+		}
+	}
+
+	// reads the shard's output up to its READY line, then keeps passing the rest on to ours
+	private static int awaitReady(Process process, int shard) throws IOException {
+		BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+		for (String line; (line = out.readLine()) != null;) {
+			if (line.startsWith(WorldShardServer.READY)) {
+				Thread forward = new Thread(() -> {
+					try {
+						for (String rest; (rest = out.readLine()) != null;)
+							System.out.println("shard " + shard + ": " + rest);
+					} catch (IOException e) {
+						// the shard is gone
+					}
+				}, "world-shard-output-" + shard);
+				forward.setDaemon(true);
+				forward.start();
+				return Integer.parseInt(line.substring(WorldShardServer.READY.length()).trim());
+			}
+			System.out.println("shard " + shard + ": " + line);
+		}
+		throw new IOException("Shard " + shard + " exited before it was ready");
+	}
+
+	public int getShardCount() {
+		return shards.length;
+	}
+
+	public WorldDao getShard(int shard) {
+		return shards[shard];
+	}
+
+	@Override
+	public void close() {
+		scatter.shutdown();
+		if (ownsShards)
+			for (WorldDao shard : shards)
+				if (shard instanceof Closeable) {
+					try {
+						((Closeable) shard).close();
+					} catch (IOException e) {
+						// closing anyway
+					}
+				}
+		for (Process process : processes) {
+			try {
+				process.getOutputStream().close();
+				if (!process.waitFor(5, TimeUnit.SECONDS))
+					process.destroyForcibly();
+			} catch (IOException e) {
+				process.destroyForcibly();
+			} catch (InterruptedException e) {
+				process.destroyForcibly();
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ShardedWorldDao [" + shards.length + " shards" + (processes.isEmpty() ? "" : " in processes") + "]";
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// countries: all on the shard of their code
+
+	@Override
+	public Country findCountryByCode(String code) {
+		return shardFor(code).findCountryByCode(code);
+	}
+
+	@Override
+	public Country removeCountry(Country country) {
+		return shardFor(country.getCode()).removeCountry(country);
+	}
+
+	@Override
+	public Country addCountry(Country country) {
+		return shardFor(country.getCode()).addCountry(country);
+	}
+
+	@Override
+	public Country updateCountry(Country country) {
+		return shardFor(country.getCode()).updateCountry(country);
+	}
+
+	@Override
+	public List<Country> findAllCountries() {
+		return concat(scatterGather(WorldDao::findAllCountries));
+	}
+
+	@Override
+	public List<Country> findCountriesByContinent(String continent) {
+		return concat(scatterGather(shard -> shard.findCountriesByContinent(continent)));
+	}
+
+	@Override
+	public Set<String> getAllContinents() {
+		Set<String> continents = new HashSet<>();
+		for (Set<String> shard : scatterGather(WorldDao::getAllContinents))
+			continents.addAll(shard);
+		return Collections.unmodifiableSet(continents);
+	}
+
+	@Override
+	public Stream<Country> streamCountries() {
+		return Arrays.stream(shards).flatMap(WorldDao::streamCountries);
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// cities: on the shard of their country code, found by id through the directory
+
+	@Override
+	public City findCityById(int id) {
+		int shard = ownerOf(id);
+		return shard < 0 ? null : shards[shard].findCityById(id);
+	}
+
+	@Override
+	public City removeCity(City city) {
+		synchronized (stripe(city.getId())) {
+			int shard = ownerOf(city.getId());
+			if (shard < 0)
+				return null;
+			City removed = shards[shard].removeCity(city);
+			setOwner(city.getId(), -1);
+			return removed;
+		}
+	}
+
+	@Override
+	public City addCity(City city) {
+		synchronized (stripe(city.getId())) {
+			int shard = ownerOf(city.getId());
+			if (shard >= 0)
+				return shards[shard].findCityById(city.getId());
+			int target = shardOf(city.getCountryCode(), shards.length);
+			City existing = shards[target].addCity(city);
+			if (existing == null)
+				setOwner(city.getId(), target);
+			return existing;
+		}
+	}
+
+	@Override
+	public City updateCity(City city) {
+		synchronized (stripe(city.getId())) {
+			int shard = ownerOf(city.getId());
+			if (shard < 0)
+				return null;
+			int target = shardOf(city.getCountryCode(), shards.length);
+			if (target == shard)
+				return shards[shard].updateCity(city);
+			return move(city, shard, target);
+		}
+	}
+
+	// atomic against other writes through the router; on one shard it is that shard's compare and set
+	@Override
+	public boolean updateCity(City expected, City replacement) {
+		if (expected.getId() != replacement.getId())
+			throw new IllegalArgumentException("expected and replacement must have the same id");
+		synchronized (stripe(expected.getId())) {
+			int shard = ownerOf(expected.getId());
+			if (shard < 0)
+				return false;
+			int target = shardOf(replacement.getCountryCode(), shards.length);
+			if (target == shard)
+				return shards[shard].updateCity(expected, replacement);
+			City current = shards[shard].findCityById(expected.getId());
+			if (current == null || !CityDao.sameEntry(current, expected))
+				return false;
+			move(replacement, shard, target);
+			return true;
+		}
+	}
+
+	// caller holds the city's stripe
+	private City move(City city, int from, int to) {
+		if (shards[to].addCity(city) != null)
+			shards[to].updateCity(city);
+		setOwner(city.getId(), to);
+		return shards[from].removeCity(city);
+	}
+
+	@Override
+	public List<City> findAllCities() {
+		return concat(scatterGather(WorldDao::findAllCities));
+	}
+
+	@Override
+	public List<City> findCitiesByCountryCode(String countryCode) {
+		return shardFor(countryCode).findCitiesByCountryCode(countryCode);
+	}
+
+	@Override
+	public Stream<City> streamCities() {
+		return Arrays.stream(shards).flatMap(WorldDao::streamCities);
+	}
+
+	@Override
+	public Stream<City> streamCitiesByCountryCode(String countryCode) {
+		return shardFor(countryCode).streamCitiesByCountryCode(countryCode);
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// aggregations and searches: each shard answers for its part, merged here
+
+	// the best of each shard's best is the best overall, whatever the key
+	@Override
+	public <K> Map<K, City> topCityBy(Function<? super City, ? extends K> groupingKey,
+			Comparator<? super City> comparator) {
+		return mergeTop(scatterGather(shard -> shard.topCityBy(groupingKey, comparator)), comparator);
+	}
+
+	@Override
+	public Map<String, City> topCityByCountry(Comparator<? super City> comparator) {
+		return mergeTop(scatterGather(shard -> shard.topCityByCountry(comparator)), comparator);
+	}
+
+	// a country's continent is known on the country's shard, which holds its cities too
+	@Override
+	public Map<String, City> topCityByContinent(Comparator<? super City> comparator) {
+		return mergeTop(scatterGather(shard -> shard.topCityByContinent(comparator)), comparator);
+	}
+
+	@Override
+	public City findMostPopulatedCity() {
+		return scatterGather(WorldDao::findMostPopulatedCity).stream().filter(city -> city != null)
+				.reduce(BinaryOperator.maxBy(BY_POPULATION)).orElse(null);
+	}
+
+	@Override
+	public long sumCityPopulation() {
+		return scatterGather(WorldDao::sumCityPopulation).stream().mapToLong(Long::longValue).sum();
+	}
+
+	@Override
+	public int countCitiesByPopulationRange(int minPopulation, int maxPopulation) {
+		return scatterGather(shard -> shard.countCitiesByPopulationRange(minPopulation, maxPopulation)).stream()
+				.mapToInt(Integer::intValue).sum();
+	}
+
+	@Override
+	public List<City> topCities(int n) {
+		return concat(scatterGather(shard -> shard.topCities(n))).stream()
+				.sorted(BY_POPULATION_AND_ID.reversed()).limit(Math.max(0, n)).collect(Collectors.toList());
+	}
+
+	@Override
+	public List<City> findCitiesByPopulationRange(int minPopulation, int maxPopulation) {
+		List<City> cities = concat(
+				scatterGather(shard -> shard.findCitiesByPopulationRange(minPopulation, maxPopulation)));
+		cities.sort(BY_POPULATION_AND_ID);
+		return cities;
+	}
+
+	// the best limit of every shard hold the best limit overall, ranked again over the few of them
+	@Override
+	public List<City> findCitiesByNamePrefix(String prefix, int limit) {
+		List<City> candidates = concat(scatterGather(shard -> shard.findCitiesByNamePrefix(prefix, limit)));
+		return new CityNameIndex(candidates).findByPrefix(prefix, limit);
+	}
+
+	@Override
+	public List<City> findCitiesByNameFuzzy(String name, int maxDistance, int limit) {
+		List<City> candidates = concat(
+				scatterGather(shard -> shard.findCitiesByNameFuzzy(name, maxDistance, limit)));
+		return new CityNameIndex(candidates).findByName(name, maxDistance, limit);
+	}
+
+	@Override
+	public List<City> findNearest(double latitude, double longitude, int k) {
+		List<City> candidates = concat(scatterGather(shard -> shard.findNearest(latitude, longitude, k)));
+		return candidates.stream()
+				.sorted(Comparator.comparingDouble(city -> CitySpatialIndex.distanceKm(latitude, longitude,
+						city.getLatitude(), city.getLongitude())))
+				.limit(Math.max(0, k)).collect(Collectors.toList());
+	}
+
+	@Override
+	public List<City> findWithin(GeoBox box) {
+		return concat(scatterGather(shard -> shard.findWithin(box)));
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	private WorldDao shardFor(String countryCode) {
+		return shards[shardOf(countryCode, shards.length)];
+	}
+
+	private Object stripe(int id) {
+		return stripes[id & (STRIPES - 1)];
+	}
+
+	// -1 when no shard has the city
+	private int ownerOf(int id) {
+		long stamp = directoryLock.tryOptimisticRead();
+		int shard = directory.get(id);
+		if (directoryLock.validate(stamp))
+			return shard;
+		stamp = directoryLock.readLock();
+		try {
+			return directory.get(id);
+		} finally {
+			directoryLock.unlockRead(stamp);
+		}
+	}
+
+	private void setOwner(int id, int shard) {
+		long stamp = directoryLock.writeLock();
+		try {
+			if (shard < 0)
+				directory.remove(id);
+			else
+				directory.put(id, shard);
+		} finally {
+			directoryLock.unlockWrite(stamp);
+		}
+	}
+
+	// every shard's answer in shard order; shard 0 is asked on the calling thread, the rest side by side
+	private <T> List<T> scatterGather(Function<WorldDao, T> call) {
+		if (shards.length == 1)
+			return Collections.singletonList(call.apply(shards[0]));
+		List<Future<T>> pending = new ArrayList<>(shards.length - 1);
+		for (int i = 1; i < shards.length; i++) {
+			WorldDao shard = shards[i];
+			pending.add(scatter.submit(() -> call.apply(shard)));
+		}
+		List<T> results = new ArrayList<>(shards.length);
+		results.add(call.apply(shards[0]));
+		for (Future<T> future : pending)
+			results.add(gather(future));
+		return results;
+	}
+
+	private static <T> T gather(Future<T> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new IllegalStateException(cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted waiting for a shard", e);
+		}
+	}
+
+	private static <T> List<T> concat(List<List<T>> parts) {
+		List<T> all = new ArrayList<>(parts.stream().mapToInt(List::size).sum());
+		for (List<T> part : parts)
+			all.addAll(part);
+		return all;
+	}
+
+	private static <K> Map<K, City> mergeTop(List<Map<K, City>> parts, Comparator<? super City> comparator) {
+		BinaryOperator<City> best = BinaryOperator.maxBy(comparator);
+		Map<K, City> merged = new HashMap<>();
+		for (Map<K, City> part : parts)
+			part.forEach((key, city) -> merged.merge(key, city, best));
+		return merged;
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * One mutation of an InMemoryWorldDao, as recorded by WorldChangeLog.
+ *
+ * Sequence numbers start at 0 and have no gaps, so a consumer that stores the last
+ * sequence it handled can resume from the next one. Only the fields that fit the
+ * kind are set, the rest are null: an update carries both versions of the object,
+ * an add only the new one and a remove only the old one.
+ */
+public final class WorldChangeEvent {
+
+	public enum Kind {
+		CITY_ADDED, CITY_UPDATED, CITY_REMOVED, COUNTRY_ADDED, COUNTRY_UPDATED, COUNTRY_REMOVED
+	}
+
+	private final long sequence;
+	private final Kind kind;
+	private final City previousCity;
+	private final City city;
+	private final Country previousCountry;
+	private final Country country;
+
+	WorldChangeEvent(long sequence, Kind kind, City previousCity, City city, Country previousCountry,
+			Country country) {
+		this.sequence = sequence;
+		this.kind = kind;
+		this.previousCity = previousCity;
+		this.city = city;
+		this.previousCountry = previousCountry;
+		this.country = country;
+	}
+
+	public long getSequence() {
+		return sequence;
+	}
+
+	public Kind getKind() {
+		return kind;
+	}
+
+	// before an update or the removed city
+	public City getPreviousCity() {
+		return previousCity;
+	}
+
+	// after an add or an update
+	public City getCity() {
+		return city;
+	}
+
+	public Country getPreviousCountry() {
+		return previousCountry;
+	}
+
+	public Country getCountry() {
+		return country;
+	}
+
+	@Override
+	public String toString() {
+		Object subject = city != null ? city : previousCity != null ? previousCity
+				: country != null ? country : previousCountry;
+		return sequence + " " + kind + " " + subject;
+	}
+}
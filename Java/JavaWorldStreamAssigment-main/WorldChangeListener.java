@@ -0,0 +1,30 @@
+/*
+ * Told about every successful mutation of an InMemoryWorldDao.
+ *
+ * Callbacks run on the writing thread once the change is published, while the
+ * dao still holds the lock of the entry being changed, so the events for one
+ * city id (or one country code) arrive in the order they were applied. The batch
+ * methods tell them once the whole batch is applied, before the batch's version
+ * is published. Keep them short and
+ * do not mutate the dao from them.
+ */
+public interface WorldChangeListener {
+
+	default void cityAdded(City city) {
+	}
+
+	default void cityUpdated(City previous, City current) {
+	}
+
+	default void cityRemoved(City city) {
+	}
+
+	default void countryAdded(Country country) {
+	}
+
+	default void countryUpdated(Country previous, Country current) {
+	}
+
+	default void countryRemoved(Country country) {
+	}
+}
@@ -0,0 +1,263 @@
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Change data capture for an InMemoryWorldDao: every mutation becomes a
+ * WorldChangeEvent with a sequence number, kept in a fixed size ring buffer that
+ * any number of Flow subscribers tail at their own pace.
+ *
+ * Writers only ever store into the ring, they never wait for a subscriber. A
+ * subscriber is handed whatever has piled up since its last delivery as one list
+ * (up to maxBatch events), and request(n) asks for n such lists. One that falls a
+ * whole ring behind gets onError with MissedEventsException and has to reload
+ * from the dao; the exception says where the log picks up again.
+ *
+ * Events for one city id or country code are logged in the order they were
+ * applied, events for different keys may interleave either way.
+ */
+public class WorldChangeLog implements WorldChangeListener, Flow.Publisher<List<WorldChangeEvent>> {
+
+	// the subscriber asked for events the ring no longer has
+	public static class MissedEventsException extends IllegalStateException {
+		private static final long serialVersionUID = 1L;
+		private final long oldestAvailable;
+
+		MissedEventsException(long requested, long oldestAvailable) {
+			super("Events " + requested + " to " + (oldestAvailable - 1) + " were overwritten, the log starts at "
+					+ oldestAvailable);
+			this.oldestAvailable = oldestAvailable;
+		}
+
+		public long getOldestAvailable() {
+			return oldestAvailable;
+		}
+	}
+
+	private final WorldChangeEvent[] ring;
+	private final int mask;
+	private final int maxBatch;
+	private final Executor executor;
+	private final List<LogSubscription> subscriptions = new CopyOnWriteArrayList<>();
+	private InMemoryWorldDao dao;
+
+	// sequence of the next event, everything below it is in the ring (or overwritten); written under this
+	private volatile long head;
+	private volatile boolean closed;
+
+	// capacity is rounded up to a power of two, deliveries run on executor
+	public WorldChangeLog(int capacity, int maxBatch, Executor executor) {
+		if (capacity < 1 || maxBatch < 1)
+			throw new IllegalArgumentException("capacity and maxBatch must be positive");
+		int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+		this.ring = new WorldChangeEvent[size];
+		this.mask = size - 1;
+		this.maxBatch = maxBatch;
+		this.executor = executor;
+	}
+
+	public static WorldChangeLog attach(InMemoryWorldDao dao) {
+		return attach(dao, 1 << 16, 1024);
+	}
+
+	public static WorldChangeLog attach(InMemoryWorldDao dao, int capacity, int maxBatch) {
+		WorldChangeLog log = new WorldChangeLog(capacity, maxBatch, ForkJoinPool.commonPool());
+		log.dao = dao;
+		dao.addChangeListener(log);
+		return log;
+	}
+
+	// sequence the next event will get
+	public long headSequence() {
+		return head;
+	}
+
+	// oldest sequence still in the ring
+	public long oldestSequence() {
+		return Math.max(0, head - ring.length);
+	}
+
+	// new events only
+	@Override
+	public void subscribe(Flow.Subscriber<? super List<WorldChangeEvent>> subscriber) {
+		subscribe(subscriber, head);
+	}
+
+	/*
+	 * From sequence on, e.g. one past the last event a consumer handled before a restart.
+	 * A negative or future sequence gets onError with IllegalArgumentException, one the
+	 * ring has already overwritten onError with MissedEventsException, both right away.
+	 */
+	public void subscribe(Flow.Subscriber<? super List<WorldChangeEvent>> subscriber, long sequence) {
+		LogSubscription subscription = new LogSubscription(subscriber, sequence);
+		long available = head;
+		RuntimeException invalid = null;
+		if (sequence < 0)
+			invalid = new IllegalArgumentException("Sequence " + sequence + " is negative");
+		else if (sequence > available)
+			invalid = new IllegalArgumentException("Sequence " + sequence + " has not been logged yet");
+		else if (sequence < available - ring.length)
+			invalid = new MissedEventsException(sequence, oldestSequence());
+		if (invalid != null) {
+			// cancelled before onSubscribe, so a request() from it never starts a delivery
+			subscription.cancelled = true;
+			subscriber.onSubscribe(subscription);
+			subscriber.onError(invalid);
+			return;
+		}
+		subscriber.onSubscribe(subscription);
+		subscriptions.add(subscription);
+		subscription.signal();
+	}
+
+	// stops logging, subscribers are completed once they have seen everything logged so far
+	public void close() {
+		if (dao != null)
+			dao.removeChangeListener(this);
+		closed = true;
+		for (LogSubscription subscription : subscriptions)
+			subscription.signal();
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// WorldChangeListener
+
+	@Override
+	public void cityAdded(City city) {
+		append(WorldChangeEvent.Kind.CITY_ADDED, null, city, null, null);
+	}
+
+	@Override
+	public void cityUpdated(City previous, City current) {
+		append(WorldChangeEvent.Kind.CITY_UPDATED, previous, current, null, null);
+	}
+
+	@Override
+	public void cityRemoved(City city) {
+		append(WorldChangeEvent.Kind.CITY_REMOVED, city, null, null, null);
+	}
+
+	@Override
+	public void countryAdded(Country country) {
+		append(WorldChangeEvent.Kind.COUNTRY_ADDED, null, null, null, country);
+	}
+
+	@Override
+	public void countryUpdated(Country previous, Country current) {
+		append(WorldChangeEvent.Kind.COUNTRY_UPDATED, null, null, previous, current);
+	}
+
+	@Override
+	public void countryRemoved(Country country) {
+		append(WorldChangeEvent.Kind.COUNTRY_REMOVED, null, null, country, null);
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	private void append(WorldChangeEvent.Kind kind, City previousCity, City city, Country previousCountry,
+			Country country) {
+		if (closed)
+			return;
+		// a few stores under the lock, the subscribers never take it
+		synchronized (this) {
+			long sequence = head;
+			ring[(int) sequence & mask] = new WorldChangeEvent(sequence, kind, previousCity, city, previousCountry,
+					country);
+			head = sequence + 1;
+		}
+		for (LogSubscription subscription : subscriptions)
+			if (subscription.demand.get() > 0)
+				subscription.signal();
+	}
+
+	private final class LogSubscription implements Flow.Subscription {
+		final Flow.Subscriber<? super List<WorldChangeEvent>> subscriber;
+		final AtomicLong demand = new AtomicLong();
+		// drain() runs while this is non zero, at most one at a time
+		final AtomicInteger work = new AtomicInteger();
+		// next sequence to deliver, only touched by drain()
+		long cursor;
+		volatile boolean cancelled;
+
+		LogSubscription(Flow.Subscriber<? super List<WorldChangeEvent>> subscriber, long cursor) {
+			this.subscriber = subscriber;
+			this.cursor = cursor;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				fail(new IllegalArgumentException("request must be positive, got " + n));
+				return;
+			}
+			demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+			signal();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			subscriptions.remove(this);
+		}
+
+		void signal() {
+			if (work.getAndIncrement() == 0)
+				executor.execute(this::drain);
+		}
+
+		private void drain() {
+			int missed = 1;
+			do {
+				while (!cancelled && demand.get() > 0) {
+					long available = head;
+					if (cursor < available - ring.length) {
+						fail(new MissedEventsException(cursor, oldestSequence()));
+						return;
+					}
+					if (cursor == available)
+						break;
+					List<WorldChangeEvent> batch = batch(Math.min(available - cursor, maxBatch));
+					if (batch == null)
+						continue;
+					demand.decrementAndGet();
+					try {
+						subscriber.onNext(batch);
+					} catch (RuntimeException e) {
+						fail(e);
+						return;
+					}
+				}
+				if (!cancelled && closed && cursor == head) {
+					cancel();
+					subscriber.onComplete();
+					return;
+				}
+				missed = work.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		// null when a writer lapped us while copying, the next round reports it as missed
+		private List<WorldChangeEvent> batch(long count) {
+			WorldChangeEvent[] events = new WorldChangeEvent[(int) count];
+			for (int i = 0; i < events.length; i++) {
+				WorldChangeEvent event = ring[(int) (cursor + i) & mask];
+				if (event.getSequence() != cursor + i)
+					return null;
+				events[i] = event;
+			}
+			cursor += events.length;
+			return Collections.unmodifiableList(Arrays.asList(events));
+		}
+
+		private void fail(Throwable failure) {
+			cancel();
+			subscriber.onError(failure);
+		}
+	}
+}
@@ -1,6 +1,82 @@
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 
 
 public interface WorldDao extends CountryDao,CityDao {
+	/*
+	 * By population, so the top city is the most populated one. A RemoteWorldDao recognizes this instance in topCityByCountry
+	 * and topCityByContinent and has its shard run the aggregation; any other comparator
+	 * pulls every city over the wire.
+	 */
+	Comparator<City> BY_POPULATION = Comparator.comparingInt(City::getPopulation);
 
+	/*
+	 * The best city of every group (e.g. the most populated city per continent) in one
+	 * parallel pass over the cities, without collecting a list per group first. Cities
+	 * whose key is null are left out.
+	 */
+	default <K> Map<K, City> topCityBy(Function<? super City, ? extends K> groupingKey,
+			Comparator<? super City> comparator) {
+		return reduceTopCity(findAllCities().parallelStream(), groupingKey, comparator);
+	}
+
+	default Map<String, City> topCityByCountry(Comparator<? super City> comparator) {
+		return topCityBy(City::getCountryCode, comparator);
+	}
+
+	default Map<String, City> topCityByContinent(Comparator<? super City> comparator) {
+		String[] continents = continentsByCountryOrdinal(findAllCountries());
+		return topCityBy(city -> {
+			int country = city.getCountryOrdinal();
+			return country >= 0 && country < continents.length ? continents[country] : null;
+		}, comparator);
+	}
+
+	/*
+	 * Population analytics. These defaults stream the cities; InMemoryWorldDao and
+	 * WorldSnapshot answer them, and topCityByCountry / topCityByContinent with
+	 * BY_POPULATION, from PopulationColumns with the kernels WorldDaoBuilder.kernels()
+	 * gave them, PopulationKernels.preferred() unless it was called.
+	 */
+	default City findMostPopulatedCity() {
+		return streamCities().reduce(BinaryOperator.maxBy(BY_POPULATION)).orElse(null);
+	}
+
+	default long sumCityPopulation() {
+		return streamCities().mapToLong(City::getPopulation).sum();
+	}
+
+	default int countCitiesByPopulationRange(int minPopulation, int maxPopulation) {
+		return (int) streamCities().filter(c -> c.getPopulation() >= minPopulation && c.getPopulation() <= maxPopulation)
+				.count();
+	}
+
+	// continent per country ordinal, an array load per city instead of a map lookup
+	static String[] continentsByCountryOrdinal(Iterable<Country> countries) {
+		String[] continents = new String[CodeTable.COUNTRY_CODES.size()];
+		for (Country country : countries)
+			if (country.getCodeOrdinal() >= 0 && country.getCodeOrdinal() < continents.length)
+				continents[country.getCodeOrdinal()] = country.getContinent();
+		return continents;
+	}
+
+	/*
+	 * Each split of the stream reduces into its own small map and the maps are merged
+	 * pairwise. groupingByConcurrent would have every thread fight over the same handful
+	 * of keys (there are 7 continents).
+	 */
+	static <K> Map<K, City> reduceTopCity(Stream<City> cities, Function<? super City, ? extends K> groupingKey,
+			Comparator<? super City> comparator) {
+		BinaryOperator<City> best = BinaryOperator.maxBy(comparator);
+		return cities.collect(() -> new HashMap<K, City>(), (map, city) -> {
+			K key = groupingKey.apply(city);
+			if (key != null)
+				map.merge(key, city, best);
+		}, (left, right) -> right.forEach((key, city) -> left.merge(key, city, best)));
+	}
 }
@@ -0,0 +1,145 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * Creates independent dao instances, for when InMemoryWorldDao.getInstance() (one
+ * process wide copy of the default files) is not what you want: a test or benchmark
+ * dataset, one dao per tenant, or the same data on a different storage engine.
+ *
+ *   WorldDao world = new WorldDaoBuilder().files(countries, cities).build();
+ *   WorldDao mapped = new WorldDaoBuilder().storage(Storage.MAPPED).snapshotFile(path).build();
+ *   WorldDao scalar = new WorldDaoBuilder().kernels(PopulationKernels.scalar()).build();
+ *
+ * Nothing is shared between the daos a builder creates, except what is handed to
+ * data(), which then belongs to that one dao.
+ */
+public final class WorldDaoBuilder {
+
+	public enum Storage {
+		// InMemoryWorldDao: mutable, listeners, snapshots
+		IN_MEMORY,
+		// MappedWorldDao over a WorldSnapshotFile: read-only, off heap
+		MAPPED
+	}
+
+	private String countriesFile = WorldDataLoader.COUNTRIES_FILE;
+	private String citiesFile = WorldDataLoader.CITIES_FILE;
+	private Path countriesPath;
+	private Path citiesPath;
+	private Map<String, Country> countries;
+	private Map<Integer, City> cities;
+	private Storage storage = Storage.IN_MEMORY;
+	private Path snapshotFile;
+	// package private for WorldWriteAheadLog, which rebuilds the dao with them
+	PopulationKernels kernels = PopulationKernels.preferred();
+
+	// data files looked up like the defaults: working directory first, then the classpath
+	public WorldDaoBuilder resources(String countriesFile, String citiesFile) {
+		clearSource();
+		this.countriesFile = Objects.requireNonNull(countriesFile, "countriesFile");
+		this.citiesFile = Objects.requireNonNull(citiesFile, "citiesFile");
+		return this;
+	}
+
+	public WorldDaoBuilder files(Path countriesPath, Path citiesPath) {
+		clearSource();
+		// a null path would quietly fall back to the default file
+		this.countriesPath = Objects.requireNonNull(countriesPath, "countriesPath");
+		this.citiesPath = Objects.requireNonNull(citiesPath, "citiesPath");
+		return this;
+	}
+
+	// the dao takes ownership of the maps (copied unless concurrent) and objects, do not hand one Country to two daos
+	public WorldDaoBuilder data(Map<String, Country> countries, Map<Integer, City> cities) {
+		clearSource();
+		this.countries = Objects.requireNonNull(countries, "countries");
+		this.cities = Objects.requireNonNull(cities, "cities");
+		return this;
+	}
+
+	public WorldDaoBuilder storage(Storage storage) {
+		// a null storage would quietly build MAPPED
+		this.storage = Objects.requireNonNull(storage, "storage");
+		return this;
+	}
+
+	/*
+	 * Where MAPPED storage keeps its file. An existing snapshot is mapped as is and the
+	 * data source is ignored; otherwise the source is loaded and written there first.
+	 * Without one the snapshot goes to a temporary file.
+	 */
+	public WorldDaoBuilder snapshotFile(Path snapshotFile) {
+		this.snapshotFile = snapshotFile;
+		return this;
+	}
+
+	/*
+	 * The loops IN_MEMORY population analytics run on, for this dao and its snapshots.
+	 * PopulationKernels.preferred() (the world.kernels system property) by default.
+	 */
+	public WorldDaoBuilder kernels(PopulationKernels kernels) {
+		this.kernels = Objects.requireNonNull(kernels, "kernels");
+		return this;
+	}
+
+	public WorldDao build() {
+		if (storage == Storage.IN_MEMORY)
+			return buildInMemory();
+		try {
+			return buildMapped();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// always in memory, whatever storage() says
+	public InMemoryWorldDao buildInMemory() {
+		if (this.countries != null)
+			return new InMemoryWorldDao(concurrent(this.countries), concurrent(this.cities), kernels);
+		Map<String, Country> countries = new ConcurrentHashMap<>();
+		Map<Integer, City> cities = new ConcurrentHashMap<>();
+		try (InputStream in = countriesPath != null ? WorldDataLoader.open(countriesPath)
+				: WorldDataLoader.open(countriesFile)) {
+			WorldDataLoader.loadCountries(in, countries);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		try (InputStream in = citiesPath != null ? WorldDataLoader.open(citiesPath)
+				: WorldDataLoader.open(citiesFile)) {
+			WorldDataLoader.loadCities(in, cities, countries);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return new InMemoryWorldDao(countries, cities, kernels);
+	}
+
+	private static <K, V> Map<K, V> concurrent(Map<K, V> map) {
+		return map instanceof ConcurrentMap ? map : new ConcurrentHashMap<>(map);
+	}
+
+	public MappedWorldDao buildMapped() throws IOException {
+		Path path = snapshotFile;
+		if (path == null) {
+			path = Files.createTempFile("world", ".snapshot");
+			path.toFile().deleteOnExit();
+			buildInMemory().writeSnapshot(path);
+		} else if (!Files.exists(path)) {
+			buildInMemory().writeSnapshot(path);
+		}
+		return new MappedWorldDao(path);
+	}
+
+	private void clearSource() {
+		countriesPath = null;
+		citiesPath = null;
+		countries = null;
+		cities = null;
+	}
+}
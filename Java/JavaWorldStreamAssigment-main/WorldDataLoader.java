@@ -0,0 +1,312 @@
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Streams Cities.txt / Countries.txt into the dao maps, one line at a time.
+ *
+ * Cities    (version 1): id, name, population, countryCode
+ * Cities    (version 2): id, name, population, countryCode, latitude, longitude
+ * Countries (version 1): code, name, population
+ * Countries (version 2): code, name, continent, population, surfaceArea, gnp, capital
+ *
+ * A file may start with a "# version <n>" line, without it version 1 is assumed.
+ * An empty countryCode or continent field stands for none (null), as WorldExporter writes it.
+ * Names can contain ", " themselves (e.g. "Congo, The Democratic Republic of the"),
+ * so the fixed fields are read from both ends of the line and the name is what is left.
+ *
+ * Lines are parsed straight from the byte buffer: no String per line, no split(),
+ * only the name (and a new country code) become Strings.
+ */
+public final class WorldDataLoader {
+	public static final String CITIES_FILE = "Cities.txt";
+	public static final String COUNTRIES_FILE = "Countries.txt";
+
+	private static final byte[] VERSION_HEADER = "# version ".getBytes(StandardCharsets.US_ASCII);
+
+	private WorldDataLoader() {
+	}
+
+	public static int loadCountries(InputStream in, Map<String, Country> countries) throws IOException {
+		Lines lines = new Lines(in);
+		int version = 1;
+		int count = 0;
+		while (lines.next()) {
+			if (lines.isEmpty())
+				continue;
+			if (lines.startsWith(VERSION_HEADER)) {
+				version = lines.parseInt(lines.start + VERSION_HEADER.length, lines.end);
+				continue;
+			}
+			Country country = version >= 2 ? parseCountryV2(lines) : parseCountryV1(lines);
+			// its cities below share the code it registers
+			country.registerCodes();
+			countries.put(country.getCode(), country);
+			count++;
+		}
+		return count;
+	}
+
+	public static int loadCities(InputStream in, Map<Integer, City> cities, Map<String, Country> countries)
+			throws IOException {
+		Lines lines = new Lines(in);
+		int version = 1;
+		String lastCode = null;
+		int count = 0;
+		while (lines.next()) {
+			if (lines.isEmpty())
+				continue;
+			if (lines.startsWith(VERSION_HEADER)) {
+				version = lines.parseInt(lines.start + VERSION_HEADER.length, lines.end);
+				continue;
+			}
+			int idEnd = lines.field(lines.start);
+			int codeEnd = lines.end;
+			double latitude = Double.NaN;
+			double longitude = Double.NaN;
+			if (version >= 2) {
+				int longitudeStart = lines.lastField(lines.end);
+				int latitudeStart = lines.lastField(longitudeStart - 2);
+				latitude = lines.parseDouble(latitudeStart, longitudeStart - 2);
+				longitude = lines.parseDouble(longitudeStart, lines.end);
+				if (!(Double.isNaN(latitude) && Double.isNaN(longitude))
+						&& !(latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180))
+					throw lines.malformed();
+				codeEnd = latitudeStart - 2;
+			}
+			int codeStart = lines.lastField(codeEnd);
+			int populationStart = lines.lastField(codeStart - 2);
+
+			int id = lines.parseInt(lines.start, idEnd);
+			String name = lines.string(idEnd + 2, populationStart - 2);
+			int population = lines.parseInt(populationStart, codeStart - 2);
+			String code = null;
+			if (codeStart < codeEnd) {
+				// cities come grouped by country, so the previous code is almost always the right one
+				if (lastCode == null || !lines.equals(codeStart, codeEnd, lastCode))
+					lastCode = sharedCode(lines.string(codeStart, codeEnd), countries);
+				code = lastCode;
+			}
+			cities.put(id, new City(id, name, code, population, latitude, longitude));
+			count++;
+		}
+		return count;
+	}
+
+	/*
+	 * Looks the data file up in the working directory first, then on the classpath,
+	 * then in the directory the classes were loaded from and the ones above it, so
+	 * the sources' copy is found from out/ or bin/ whatever the working directory.
+	 * FileInputStream rather than Files.newInputStream or a resource URL: loading the
+	 * channel / URL classes alone costs more than parsing the file at startup.
+	 */
+	public static InputStream open(String fileName) throws IOException {
+		File file = new File(fileName);
+		if (file.isFile())
+			return new FileInputStream(file);
+		InputStream resource = WorldDataLoader.class.getResourceAsStream("/".concat(fileName));
+		if (resource != null)
+			return resource;
+		Set<File> tried = new LinkedHashSet<>();
+		tried.add(file.getAbsoluteFile());
+		for (File directory = classLocation(); directory != null; directory = directory.getParentFile()) {
+			file = new File(directory, fileName);
+			if (file.isFile())
+				return new FileInputStream(file);
+			tried.add(file);
+		}
+		throw new FileNotFoundException(fileName + " is neither on the classpath nor at " + tried);
+	}
+
+	public static InputStream open(Path path) throws IOException {
+		return new FileInputStream(path.toFile());
+	}
+
+	// the directory of the .class files, or the one holding their jar; null when that is not a local file
+	private static File classLocation() {
+		try {
+			CodeSource source = WorldDataLoader.class.getProtectionDomain().getCodeSource();
+			if (source == null || source.getLocation() == null || !"file".equals(source.getLocation().getProtocol()))
+				return null;
+			File location = new File(source.getLocation().toURI());
+			return location.isDirectory() ? location : location.getParentFile();
+		} catch (URISyntaxException | SecurityException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static Country parseCountryV1(Lines lines) {
+		int codeEnd = lines.field(lines.start);
+		int populationStart = lines.lastField(lines.end);
+		String code = lines.string(lines.start, codeEnd);
+		String name = lines.string(codeEnd + 2, populationStart - 2);
+		int population = lines.parseInt(populationStart, lines.end);
+		return new Country(code, name, null, population, 0, 0, 0);
+	}
+
+	private static Country parseCountryV2(Lines lines) {
+		int codeEnd = lines.field(lines.start);
+		int capitalStart = lines.lastField(lines.end);
+		int gnpStart = lines.lastField(capitalStart - 2);
+		int surfaceStart = lines.lastField(gnpStart - 2);
+		int populationStart = lines.lastField(surfaceStart - 2);
+		int continentStart = lines.lastField(populationStart - 2);
+
+		String code = lines.string(lines.start, codeEnd);
+		String name = lines.string(codeEnd + 2, continentStart - 2);
+		String continent = continentStart < populationStart - 2
+				? lines.string(continentStart, populationStart - 2)
+				: null;
+		int population = lines.parseInt(populationStart, surfaceStart - 2);
+		double surfaceArea = lines.parseDouble(surfaceStart, gnpStart - 2);
+		double gnp = lines.parseDouble(gnpStart, capitalStart - 2);
+		int capital = lines.parseInt(capitalStart, lines.end);
+		return new Country(code, name, continent, population, surfaceArea, gnp, capital);
+	}
+
+	// cities of one country share the code string already held by the country
+	private static String sharedCode(String code, Map<String, Country> countries) {
+		Country country = countries.get(code);
+		return country != null ? country.getCode() : code;
+	}
+
+	/*
+	 * Reads the stream in chunks and hands out one line at a time as [start, end)
+	 * inside buf. Fields are separated by ", " (two bytes).
+	 */
+	private static final class Lines {
+		private final InputStream in;
+		private byte[] buf = new byte[8192];
+		private int pos;
+		private int limit;
+		private int lineNumber;
+		int start;
+		int end;
+
+		Lines(InputStream in) {
+			this.in = in;
+		}
+
+		boolean next() throws IOException {
+			int scan = pos;
+			while (true) {
+				for (int i = scan; i < limit; i++) {
+					if (buf[i] == '\n') {
+						setLine(pos, i);
+						pos = i + 1;
+						return true;
+					}
+				}
+				if (pos > 0) {
+					System.arraycopy(buf, pos, buf, 0, limit - pos);
+					limit -= pos;
+					pos = 0;
+				}
+				scan = limit;
+				if (limit == buf.length)
+					buf = Arrays.copyOf(buf, buf.length * 2);
+				int read = in.read(buf, limit, buf.length - limit);
+				if (read < 0) {
+					if (pos == limit)
+						return false;
+					setLine(pos, limit);
+					pos = limit;
+					return true;
+				}
+				limit += read;
+			}
+		}
+
+		private void setLine(int from, int to) {
+			lineNumber++;
+			start = from;
+			end = to > from && buf[to - 1] == '\r' ? to - 1 : to;
+		}
+
+		boolean isEmpty() {
+			return start == end;
+		}
+
+		boolean startsWith(byte[] prefix) {
+			if (end - start < prefix.length)
+				return false;
+			for (int i = 0; i < prefix.length; i++)
+				if (buf[start + i] != prefix[i])
+					return false;
+			return true;
+		}
+
+		// end of the field starting at from
+		int field(int from) {
+			for (int i = from; i + 1 < end; i++)
+				if (buf[i] == ',' && buf[i + 1] == ' ')
+					return i;
+			throw malformed();
+		}
+
+		// start of the field ending at to
+		int lastField(int to) {
+			for (int i = to - 2; i >= start; i--)
+				if (buf[i] == ',' && buf[i + 1] == ' ')
+					return i + 2;
+			throw malformed();
+		}
+
+		int parseInt(int from, int to) {
+			while (from < to && buf[from] == ' ')
+				from++;
+			boolean negative = from < to && buf[from] == '-';
+			if (negative)
+				from++;
+			if (from >= to)
+				throw malformed();
+			int value = 0;
+			for (int i = from; i < to; i++) {
+				int digit = buf[i] - '0';
+				if (digit < 0 || digit > 9)
+					throw malformed();
+				value = value * 10 + digit;
+			}
+			return negative ? -value : value;
+		}
+
+		double parseDouble(int from, int to) {
+			try {
+				return Double.parseDouble(new String(buf, from, to - from, StandardCharsets.US_ASCII));
+			} catch (NumberFormatException e) {
+				throw malformed();
+			}
+		}
+
+		String string(int from, int to) {
+			if (from > to)
+				throw malformed();
+			return new String(buf, from, to - from, StandardCharsets.UTF_8);
+		}
+
+		// ASCII compare, only used for country codes
+		boolean equals(int from, int to, String value) {
+			if (to - from != value.length())
+				return false;
+			for (int i = 0; i < value.length(); i++)
+				if (buf[from + i] != value.charAt(i))
+					return false;
+			return true;
+		}
+
+		IllegalArgumentException malformed() {
+			return new IllegalArgumentException("Malformed line " + lineNumber + ": "
+					+ new String(buf, start, end - start, StandardCharsets.UTF_8));
+		}
+	}
+}
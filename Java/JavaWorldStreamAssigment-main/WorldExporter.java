@@ -0,0 +1,481 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/*
+ * Bulk export of cities and countries, encoded straight to bytes and written from
+ * a reusable direct buffer through a FileChannel: no Writer, no String per record, always UTF-8
+ * and \n line ends whatever the platform.
+ *
+ *   TEXT        the Cities.txt / Countries.txt format WorldDataLoader reads back
+ *   CSV         RFC 4180 with a header row, names quoted when they need it
+ *   JSON_LINES  one JSON object per line
+ *   SNAPSHOT    WorldSnapshotFile, for MappedWorldDao
+ *
+ * Every export goes to a temporary file next to the target and is renamed over it
+ * once complete, so a reader sees the old file or the new one, never half of one.
+ * Any failure (close and force included) is thrown and leaves the target untouched.
+ *
+ * One exporter reuses its buffers across exports and is not thread safe.
+ */
+public final class WorldExporter {
+
+	public enum Format {
+		TEXT, CSV, JSON_LINES, SNAPSHOT
+	}
+
+	private static final int BUFFER_BYTES = 1 << 16;
+	// one char encodes to at most 4 UTF-8 bytes
+	private static final int MAX_CHAR_BYTES = 4;
+	private static final byte[] DIGIT_PAIRS = new byte[200];
+	private static final byte[] NO_INPUT = new byte[0];
+
+	static {
+		for (int i = 0; i < 100; i++) {
+			DIGIT_PAIRS[2 * i] = (byte) ('0' + i / 10);
+			DIGIT_PAIRS[2 * i + 1] = (byte) ('0' + i % 10);
+		}
+	}
+
+	private final Format format;
+	private final boolean gzip;
+	private final byte[] records = new byte[BUFFER_BYTES];
+	private int length;
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+	private ByteBuffer compressed;
+
+	private FileChannel channel;
+	private Deflater deflater;
+	private CRC32 crc;
+	private long written;
+
+	public WorldExporter(Format format) {
+		this(format, false);
+	}
+
+	public WorldExporter(Format format, boolean gzip) {
+		if (gzip && format == Format.SNAPSHOT)
+			throw new IllegalArgumentException("A snapshot has to stay mappable, it cannot be gzipped");
+		this.format = format;
+		this.gzip = gzip;
+	}
+
+	public Format getFormat() {
+		return format;
+	}
+
+	// bytes written to disk by the last export (after compression), 0 for SNAPSHOT
+	public long bytesWritten() {
+		return written;
+	}
+
+	public void exportCities(Collection<City> cities, Path path) throws IOException {
+		if (format == Format.SNAPSHOT) {
+			WorldSnapshotFile.write(new ArrayList<>(), cities, path);
+			return;
+		}
+		Path temp = open(path);
+		try {
+			if (format == Format.TEXT)
+				ascii("# version 2\n");
+			else if (format == Format.CSV)
+				ascii("id,name,population,countryCode,latitude,longitude\n");
+			for (City city : cities)
+				city(city);
+			close(temp, path);
+		} catch (IOException | RuntimeException | Error e) {
+			abort(temp, e);
+			throw e;
+		}
+	}
+
+	public void exportCountries(Collection<Country> countries, Path path) throws IOException {
+		if (format == Format.SNAPSHOT) {
+			WorldSnapshotFile.write(countries, new ArrayList<>(), path);
+			return;
+		}
+		Path temp = open(path);
+		try {
+			if (format == Format.TEXT)
+				ascii("# version 2\n");
+			else if (format == Format.CSV)
+				ascii("code,name,continent,population,surfaceArea,gnp,capital\n");
+			for (Country country : countries)
+				country(country);
+			close(temp, path);
+		} catch (IOException | RuntimeException | Error e) {
+			abort(temp, e);
+			throw e;
+		}
+	}
+
+	// both halves in one file, only SNAPSHOT can hold them together
+	public void exportWorld(Collection<Country> countries, Collection<City> cities, Path path) throws IOException {
+		if (format != Format.SNAPSHOT)
+			throw new IllegalStateException(format + " keeps cities and countries in separate files");
+		WorldSnapshotFile.write(countries, cities, path);
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// records
+
+	private void city(City city) throws IOException {
+		switch (format) {
+		case TEXT:
+			integer(city.getId());
+			ascii(", ");
+			text(city.getName());
+			ascii(", ");
+			integer(city.getPopulation());
+			ascii(", ");
+			text(city.getCountryCode());
+			ascii(", ");
+			coordinate(city.getLatitude(), "NaN");
+			ascii(", ");
+			coordinate(city.getLongitude(), "NaN");
+			break;
+		case CSV:
+			integer(city.getId());
+			put((byte) ',');
+			csv(city.getName());
+			put((byte) ',');
+			integer(city.getPopulation());
+			put((byte) ',');
+			csv(city.getCountryCode());
+			put((byte) ',');
+			coordinate(city.getLatitude(), "");
+			put((byte) ',');
+			coordinate(city.getLongitude(), "");
+			break;
+		default:
+			ascii("{\"id\":");
+			integer(city.getId());
+			ascii(",\"name\":");
+			json(city.getName());
+			ascii(",\"population\":");
+			integer(city.getPopulation());
+			ascii(",\"countryCode\":");
+			json(city.getCountryCode());
+			ascii(",\"latitude\":");
+			coordinate(city.getLatitude(), "null");
+			ascii(",\"longitude\":");
+			coordinate(city.getLongitude(), "null");
+			put((byte) '}');
+		}
+		put((byte) '\n');
+	}
+
+	private void country(Country country) throws IOException {
+		switch (format) {
+		case TEXT:
+			text(country.getCode());
+			ascii(", ");
+			text(country.getName());
+			ascii(", ");
+			text(country.getContinent());
+			ascii(", ");
+			integer(country.getPopulation());
+			ascii(", ");
+			ascii(Double.toString(country.getSurfaceArea()));
+			ascii(", ");
+			ascii(Double.toString(country.getGnp()));
+			ascii(", ");
+			integer(country.getCapital());
+			break;
+		case CSV:
+			csv(country.getCode());
+			put((byte) ',');
+			csv(country.getName());
+			put((byte) ',');
+			csv(country.getContinent());
+			put((byte) ',');
+			integer(country.getPopulation());
+			put((byte) ',');
+			ascii(Double.toString(country.getSurfaceArea()));
+			put((byte) ',');
+			ascii(Double.toString(country.getGnp()));
+			put((byte) ',');
+			integer(country.getCapital());
+			break;
+		default:
+			ascii("{\"code\":");
+			json(country.getCode());
+			ascii(",\"name\":");
+			json(country.getName());
+			ascii(",\"continent\":");
+			json(country.getContinent());
+			ascii(",\"population\":");
+			integer(country.getPopulation());
+			ascii(",\"surfaceArea\":");
+			number(country.getSurfaceArea());
+			ascii(",\"gnp\":");
+			number(country.getGnp());
+			ascii(",\"capital\":");
+			integer(country.getCapital());
+			put((byte) '}');
+		}
+		put((byte) '\n');
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// encoding: records are encoded into a plain array (cheaper per byte than a direct buffer),
+	// which is copied into the direct buffer in one go when it is full
+
+	private void put(byte b) throws IOException {
+		if (length == records.length)
+			drain();
+		records[length++] = b;
+	}
+
+	private void ascii(String value) throws IOException {
+		for (int i = 0; i < value.length(); i++)
+			put((byte) value.charAt(i));
+	}
+
+	// same as String.valueOf(value) would print, without the String
+	private void integer(int value) throws IOException {
+		// "-2147483648" is the longest
+		if (records.length - length < 11)
+			drain();
+		long v = value;
+		if (v < 0) {
+			records[length++] = '-';
+			v = -v;
+		}
+		int end = length + digitCount(v);
+		int at = end;
+		while (v >= 100) {
+			int pair = (int) (v % 100) * 2;
+			v /= 100;
+			records[--at] = DIGIT_PAIRS[pair + 1];
+			records[--at] = DIGIT_PAIRS[pair];
+		}
+		if (v >= 10) {
+			records[--at] = DIGIT_PAIRS[(int) v * 2 + 1];
+			records[--at] = DIGIT_PAIRS[(int) v * 2];
+		} else {
+			records[--at] = (byte) ('0' + v);
+		}
+		length = end;
+	}
+
+	private static int digitCount(long v) {
+		int count = 1;
+		for (long limit = 10; v >= limit && count < 19; limit *= 10)
+			count++;
+		return count;
+	}
+
+	// JSON has no NaN or Infinity
+	private void number(double value) throws IOException {
+		if (Double.isNaN(value) || Double.isInfinite(value))
+			ascii("null");
+		else
+			ascii(Double.toString(value));
+	}
+
+	// City keeps coordinates as floats, printed as one they come out as short as they went in
+	private void coordinate(double value, String unknown) throws IOException {
+		ascii(Double.isNaN(value) ? unknown : Float.toString((float) value));
+	}
+
+	// null is an empty field, which WorldDataLoader reads back as a null code or continent
+	private void text(String value) throws IOException {
+		if (value != null)
+			utf8(value, 0, value.length());
+	}
+
+	private void csv(String value) throws IOException {
+		if (value == null)
+			return;
+		boolean quote = false;
+		for (int i = 0; i < value.length() && !quote; i++) {
+			char c = value.charAt(i);
+			quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+		}
+		if (!quote) {
+			utf8(value, 0, value.length());
+			return;
+		}
+		put((byte) '"');
+		int from = 0;
+		for (int i = 0; i < value.length(); i++) {
+			if (value.charAt(i) == '"') {
+				utf8(value, from, i + 1);
+				from = i;
+			}
+		}
+		utf8(value, from, value.length());
+		put((byte) '"');
+	}
+
+	private void json(String value) throws IOException {
+		if (value == null) {
+			ascii("null");
+			return;
+		}
+		put((byte) '"');
+		int from = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c >= 0x20 && c != '"' && c != '\\')
+				continue;
+			utf8(value, from, i);
+			from = i + 1;
+			put((byte) '\\');
+			switch (c) {
+			case '"':
+			case '\\':
+				put((byte) c);
+				break;
+			case '\n':
+				put((byte) 'n');
+				break;
+			case '\r':
+				put((byte) 'r');
+				break;
+			case '\t':
+				put((byte) 't');
+				break;
+			default:
+				ascii(String.format("u%04x", (int) c));
+			}
+		}
+		utf8(value, from, value.length());
+		put((byte) '"');
+	}
+
+	private void utf8(String value, int from, int to) throws IOException {
+		int i = from;
+		while (i < to) {
+			if (records.length - length < MAX_CHAR_BYTES)
+				drain();
+			// as many chars as surely fit, encoded with the position in a local
+			int chunkEnd = Math.min(to, i + (records.length - length) / MAX_CHAR_BYTES);
+			byte[] out = records;
+			int at = length;
+			for (; i < chunkEnd; i++) {
+				char c = value.charAt(i);
+				if (c < 0x80) {
+					out[at++] = (byte) c;
+				} else if (c < 0x800) {
+					out[at++] = (byte) (0xC0 | c >> 6);
+					out[at++] = (byte) (0x80 | c & 0x3F);
+				} else if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(value.charAt(i + 1))) {
+					int cp = Character.toCodePoint(c, value.charAt(++i));
+					out[at++] = (byte) (0xF0 | cp >> 18);
+					out[at++] = (byte) (0x80 | cp >> 12 & 0x3F);
+					out[at++] = (byte) (0x80 | cp >> 6 & 0x3F);
+					out[at++] = (byte) (0x80 | cp & 0x3F);
+				} else if (Character.isSurrogate(c)) {
+					// unpaired surrogate, same replacement String.getBytes(UTF_8) uses
+					out[at++] = (byte) '?';
+				} else {
+					out[at++] = (byte) (0xE0 | c >> 12);
+					out[at++] = (byte) (0x80 | c >> 6 & 0x3F);
+					out[at++] = (byte) (0x80 | c & 0x3F);
+				}
+			}
+			length = at;
+		}
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// file handling
+
+	private Path open(Path path) throws IOException {
+		Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+		channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.WRITE);
+		length = 0;
+		written = 0;
+		if (gzip) {
+			if (compressed == null)
+				compressed = ByteBuffer.allocateDirect(BUFFER_BYTES);
+			// level 1: about 5x the speed of the default level for ~10% bigger files, deflate is the bottleneck either way
+			deflater = new Deflater(Deflater.BEST_SPEED, true);
+			crc = new CRC32();
+			// gzip member header: magic, deflate, no flags, no mtime, no extra flags, unknown OS
+			compressed.clear();
+			compressed.put(new byte[] { 0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff });
+		}
+		return temp;
+	}
+
+	private void drain() throws IOException {
+		if (gzip)
+			crc.update(records, 0, length);
+		buffer.clear();
+		buffer.put(records, 0, length).flip();
+		length = 0;
+		if (gzip) {
+			deflater.setInput(buffer);
+			while (!deflater.needsInput())
+				deflate();
+			// the deflater keeps a reference to buffer, which is about to be refilled
+			deflater.setInput(NO_INPUT);
+		} else {
+			write(buffer);
+		}
+	}
+
+	private void deflate() throws IOException {
+		deflater.deflate(compressed);
+		if (!compressed.hasRemaining()) {
+			compressed.flip();
+			write(compressed);
+			compressed.clear();
+		}
+	}
+
+	private void write(ByteBuffer bytes) throws IOException {
+		while (bytes.hasRemaining())
+			written += channel.write(bytes);
+	}
+
+	private void close(Path temp, Path path) throws IOException {
+		drain();
+		if (gzip) {
+			deflater.finish();
+			while (!deflater.finished())
+				deflate();
+			// trailer: crc and length of the uncompressed data, little endian
+			ByteBuffer trailer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+			trailer.putInt((int) crc.getValue()).putInt((int) deflater.getBytesRead()).flip();
+			compressed.flip();
+			write(compressed);
+			compressed.clear();
+			write(trailer);
+			deflater.end();
+			deflater = null;
+		}
+		channel.force(false);
+		channel.close();
+		channel = null;
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private void abort(Path temp, Throwable failure) {
+		try {
+			if (channel != null)
+				channel.close();
+			Files.deleteIfExists(temp);
+		} catch (IOException e) {
+			failure.addSuppressed(e);
+		}
+		channel = null;
+		if (deflater != null) {
+			deflater.end();
+			deflater = null;
+		}
+	}
+}
@@ -0,0 +1,426 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/*
+ * Read-only JSON over HTTP for a WorldDao, on the JDK's built-in server.
+ *
+ *   GET /cities/{id}
+ *   GET /cities                          every city, streamed
+ *   GET /cities?country=EGY              cities of a country, streamed
+ *   GET /cities?prefix=cai&limit=10      name autocomplete
+ *   GET /cities?name=kairo&distance=1    names at most distance typos away
+ *   GET /cities?minPopulation=..&maxPopulation=..
+ *   GET /cities?top=10
+ *   GET /countries/{code}
+ *   GET /countries                       every country, streamed
+ *   GET /countries?continent=Asia
+ *   GET /continents
+ *   GET /exercise1 /exercise2 /exercise5
+ *
+ *   java WorldHttpServer [port]          serves InMemoryWorldDao.getInstance(), port 8080
+ *
+ * Requests run on virtual threads when the JDK has them (21 and later), found by
+ * reflection so the class still builds and runs on 17, where a fixed pool takes over.
+ * Lists are written as they are read from the dao, with chunked transfer encoding
+ * and a flush every CHUNK bytes, so a 10 million city response never sits in memory
+ * as a whole. The JSON is written by hand, objects have the same fields as
+ * WorldExporter's JSON_LINES records. limit and top go up to MAX_LIMIT and distance to
+ * MAX_DISTANCE, anything else is a 400 rather than a result the size of the world.
+ */
+public final class WorldHttpServer implements Closeable {
+	private static final int CHUNK = 16 * 1024;
+	private static final int BACKLOG = 4096;
+	private static final int MAX_LIMIT = 1000;
+	private static final int MAX_DISTANCE = 3;
+
+	private final WorldDao dao;
+	private final HttpServer server;
+	private final ExecutorService executor;
+
+	private WorldHttpServer(WorldDao dao, HttpServer server, ExecutorService executor) {
+		this.dao = dao;
+		this.server = server;
+		this.executor = executor;
+	}
+
+	public static void main(String[] args) throws IOException {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+		WorldHttpServer server = start(InMemoryWorldDao.getInstance(), new InetSocketAddress(port));
+		System.out.println("Serving on port " + server.getPort() + " with " + (virtualThreads() ? "virtual threads"
+				: "a pool of " + poolSize() + " threads"));
+	}
+
+	// port 0 picks a free one, see getPort
+	public static WorldHttpServer start(WorldDao dao, InetSocketAddress address) throws IOException {
+		HttpServer server = HttpServer.create(address, BACKLOG);
+		ExecutorService executor = newExecutor();
+		WorldHttpServer world = new WorldHttpServer(dao, server, executor);
+		server.createContext("/", world::handle);
+		server.setExecutor(executor);
+		server.start();
+		return world;
+	}
+
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	// stops accepting, gives running requests a second to finish
+	@Override
+	public void close() {
+		server.stop(1);
+		executor.shutdown();
+		try {
+			executor.awaitTermination(1, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	private static boolean virtualThreads() {
+		try {
+			Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return Runtime.version().feature() >= 21;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	private static int poolSize() {
+		return Math.max(16, 8 * Runtime.getRuntime().availableProcessors());
+	}
+
+	// 19 and 20 have the method too, but only behind --enable-preview
+	private static ExecutorService newExecutor() {
+		if (virtualThreads()) {
+			try {
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			} catch (ReflectiveOperationException | UnsupportedOperationException e) {
+				// fall through to the pool
+			}
+		}
+		return Executors.newFixedThreadPool(poolSize());
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			if (!"GET".equals(exchange.getRequestMethod())) {
+				error(exchange, 405, "Only GET is supported");
+				return;
+			}
+			URI uri = exchange.getRequestURI();
+			String[] path = uri.getPath().split("/");
+			Map<String, String> query = query(uri.getRawQuery());
+			String resource = path.length > 1 ? path[1] : "";
+			String key = path.length > 2 ? path[2] : null;
+			if (path.length > 3) {
+				error(exchange, 404, "No such resource: " + uri.getPath());
+				return;
+			}
+			switch (resource) {
+			case "cities":
+				cities(exchange, key, query);
+				break;
+			case "countries":
+				countries(exchange, key, query);
+				break;
+			case "continents":
+				continents(exchange);
+				break;
+			case "exercise1":
+				cityList(exchange, Exercise1.maxCityPerCountry(dao));
+				break;
+			case "exercise2":
+				cityList(exchange, Exercise2.maxCityPerContinent(dao));
+				break;
+			case "exercise5":
+				one(exchange, json -> json.city(Exercise5.highestPopulatedCapital(dao, dao)));
+				break;
+			default:
+				error(exchange, 404, "No such resource: " + uri.getPath());
+			}
+		} catch (NumberFormatException e) {
+			error(exchange, 400, "Not a number: " + e.getMessage());
+		} catch (BadRequest e) {
+			error(exchange, 400, e.getMessage());
+		} catch (IOException e) {
+			// the client went away mid response, nothing left to tell it
+		} catch (RuntimeException e) {
+			error(exchange, 500, String.valueOf(e));
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private void cities(HttpExchange exchange, String id, Map<String, String> query) throws IOException {
+		if (id != null) {
+			City city = dao.findCityById(Integer.parseInt(id));
+			if (city == null)
+				error(exchange, 404, "No city " + id);
+			else
+				one(exchange, json -> json.city(city));
+			return;
+		}
+		int limit = bounded(query, "limit", 10, MAX_LIMIT);
+		if (query.containsKey("country"))
+			stream(exchange, dao.streamCitiesByCountryCode(query.get("country")), Json::city);
+		else if (query.containsKey("prefix"))
+			cityList(exchange, dao.findCitiesByNamePrefix(query.get("prefix"), limit));
+		else if (query.containsKey("name"))
+			cityList(exchange, dao.findCitiesByNameFuzzy(query.get("name"),
+					bounded(query, "distance", 1, MAX_DISTANCE), limit));
+		else if (query.containsKey("top"))
+			cityList(exchange, dao.topCities(bounded(query, "top", 10, MAX_LIMIT)));
+		else if (query.containsKey("minPopulation") || query.containsKey("maxPopulation"))
+			cityList(exchange, dao.findCitiesByPopulationRange(
+					Integer.parseInt(query.getOrDefault("minPopulation", "0")),
+					Integer.parseInt(query.getOrDefault("maxPopulation", String.valueOf(Integer.MAX_VALUE)))));
+		else
+			stream(exchange, dao.streamCities(), Json::city);
+	}
+
+	private void countries(HttpExchange exchange, String code, Map<String, String> query) throws IOException {
+		if (code != null) {
+			Country country = dao.findCountryByCode(code);
+			if (country == null)
+				error(exchange, 404, "No country " + code);
+			else
+				one(exchange, json -> json.country(country));
+		} else if (query.containsKey("continent")) {
+			stream(exchange, dao.streamCountriesByContinent(query.get("continent")), Json::country);
+		} else {
+			stream(exchange, dao.streamCountries(), Json::country);
+		}
+	}
+
+	private void continents(HttpExchange exchange) throws IOException {
+		Collection<String> continents = dao.getAllContinents();
+		stream(exchange, continents.stream(), Json::string);
+	}
+
+	private void cityList(HttpExchange exchange, Collection<City> cities) throws IOException {
+		stream(exchange, cities.stream(), Json::city);
+	}
+
+	// the parameter as an int from 0 to max, the dao is never asked for more than that
+	private static int bounded(Map<String, String> query, String name, int byDefault, int max) {
+		String raw = query.get(name);
+		int value = raw == null ? byDefault : Integer.parseInt(raw);
+		if (value < 0 || value > max)
+			throw new BadRequest(name + " must be between 0 and " + max + ", not " + value);
+		return value;
+	}
+
+	private static final class BadRequest extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		BadRequest(String message) {
+			super(message);
+		}
+	}
+
+	private interface Element<T> {
+		void write(Json json, T value) throws IOException;
+	}
+
+	private interface Body {
+		void write(Json json) throws IOException;
+	}
+
+	// small answers go out in one piece with a Content-Length
+	private static void one(HttpExchange exchange, Body body) throws IOException {
+		Json json = new Json(null);
+		body.write(json);
+		byte[] bytes = json.toBytes();
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, bytes.length);
+		exchange.getResponseBody().write(bytes);
+	}
+
+	// a JSON array, chunked and flushed as it fills up
+	private static <T> void stream(HttpExchange exchange, Stream<T> values, Element<? super T> element)
+			throws IOException {
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, 0);
+		Json json = new Json(exchange.getResponseBody());
+		json.raw('[');
+		Iterator<T> iterator = values.iterator();
+		for (boolean first = true; iterator.hasNext(); first = false) {
+			if (!first)
+				json.raw(',');
+			element.write(json, iterator.next());
+		}
+		json.raw(']');
+		json.flush();
+	}
+
+	private static void error(HttpExchange exchange, int status, String message) {
+		try {
+			Json json = new Json(null);
+			json.raw("{\"error\":");
+			json.string(message);
+			json.raw('}');
+			byte[] bytes = json.toBytes();
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(status, bytes.length);
+			exchange.getResponseBody().write(bytes);
+		} catch (IOException | IllegalStateException e) {
+			// headers already sent or the client is gone, closing the exchange is all that is left
+		}
+	}
+
+	private static Map<String, String> query(String raw) {
+		Map<String, String> parameters = new HashMap<>();
+		if (raw == null)
+			return parameters;
+		for (String pair : raw.split("&")) {
+			int equals = pair.indexOf('=');
+			String name = equals < 0 ? pair : pair.substring(0, equals);
+			String value = equals < 0 ? "" : pair.substring(equals + 1);
+			parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+					URLDecoder.decode(value, StandardCharsets.UTF_8));
+		}
+		return parameters;
+	}
+
+	/*
+	 * Appends JSON text and, when it has an output, hands it on every CHUNK chars.
+	 * Without one it just collects, for toBytes.
+	 */
+	private static final class Json {
+		private final OutputStream out;
+		private final StringBuilder text = new StringBuilder(CHUNK + 256);
+
+		Json(OutputStream out) {
+			this.out = out;
+		}
+
+		void city(City city) throws IOException {
+			if (city == null) {
+				raw("null");
+				return;
+			}
+			raw("{\"id\":");
+			text.append(city.getId());
+			raw(",\"name\":");
+			string(city.getName());
+			raw(",\"population\":");
+			text.append(city.getPopulation());
+			raw(",\"countryCode\":");
+			string(city.getCountryCode());
+			if (city.hasLocation()) {
+				raw(",\"latitude\":");
+				text.append((float) city.getLatitude());
+				raw(",\"longitude\":");
+				text.append((float) city.getLongitude());
+			}
+			raw('}');
+			spill();
+		}
+
+		void country(Country country) throws IOException {
+			raw("{\"code\":");
+			string(country.getCode());
+			raw(",\"name\":");
+			string(country.getName());
+			raw(",\"continent\":");
+			string(country.getContinent());
+			raw(",\"population\":");
+			text.append(country.getPopulation());
+			raw(",\"surfaceArea\":");
+			number(country.getSurfaceArea());
+			raw(",\"gnp\":");
+			number(country.getGnp());
+			raw(",\"capital\":");
+			text.append(country.getCapital());
+			raw('}');
+			spill();
+		}
+
+		void string(String value) throws IOException {
+			if (value == null) {
+				raw("null");
+				return;
+			}
+			text.append('"');
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+				switch (c) {
+				case '"':
+					text.append("\\\"");
+					break;
+				case '\\':
+					text.append("\\\\");
+					break;
+				case '\n':
+					text.append("\\n");
+					break;
+				case '\r':
+					text.append("\\r");
+					break;
+				case '\t':
+					text.append("\\t");
+					break;
+				default:
+					if (c < 0x20)
+						text.append(String.format("\\u%04x", (int) c));
+					else
+						text.append(c);
+				}
+			}
+			text.append('"');
+		}
+
+		// JSON has no NaN or Infinity
+		void number(double value) {
+			if (Double.isNaN(value) || Double.isInfinite(value))
+				text.append("null");
+			else
+				text.append(value);
+		}
+
+		void raw(String value) {
+			text.append(value);
+		}
+
+		void raw(char value) {
+			text.append(value);
+		}
+
+		byte[] toBytes() {
+			return text.toString().getBytes(StandardCharsets.UTF_8);
+		}
+
+		void flush() throws IOException {
+			if (text.length() > 0)
+				out.write(toBytes());
+			text.setLength(0);
+			out.flush();
+		}
+
+		private void spill() throws IOException {
+			if (out != null && text.length() >= CHUNK) {
+				out.write(toBytes());
+				text.setLength(0);
+			}
+		}
+	}
+}
@@ -0,0 +1,199 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/*
+ * Inner join of cities to countries on City.getCountryOrdinal() = Country.getCodeOrdinal(),
+ * the relational way instead of a findCountryByCode per city. Joined pairs are handed to
+ * a Sink one at a time, no tuple object is made per row. Cities without a country code
+ * and codes with no country are left out; a code held by two countries joins to both.
+ *
+ * Two strategies:
+ *   HASH        builds a table over the smaller side and probes it with the other. The
+ *               codes are dictionary encoded, so the table is an array indexed by
+ *               ordinal with a chain per slot, there is nothing to hash.
+ *   SORT_MERGE  sorts both sides by ordinal (packed into a long[], the sort never
+ *               touches a City) and merges them in one sequential pass. Cities that
+ *               already come in ordinal order are merged in place, nothing allocated.
+ *
+ * plan() picks by cardinality. The output order is not defined, HASH with the
+ * countries as build side keeps the order of the cities.
+ */
+public final class WorldJoin {
+	public enum Strategy {
+		HASH, SORT_MERGE
+	}
+
+	@FunctionalInterface
+	public interface Sink {
+		void accept(City city, Country country);
+	}
+
+	/*
+	 * Build sides up to this many rows go to HASH. Cities to countries always lands
+	 * there, and should: WorldJoinBenchmark has HASH 13x faster than SORT_MERGE on 10M
+	 * cities, 2x when the cities already come in country order. Only when both sides
+	 * are this large does a probe into the chains turn into a cache miss every time,
+	 * and the merge, which only reads forward, takes over.
+	 */
+	static final int HASH_BUILD_LIMIT = 1 << 20;
+
+	private WorldJoin() {
+	}
+
+	public static Strategy plan(int cityCount, int countryCount) {
+		return Math.min(cityCount, countryCount) <= HASH_BUILD_LIMIT ? Strategy.HASH : Strategy.SORT_MERGE;
+	}
+
+	// every city of the dao to its country, the strategy plan() chose
+	public static Strategy join(WorldDao dao, Sink sink) {
+		return join(dao.findAllCities(), dao.findAllCountries(), sink);
+	}
+
+	public static Strategy join(List<? extends City> cities, List<? extends Country> countries, Sink sink) {
+		Strategy strategy = plan(cities.size(), countries.size());
+		join(cities, countries, strategy, sink);
+		return strategy;
+	}
+
+	public static void join(List<? extends City> cities, List<? extends Country> countries, Strategy strategy,
+			Sink sink) {
+		if (strategy == Strategy.HASH)
+			hashJoin(cities, countries, sink);
+		else
+			sortMergeJoin(cities, countries, sink);
+	}
+
+	public static void hashJoin(List<? extends City> cities, List<? extends Country> countries, Sink sink) {
+		// the table size is read after the build side, every ordinal in it is below it
+		if (countries.size() <= cities.size()) {
+			Country[] build = registered(countries);
+			Chains chains = new Chains(CodeTable.COUNTRY_CODES.size(), build.length);
+			for (int i = 0; i < build.length; i++)
+				chains.add(build[i].getCodeOrdinal(), i);
+			for (City city : cities)
+				for (int i = chains.first(city.getCountryOrdinal()); i >= 0; i = chains.next(i))
+					sink.accept(city, build[i]);
+		} else {
+			Country[] probe = registered(countries);
+			City[] build = cities.toArray(new City[0]);
+			Chains chains = new Chains(CodeTable.COUNTRY_CODES.size(), build.length);
+			for (int i = 0; i < build.length; i++)
+				chains.add(build[i].getCountryOrdinal(), i);
+			for (Country country : probe)
+				for (int i = chains.first(country.getCodeOrdinal()); i >= 0; i = chains.next(i))
+					sink.accept(build[i], country);
+		}
+	}
+
+	public static void sortMergeJoin(List<? extends City> cities, List<? extends Country> countries, Sink sink) {
+		Country[] countryRows = registered(countries);
+		if (!(cities instanceof RandomAccess))
+			cities = new ArrayList<>(cities);
+		// cities already in country order are merged as they are, otherwise through sorted keys
+		long[] cityKeys = null;
+		int cityCount = cities.size();
+		if (!inCountryOrder(cities)) {
+			cityKeys = new long[cityCount];
+			cityCount = 0;
+			for (int i = 0; i < cityKeys.length; i++) {
+				int ordinal = cities.get(i).getCountryOrdinal();
+				if (ordinal >= 0)
+					cityKeys[cityCount++] = key(ordinal, i);
+			}
+			Arrays.sort(cityKeys, 0, cityCount);
+		}
+		long[] countryKeys = new long[countryRows.length];
+		int countryCount = 0;
+		for (int i = 0; i < countryRows.length; i++)
+			if (countryRows[i].getCodeOrdinal() >= 0)
+				countryKeys[countryCount++] = key(countryRows[i].getCodeOrdinal(), i);
+		Arrays.sort(countryKeys, 0, countryCount);
+
+		int c = 0;
+		int k = 0;
+		while (c < cityCount && k < countryCount) {
+			City city = cities.get(cityKeys == null ? c : row(cityKeys[c]));
+			int cityOrdinal = city.getCountryOrdinal();
+			int countryOrdinal = ordinal(countryKeys[k]);
+			if (cityOrdinal < countryOrdinal) {
+				c++;
+			} else if (cityOrdinal > countryOrdinal) {
+				k++;
+			} else {
+				// the run of countries with this code, usually one, then every city with it
+				int runEnd = k;
+				while (runEnd < countryCount && ordinal(countryKeys[runEnd]) == countryOrdinal)
+					runEnd++;
+				do {
+					for (int j = k; j < runEnd; j++)
+						sink.accept(city, countryRows[row(countryKeys[j])]);
+					if (++c == cityCount)
+						break;
+					city = cities.get(cityKeys == null ? c : row(cityKeys[c]));
+				} while (city.getCountryOrdinal() == cityOrdinal);
+				k = runEnd;
+			}
+		}
+	}
+
+	private static boolean inCountryOrder(List<? extends City> cities) {
+		int previous = Integer.MIN_VALUE;
+		for (int i = 0; i < cities.size(); i++) {
+			int ordinal = cities.get(i).getCountryOrdinal();
+			if (ordinal < previous)
+				return false;
+			previous = ordinal;
+		}
+		return true;
+	}
+
+	// the row index in the low half, so equal ordinals keep their input order
+	private static long key(int ordinal, int row) {
+		return (long) ordinal << 32 | row;
+	}
+
+	// the countries joined to are known ones, their codes get an ordinal if no dao gave them one yet
+	private static Country[] registered(List<? extends Country> countries) {
+		Country[] rows = countries.toArray(new Country[0]);
+		for (Country country : rows)
+			country.registerCodes();
+		return rows;
+	}
+
+	private static int ordinal(long key) {
+		return (int) (key >>> 32);
+	}
+
+	private static int row(long key) {
+		return (int) key;
+	}
+
+	// rows by ordinal as linked lists in two int arrays, a row links to the one added before it
+	private static final class Chains {
+		private final int[] heads;
+		private final int[] next;
+
+		Chains(int ordinals, int rows) {
+			heads = new int[ordinals];
+			Arrays.fill(heads, -1);
+			next = new int[rows];
+		}
+
+		void add(int ordinal, int row) {
+			if (ordinal < 0 || ordinal >= heads.length)
+				return;
+			next[row] = heads[ordinal];
+			heads[ordinal] = row;
+		}
+
+		int first(int ordinal) {
+			return ordinal < 0 || ordinal >= heads.length ? -1 : heads[ordinal];
+		}
+
+		int next(int row) {
+			return next[row];
+		}
+	}
+}
@@ -0,0 +1,157 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Wire format between RemoteWorldDao and WorldShardServer: DataOutput primitives
+ * over a plain socket, one request and one response at a time per connection.
+ *
+ *   request    byte op, then the op's arguments
+ *   response   byte OK, then the result; or byte ERROR, exception class, message
+ *
+ * A City is id, name, country code, population, latitude, longitude (floats, NaN
+ * when unknown); a Country is its seven columns, without its city list. Strings and
+ * single results carry a presence byte first, lists and maps an int count.
+ */
+final class WorldShardProtocol {
+	static final byte OK = 0;
+	static final byte ERROR = 1;
+
+	static final byte CITY_BY_ID = 1;
+	static final byte ADD_CITY = 2;
+	static final byte UPDATE_CITY = 3;
+	static final byte COMPARE_AND_SET_CITY = 4;
+	static final byte REMOVE_CITY = 5;
+	static final byte ALL_CITIES = 6;
+	static final byte CITIES_BY_COUNTRY = 7;
+	static final byte COUNTRY_BY_CODE = 8;
+	static final byte ADD_COUNTRY = 9;
+	static final byte UPDATE_COUNTRY = 10;
+	static final byte REMOVE_COUNTRY = 11;
+	static final byte ALL_COUNTRIES = 12;
+	static final byte COUNTRIES_BY_CONTINENT = 13;
+	static final byte CONTINENTS = 14;
+	// topCityByCountry / topCityByContinent with WorldDao.BY_POPULATION, the one comparator that can travel
+	static final byte MOST_POPULATED_BY_COUNTRY = 15;
+	static final byte MOST_POPULATED_BY_CONTINENT = 16;
+	static final byte TOP_CITIES = 17;
+	static final byte POPULATION_RANGE = 18;
+	static final byte NAME_PREFIX = 19;
+	static final byte NAME_FUZZY = 20;
+	static final byte NEAREST = 21;
+	static final byte WITHIN = 22;
+	static final byte MOST_POPULATED_CITY = 23;
+	static final byte SUM_POPULATION = 24;
+	static final byte COUNT_POPULATION_RANGE = 25;
+
+	private WorldShardProtocol() {
+	}
+
+	static void writeString(DataOutput out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null)
+			out.writeUTF(value);
+	}
+
+	static String readString(DataInput in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	static void writeCity(DataOutput out, City city) throws IOException {
+		out.writeBoolean(city != null);
+		if (city == null)
+			return;
+		out.writeInt(city.getId());
+		writeString(out, city.getName());
+		writeString(out, city.getCountryCode());
+		out.writeInt(city.getPopulation());
+		out.writeFloat((float) city.getLatitude());
+		out.writeFloat((float) city.getLongitude());
+	}
+
+	static City readCity(DataInput in) throws IOException {
+		if (!in.readBoolean())
+			return null;
+		int id = in.readInt();
+		String name = readString(in);
+		String countryCode = readString(in);
+		int population = in.readInt();
+		float latitude = in.readFloat();
+		float longitude = in.readFloat();
+		return new City(id, name, countryCode, population, latitude, longitude);
+	}
+
+	static void writeCountry(DataOutput out, Country country) throws IOException {
+		out.writeBoolean(country != null);
+		if (country == null)
+			return;
+		writeString(out, country.getCode());
+		writeString(out, country.getName());
+		writeString(out, country.getContinent());
+		out.writeInt(country.getPopulation());
+		out.writeDouble(country.getSurfaceArea());
+		out.writeDouble(country.getGnp());
+		out.writeInt(country.getCapital());
+	}
+
+	static Country readCountry(DataInput in) throws IOException {
+		if (!in.readBoolean())
+			return null;
+		String code = readString(in);
+		String name = readString(in);
+		String continent = readString(in);
+		int population = in.readInt();
+		double surfaceArea = in.readDouble();
+		double gnp = in.readDouble();
+		int capital = in.readInt();
+		return new Country(code, name, continent, population, surfaceArea, gnp, capital);
+	}
+
+	static void writeCities(DataOutput out, List<City> cities) throws IOException {
+		out.writeInt(cities.size());
+		for (City city : cities)
+			writeCity(out, city);
+	}
+
+	static List<City> readCities(DataInput in) throws IOException {
+		int count = in.readInt();
+		List<City> cities = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+			cities.add(readCity(in));
+		return cities;
+	}
+
+	static void writeCountries(DataOutput out, List<Country> countries) throws IOException {
+		out.writeInt(countries.size());
+		for (Country country : countries)
+			writeCountry(out, country);
+	}
+
+	static List<Country> readCountries(DataInput in) throws IOException {
+		int count = in.readInt();
+		List<Country> countries = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+			countries.add(readCountry(in));
+		return countries;
+	}
+
+	static void writeCityMap(DataOutput out, Map<String, City> cities) throws IOException {
+		out.writeInt(cities.size());
+		for (Map.Entry<String, City> entry : cities.entrySet()) {
+			writeString(out, entry.getKey());
+			writeCity(out, entry.getValue());
+		}
+	}
+
+	static Map<String, City> readCityMap(DataInput in) throws IOException {
+		int count = in.readInt();
+		Map<String, City> cities = new HashMap<>(count * 4 / 3 + 1);
+		for (int i = 0; i < count; i++)
+			cities.put(readString(in), readCity(in));
+		return cities;
+	}
+}
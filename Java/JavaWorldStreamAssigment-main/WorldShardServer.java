@@ -0,0 +1,333 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+ * One shard of a ShardedWorldDao as its own process: serves a WorldDao over a
+ * socket to RemoteWorldDao clients, see WorldShardProtocol for the format.
+ *
+ *   java WorldShardServer <shard> <shards> [port]
+ *
+ * loads the data files, keeps the countries partition() gives this shard with
+ * their cities, and listens on localhost, port 0 picking a free one. Once it
+ * accepts connections it prints READY and the port on a line of its own, which
+ * is what ShardedWorldDao.launch waits for. It exits when its standard input
+ * closes, so shards started by a launcher never outlive it.
+ *
+ * A thread per connection: clients keep a few connections open and reuse them,
+ * there is no point multiplexing.
+ */
+public final class WorldShardServer implements Closeable {
+	static final String READY = "READY ";
+
+	private final WorldDao dao;
+	private final ServerSocket server;
+	private final ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "world-shard-connection");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final Set<Socket> open = ConcurrentHashMap.newKeySet();
+
+	private WorldShardServer(WorldDao dao, ServerSocket server) {
+		this.dao = dao;
+		this.server = server;
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Usage: java WorldShardServer <shard> <shards> [port]");
+			System.exit(2);
+		}
+		int shard = Integer.parseInt(args[0]);
+		int shards = Integer.parseInt(args[1]);
+		int port = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+		Map<String, Country> countries = new ConcurrentHashMap<>();
+		Map<Integer, City> cities = new ConcurrentHashMap<>();
+		try (InputStream in = WorldDataLoader.open(WorldDataLoader.COUNTRIES_FILE)) {
+			WorldDataLoader.loadCountries(in, countries);
+		}
+		try (InputStream in = WorldDataLoader.open(WorldDataLoader.CITIES_FILE)) {
+			WorldDataLoader.loadCities(in, cities, countries);
+		}
+		serveUntilStdinCloses(partition(countries, cities, shard, shards), port);
+	}
+
+	/*
+	 * The countries ShardedWorldDao.shardOf() puts on this shard and the cities that
+	 * belong to them, as an InMemoryWorldDao. The objects move into it, see
+	 * WorldDaoBuilder.data.
+	 */
+	public static InMemoryWorldDao partition(Map<String, Country> countries, Map<Integer, City> cities, int shard,
+			int shards) {
+		if (shard < 0 || shard >= shards)
+			throw new IllegalArgumentException("Shard " + shard + " of " + shards);
+		Map<String, Country> ownCountries = new ConcurrentHashMap<>();
+		for (Country country : countries.values())
+			if (ShardedWorldDao.shardOf(country.getCode(), shards) == shard)
+				ownCountries.put(country.getCode(), country);
+		Map<Integer, City> ownCities = new ConcurrentHashMap<>();
+		for (City city : cities.values())
+			if (ShardedWorldDao.shardOf(city.getCountryCode(), shards) == shard)
+				ownCities.put(city.getId(), city);
+		return new WorldDaoBuilder().data(ownCountries, ownCities).buildInMemory();
+	}
+
+	// serves on localhost, prints the READY line and blocks until standard input reaches its end
+	public static void serveUntilStdinCloses(WorldDao dao, int port) throws IOException {
+		try (WorldShardServer server = start(dao, new InetSocketAddress(InetAddress.getLoopbackAddress(), port))) {
+			System.out.println(READY + server.getPort());
+			System.out.flush();
+			while (System.in.read() >= 0) {
+				// nothing to read, only waiting for the end
+			}
+		}
+	}
+
+	// port 0 picks a free one, see getPort
+	public static WorldShardServer start(WorldDao dao, InetSocketAddress address) throws IOException {
+		ServerSocket socket = new ServerSocket();
+		socket.bind(address, 1024);
+		WorldShardServer server = new WorldShardServer(dao, socket);
+		Thread acceptor = new Thread(server::accept, "world-shard-accept-" + server.getPort());
+		acceptor.setDaemon(true);
+		acceptor.start();
+		return server;
+	}
+
+	public int getPort() {
+		return server.getLocalPort();
+	}
+
+	@Override
+	public void close() throws IOException {
+		server.close();
+		for (Socket socket : open)
+			socket.close();
+		connections.shutdown();
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	private void accept() {
+		while (!server.isClosed()) {
+			try {
+				Socket socket = server.accept();
+				socket.setTcpNoDelay(true);
+				open.add(socket);
+				connections.execute(() -> serve(socket));
+			} catch (IOException e) {
+				if (!server.isClosed())
+					System.err.println("Shard accept failed: " + e);
+			}
+		}
+	}
+
+	private void serve(Socket socket) {
+		try (socket;
+				DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+			while (true) {
+				byte op;
+				try {
+					op = in.readByte();
+				} catch (EOFException e) {
+					return;
+				}
+				// the arguments are read in full before the dao runs, an error leaves the stream in step
+				Request request = read(op, in);
+				Object result;
+				try {
+					result = request.run();
+				} catch (RuntimeException e) {
+					out.writeByte(WorldShardProtocol.ERROR);
+					out.writeUTF(e.getClass().getSimpleName());
+					out.writeUTF(String.valueOf(e.getMessage()));
+					out.flush();
+					continue;
+				}
+				out.writeByte(WorldShardProtocol.OK);
+				write(op, result, out);
+				out.flush();
+			}
+		} catch (IOException | UncheckedIOException e) {
+			if (!server.isClosed())
+				System.err.println("Shard connection dropped: " + e);
+		} finally {
+			open.remove(socket);
+		}
+	}
+
+	@FunctionalInterface
+	private interface Request {
+		Object run();
+	}
+
+	private Request read(byte op, DataInputStream in) throws IOException {
+		switch (op) {
+		case WorldShardProtocol.CITY_BY_ID: {
+			int id = in.readInt();
+			return () -> dao.findCityById(id);
+		}
+		case WorldShardProtocol.ADD_CITY: {
+			City city = WorldShardProtocol.readCity(in);
+			return () -> dao.addCity(city);
+		}
+		case WorldShardProtocol.UPDATE_CITY: {
+			City city = WorldShardProtocol.readCity(in);
+			return () -> dao.updateCity(city);
+		}
+		case WorldShardProtocol.COMPARE_AND_SET_CITY: {
+			City expected = WorldShardProtocol.readCity(in);
+			City replacement = WorldShardProtocol.readCity(in);
+			return () -> compareAndSet(expected, replacement);
+		}
+		case WorldShardProtocol.REMOVE_CITY: {
+			City city = WorldShardProtocol.readCity(in);
+			return () -> dao.removeCity(city);
+		}
+		case WorldShardProtocol.ALL_CITIES:
+			return dao::findAllCities;
+		case WorldShardProtocol.CITIES_BY_COUNTRY: {
+			String code = WorldShardProtocol.readString(in);
+			return () -> dao.findCitiesByCountryCode(code);
+		}
+		case WorldShardProtocol.COUNTRY_BY_CODE: {
+			String code = WorldShardProtocol.readString(in);
+			return () -> dao.findCountryByCode(code);
+		}
+		case WorldShardProtocol.ADD_COUNTRY: {
+			Country country = WorldShardProtocol.readCountry(in);
+			return () -> dao.addCountry(country);
+		}
+		case WorldShardProtocol.UPDATE_COUNTRY: {
+			Country country = WorldShardProtocol.readCountry(in);
+			return () -> dao.updateCountry(country);
+		}
+		case WorldShardProtocol.REMOVE_COUNTRY: {
+			Country country = WorldShardProtocol.readCountry(in);
+			return () -> dao.removeCountry(country);
+		}
+		case WorldShardProtocol.ALL_COUNTRIES:
+			return dao::findAllCountries;
+		case WorldShardProtocol.COUNTRIES_BY_CONTINENT: {
+			String continent = WorldShardProtocol.readString(in);
+			return () -> dao.findCountriesByContinent(continent);
+		}
+		case WorldShardProtocol.CONTINENTS:
+			return dao::getAllContinents;
+		case WorldShardProtocol.MOST_POPULATED_BY_COUNTRY:
+			return () -> dao.topCityByCountry(WorldDao.BY_POPULATION);
+		case WorldShardProtocol.MOST_POPULATED_BY_CONTINENT:
+			return () -> dao.topCityByContinent(WorldDao.BY_POPULATION);
+		case WorldShardProtocol.TOP_CITIES: {
+			int n = in.readInt();
+			return () -> dao.topCities(n);
+		}
+		case WorldShardProtocol.POPULATION_RANGE: {
+			int min = in.readInt();
+			int max = in.readInt();
+			return () -> dao.findCitiesByPopulationRange(min, max);
+		}
+		case WorldShardProtocol.NAME_PREFIX: {
+			String prefix = WorldShardProtocol.readString(in);
+			int limit = in.readInt();
+			return () -> dao.findCitiesByNamePrefix(prefix, limit);
+		}
+		case WorldShardProtocol.NAME_FUZZY: {
+			String name = WorldShardProtocol.readString(in);
+			int maxDistance = in.readInt();
+			int limit = in.readInt();
+			return () -> dao.findCitiesByNameFuzzy(name, maxDistance, limit);
+		}
+		case WorldShardProtocol.NEAREST: {
+			double latitude = in.readDouble();
+			double longitude = in.readDouble();
+			int k = in.readInt();
+			return () -> dao.findNearest(latitude, longitude, k);
+		}
+		case WorldShardProtocol.MOST_POPULATED_CITY:
+			return dao::findMostPopulatedCity;
+		case WorldShardProtocol.SUM_POPULATION:
+			return dao::sumCityPopulation;
+		case WorldShardProtocol.COUNT_POPULATION_RANGE: {
+			int min = in.readInt();
+			int max = in.readInt();
+			return () -> dao.countCitiesByPopulationRange(min, max);
+		}
+		case WorldShardProtocol.WITHIN: {
+			GeoBox box = new GeoBox(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble());
+			return () -> dao.findWithin(box);
+		}
+		default:
+			throw new IOException("Unknown op " + op);
+		}
+	}
+
+	// the client's expected city is a copy, so compare by fields and swap against the instance held here
+	private boolean compareAndSet(City expected, City replacement) {
+		City current = dao.findCityById(expected.getId());
+		return current != null && CityDao.sameFields(current, expected) && dao.updateCity(current, replacement);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void write(byte op, Object result, DataOutputStream out) throws IOException {
+		switch (op) {
+		case WorldShardProtocol.CITY_BY_ID:
+		case WorldShardProtocol.ADD_CITY:
+		case WorldShardProtocol.UPDATE_CITY:
+		case WorldShardProtocol.REMOVE_CITY:
+		case WorldShardProtocol.MOST_POPULATED_CITY:
+			WorldShardProtocol.writeCity(out, (City) result);
+			break;
+		case WorldShardProtocol.SUM_POPULATION:
+			out.writeLong((Long) result);
+			break;
+		case WorldShardProtocol.COUNT_POPULATION_RANGE:
+			out.writeInt((Integer) result);
+			break;
+		case WorldShardProtocol.COMPARE_AND_SET_CITY:
+			out.writeBoolean((Boolean) result);
+			break;
+		case WorldShardProtocol.COUNTRY_BY_CODE:
+		case WorldShardProtocol.ADD_COUNTRY:
+		case WorldShardProtocol.UPDATE_COUNTRY:
+		case WorldShardProtocol.REMOVE_COUNTRY:
+			WorldShardProtocol.writeCountry(out, (Country) result);
+			break;
+		case WorldShardProtocol.ALL_COUNTRIES:
+		case WorldShardProtocol.COUNTRIES_BY_CONTINENT:
+			WorldShardProtocol.writeCountries(out, (List<Country>) result);
+			break;
+		case WorldShardProtocol.CONTINENTS: {
+			Set<String> continents = (Set<String>) result;
+			out.writeInt(continents.size());
+			for (String continent : continents)
+				WorldShardProtocol.writeString(out, continent);
+			break;
+		}
+		case WorldShardProtocol.MOST_POPULATED_BY_COUNTRY:
+		case WorldShardProtocol.MOST_POPULATED_BY_CONTINENT:
+			WorldShardProtocol.writeCityMap(out, (Map<String, City>) result);
+			break;
+		default:
+			WorldShardProtocol.writeCities(out, (List<City>) result);
+		}
+	}
+}
@@ -0,0 +1,486 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/*
+ * One immutable version of an InMemoryWorldDao, taken with InMemoryWorldDao.snapshot().
+ *
+ * Every lookup answers from the same version, so a report running against a snapshot
+ * never sees half of a batch or a city whose country moved continent mid-way. The
+ * relations (cities of a country, countries of a continent) are frozen with it.
+ * City objects are shared with the dao. The countries handed out are copies bound to
+ * this snapshot, made on first ask, so their getCities() stays with this version too.
+ *
+ * The maps are PersistentMaps: the dao makes the next version through a Builder,
+ * which shares everything but the changed paths with this one, and publishes it
+ * with a volatile write. Taking a snapshot copies nothing.
+ */
+public final class WorldSnapshot implements WorldDao {
+	private final long version;
+	private final PersistentMap<String, Country> countries;
+	private final PersistentMap<Integer, City> cities;
+	// groups are never empty, a continent without countries is gone from getAllContinents()
+	private final PersistentMap<String, PersistentMap<Integer, City>> citiesByCountryCode;
+	private final PersistentMap<String, PersistentMap<String, Country>> countriesByContinent;
+	// the dao's, every version after this one keeps them
+	private final PopulationKernels kernels;
+	// made on first ask, most versions are replaced before anyone reads them; racing readers may both make one
+	private volatile Set<String> continents;
+	private volatile Map<String, List<City>> cityLists;
+	private volatile Map<String, List<Country>> countryLists;
+	private volatile Map<String, Country> boundCountries;
+	// built on the first name search, a snapshot never changes under it
+	private volatile CityNameIndex nameIndex;
+	private volatile PopulationIndex populationIndex;
+	private volatile CitySpatialIndex spatialIndex;
+	private volatile PopulationColumns populationColumns;
+
+	private WorldSnapshot(long version, PersistentMap<String, Country> countries, PersistentMap<Integer, City> cities,
+			PersistentMap<String, PersistentMap<Integer, City>> citiesByCountryCode,
+			PersistentMap<String, PersistentMap<String, Country>> countriesByContinent, PopulationKernels kernels) {
+		this.version = version;
+		this.countries = countries;
+		this.cities = cities;
+		this.citiesByCountryCode = citiesByCountryCode;
+		this.countriesByContinent = countriesByContinent;
+		this.kernels = kernels;
+	}
+
+	// a version holding the maps' current content, built in one pass
+	static WorldSnapshot of(long version, Map<String, Country> countries, Map<Integer, City> cities,
+			PopulationKernels kernels) {
+		Builder builder = new WorldSnapshot(version, PersistentMap.empty(), PersistentMap.empty(),
+				PersistentMap.empty(), PersistentMap.empty(), kernels).toBuilder();
+		for (Country country : countries.values())
+			builder.putCountry(country);
+		for (City city : cities.values())
+			builder.putCity(city);
+		return builder.build(version);
+	}
+
+	Builder toBuilder() {
+		return new Builder(this);
+	}
+
+	// grows by one for every mutation applied to the dao
+	public long getVersion() {
+		return version;
+	}
+
+	@Override
+	public Country findCountryByCode(String code) {
+		return bound(countries.get(code));
+	}
+
+	@Override
+	public List<Country> findAllCountries() {
+		List<Country> all = new ArrayList<>(countries.size());
+		for (Country country : countries.values())
+			all.add(bound(country));
+		return all;
+	}
+
+	@Override
+	public List<Country> findCountriesByContinent(String continent) {
+		List<Country> members = countriesOn(continent);
+		if (members.isEmpty())
+			return members;
+		List<Country> copies = new ArrayList<>(members.size());
+		for (Country country : members)
+			copies.add(bound(country));
+		return Collections.unmodifiableList(copies);
+	}
+
+	// the dao's own instances, for the live lookups InMemoryWorldDao answers from here
+	List<Country> countriesOn(String continent) {
+		PersistentMap<String, Country> group = continent == null ? null : countriesByContinent.get(continent);
+		if (group == null)
+			return Collections.emptyList();
+		Map<String, List<Country>> lists = countryLists;
+		if (lists == null)
+			countryLists = lists = new ConcurrentHashMap<>();
+		return lists.computeIfAbsent(continent, key -> Collections.unmodifiableList(new ArrayList<>(group.values())));
+	}
+
+	// one copy per country and snapshot, the dao's own instance follows the live cities
+	private Country bound(Country country) {
+		if (country == null)
+			return null;
+		Map<String, Country> copies = boundCountries;
+		if (copies == null)
+			boundCountries = copies = new ConcurrentHashMap<>();
+		return copies.computeIfAbsent(country.getCode(), code -> country.copyBoundTo(this::findCitiesByCountryCode));
+	}
+
+	@Override
+	public Set<String> getAllContinents() {
+		Set<String> all = continents;
+		if (all == null)
+			continents = all = Collections.unmodifiableSet(countriesByContinent.keySet());
+		return all;
+	}
+
+	@Override
+	public City findCityById(int id) {
+		return cities.get(id);
+	}
+
+	@Override
+	public List<City> findAllCities() {
+		return new ArrayList<>(cities.values());
+	}
+
+	@Override
+	public List<City> findCitiesByCountryCode(String countryCode) {
+		PersistentMap<Integer, City> group = countryCode == null ? null : citiesByCountryCode.get(countryCode);
+		if (group == null)
+			return Collections.emptyList();
+		Map<String, List<City>> lists = cityLists;
+		if (lists == null)
+			cityLists = lists = new ConcurrentHashMap<>();
+		return lists.computeIfAbsent(countryCode, key -> Collections.unmodifiableList(new ArrayList<>(group.values())));
+	}
+
+	@Override
+	public List<City> findCitiesByNamePrefix(String prefix, int limit) {
+		return nameIndex().findByPrefix(prefix, limit);
+	}
+
+	@Override
+	public List<City> findCitiesByNameFuzzy(String name, int maxDistance, int limit) {
+		return nameIndex().findByName(name, maxDistance, limit);
+	}
+
+	@Override
+	public List<City> findCitiesByPopulationRange(int minPopulation, int maxPopulation) {
+		return populationIndex().findByPopulationRange(minPopulation, maxPopulation);
+	}
+
+	@Override
+	public List<City> topCities(int n) {
+		return populationIndex().top(n);
+	}
+
+	@Override
+	public List<City> findNearest(double latitude, double longitude, int k) {
+		return spatialIndex().findNearest(latitude, longitude, k);
+	}
+
+	@Override
+	public List<City> findWithin(GeoBox box) {
+		return spatialIndex().findWithin(box);
+	}
+
+	// two racing first searches may both build one, either is fine
+	private CityNameIndex nameIndex() {
+		CityNameIndex index = nameIndex;
+		if (index == null)
+			nameIndex = index = new CityNameIndex(cities.values());
+		return index;
+	}
+
+	private PopulationIndex populationIndex() {
+		PopulationIndex index = populationIndex;
+		if (index == null)
+			populationIndex = index = new PopulationIndex(cities.values());
+		return index;
+	}
+
+	private CitySpatialIndex spatialIndex() {
+		CitySpatialIndex index = spatialIndex;
+		if (index == null)
+			spatialIndex = index = new CitySpatialIndex(cities.values());
+		return index;
+	}
+
+	private PopulationColumns populationColumns() {
+		PopulationColumns columns = populationColumns;
+		if (columns == null)
+			populationColumns = columns = new PopulationColumns(cities.values());
+		return columns;
+	}
+
+	@Override
+	public Stream<City> streamCities() {
+		return cities.values().stream();
+	}
+
+	@Override
+	public Stream<City> streamCitiesByCountryCode(String countryCode) {
+		return findCitiesByCountryCode(countryCode).stream();
+	}
+
+	@Override
+	public Stream<Country> streamCountries() {
+		return countries.values().stream().map(this::bound);
+	}
+
+	@Override
+	public Stream<Country> streamCountriesByContinent(String continent) {
+		return findCountriesByContinent(continent).stream();
+	}
+
+	@Override
+	public <K> Map<K, City> topCityBy(Function<? super City, ? extends K> groupingKey,
+			Comparator<? super City> comparator) {
+		return WorldDao.reduceTopCity(cities.values().parallelStream(), groupingKey, comparator);
+	}
+
+	@Override
+	public Map<String, City> topCityByCountry(Comparator<? super City> comparator) {
+		if (comparator != BY_POPULATION)
+			return WorldDao.super.topCityByCountry(comparator);
+		return populationColumns().mostPopulatedByCountry(kernels);
+	}
+
+	@Override
+	public Map<String, City> topCityByContinent(Comparator<? super City> comparator) {
+		if (comparator != BY_POPULATION)
+			return WorldDao.super.topCityByContinent(comparator);
+		return populationColumns().mostPopulatedByContinent(kernels,
+				WorldDao.continentsByCountryOrdinal(countries.values()));
+	}
+
+	@Override
+	public City findMostPopulatedCity() {
+		return populationColumns().mostPopulated(kernels);
+	}
+
+	@Override
+	public long sumCityPopulation() {
+		return populationColumns().sum(kernels);
+	}
+
+	@Override
+	public int countCitiesByPopulationRange(int minPopulation, int maxPopulation) {
+		return populationColumns().countBetween(kernels, minPopulation, maxPopulation);
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// a snapshot never changes, mutate the dao and take a new one
+
+	@Override
+	public City removeCity(City city) {
+		throw readOnly();
+	}
+
+	@Override
+	public City addCity(City city) {
+		throw readOnly();
+	}
+
+	@Override
+	public City updateCity(City city) {
+		throw readOnly();
+	}
+
+	@Override
+	public Country removeCountry(Country country) {
+		throw readOnly();
+	}
+
+	@Override
+	public Country addCountry(Country country) {
+		throw readOnly();
+	}
+
+	@Override
+	public Country updateCountry(Country country) {
+		throw readOnly();
+	}
+
+	private static UnsupportedOperationException readOnly() {
+		return new UnsupportedOperationException("A world snapshot is read-only");
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	/*
+	 * The next version, one change at a time; only InMemoryWorldDao makes them. Not
+	 * thread safe, the version it came from is never touched. Maps nothing changed in
+	 * are passed on as they are.
+	 */
+	static final class Builder {
+		private PersistentMap<String, Country> countries;
+		private PersistentMap<Integer, City> cities;
+		private PersistentMap<String, PersistentMap<Integer, City>> citiesByCountryCode;
+		private PersistentMap<String, PersistentMap<String, Country>> countriesByContinent;
+		// made on the first change to each
+		private PersistentMap.Builder<String, Country> countryEdits;
+		private PersistentMap.Builder<Integer, City> cityEdits;
+		private PersistentMap.Builder<String, PersistentMap<Integer, City>> cityGroupEdits;
+		private PersistentMap.Builder<String, PersistentMap<String, Country>> countryGroupEdits;
+		// the groups changed so far, written back by build()
+		private final Map<String, PersistentMap.Builder<Integer, City>> cityGroups = new HashMap<>(4);
+		private final Map<String, PersistentMap.Builder<String, Country>> countryGroups = new HashMap<>(4);
+		private final PopulationKernels kernels;
+
+		private Builder(WorldSnapshot base) {
+			kernels = base.kernels;
+			countries = base.countries;
+			cities = base.cities;
+			citiesByCountryCode = base.citiesByCountryCode;
+			countriesByContinent = base.countriesByContinent;
+		}
+
+		Builder putCity(City city) {
+			City old = cityEdits == null ? cities.get(city.getId()) : cityEdits.get(city.getId());
+			// staying in its group the put below replaces it there
+			if (old != null && !(old.getCountryCode() != null && old.getCountryCode().equals(city.getCountryCode())
+					&& cityGroup(old.getCountryCode()).get(old.getId()) == old))
+				ungroup(old);
+			cityEdits().put(city.getId(), city);
+			// a city without a code is in no group, the same as before versions were kept
+			if (city.getCountryCode() != null)
+				cityGroup(city.getCountryCode()).put(city.getId(), city);
+			return this;
+		}
+
+		Builder removeCity(int id) {
+			City old = cityEdits == null ? cities.get(id) : cityEdits.get(id);
+			if (old != null) {
+				ungroup(old);
+				cityEdits().remove(id);
+			}
+			return this;
+		}
+
+		Builder putCountry(Country country) {
+			Country old = countryEdits == null ? countries.get(country.getCode()) : countryEdits.get(country.getCode());
+			if (old != null && !(old.getContinent() != null && old.getContinent().equals(country.getContinent())
+					&& countryGroup(old.getContinent()).get(old.getCode()) == old))
+				ungroup(old);
+			countryEdits().put(country.getCode(), country);
+			// version 1 country files carry no continent
+			if (country.getContinent() != null)
+				countryGroup(country.getContinent()).put(country.getCode(), country);
+			return this;
+		}
+
+		Builder removeCountry(String code) {
+			Country old = countryEdits == null ? countries.get(code) : countryEdits.get(code);
+			if (old != null) {
+				ungroup(old);
+				countryEdits().remove(code);
+			}
+			return this;
+		}
+
+		boolean hasChanges() {
+			return countryEdits != null || cityEdits != null;
+		}
+
+		// the builder can go on after this, into the version after
+		WorldSnapshot build(long version) {
+			for (Map.Entry<String, PersistentMap.Builder<Integer, City>> group : cityGroups.entrySet()) {
+				if (group.getValue().size() == 0)
+					cityGroupEdits().remove(group.getKey());
+				else
+					cityGroupEdits().put(group.getKey(), group.getValue().build());
+			}
+			for (Map.Entry<String, PersistentMap.Builder<String, Country>> group : countryGroups.entrySet()) {
+				if (group.getValue().size() == 0)
+					countryGroupEdits().remove(group.getKey());
+				else
+					countryGroupEdits().put(group.getKey(), group.getValue().build());
+			}
+			cityGroups.clear();
+			countryGroups.clear();
+			if (countryEdits != null)
+				countries = countryEdits.build();
+			if (cityEdits != null)
+				cities = cityEdits.build();
+			if (cityGroupEdits != null)
+				citiesByCountryCode = cityGroupEdits.build();
+			if (countryGroupEdits != null)
+				countriesByContinent = countryGroupEdits.build();
+			return new WorldSnapshot(version, countries, cities, citiesByCountryCode, countriesByContinent, kernels);
+		}
+
+		private PersistentMap.Builder<String, Country> countryEdits() {
+			if (countryEdits == null)
+				countryEdits = countries.toBuilder();
+			return countryEdits;
+		}
+
+		private PersistentMap.Builder<Integer, City> cityEdits() {
+			if (cityEdits == null)
+				cityEdits = cities.toBuilder();
+			return cityEdits;
+		}
+
+		private PersistentMap.Builder<String, PersistentMap<Integer, City>> cityGroupEdits() {
+			if (cityGroupEdits == null)
+				cityGroupEdits = citiesByCountryCode.toBuilder();
+			return cityGroupEdits;
+		}
+
+		private PersistentMap.Builder<String, PersistentMap<String, Country>> countryGroupEdits() {
+			if (countryGroupEdits == null)
+				countryGroupEdits = countriesByContinent.toBuilder();
+			return countryGroupEdits;
+		}
+
+		private PersistentMap.Builder<Integer, City> cityGroup(String code) {
+			PersistentMap.Builder<Integer, City> group = cityGroups.get(code);
+			if (group == null) {
+				PersistentMap<Integer, City> built = cityGroupEdits == null ? citiesByCountryCode.get(code)
+						: cityGroupEdits.get(code);
+				group = (built == null ? PersistentMap.<Integer, City>empty() : built).toBuilder();
+				cityGroups.put(code, group);
+			}
+			return group;
+		}
+
+		private PersistentMap.Builder<String, Country> countryGroup(String continent) {
+			PersistentMap.Builder<String, Country> group = countryGroups.get(continent);
+			if (group == null) {
+				PersistentMap<String, Country> built = countryGroupEdits == null ? countriesByContinent.get(continent)
+						: countryGroupEdits.get(continent);
+				group = (built == null ? PersistentMap.<String, Country>empty() : built).toBuilder();
+				countryGroups.put(continent, group);
+			}
+			return group;
+		}
+
+		private void ungroup(City city) {
+			String code = city.getCountryCode();
+			if (code != null && cityGroup(code).get(city.getId()) == city) {
+				cityGroup(code).remove(city.getId());
+				return;
+			}
+			// the stored instance was mutated in place, so its old country code is unknown
+			for (String other : keys(cityGroupEdits == null ? citiesByCountryCode : cityGroupEdits.build(), cityGroups))
+				if (cityGroup(other).get(city.getId()) == city)
+					cityGroup(other).remove(city.getId());
+		}
+
+		private void ungroup(Country country) {
+			String continent = country.getContinent();
+			if (continent != null && countryGroup(continent).get(country.getCode()) == country) {
+				countryGroup(continent).remove(country.getCode());
+				return;
+			}
+			// the stored instance was mutated in place, so its old continent is unknown
+			for (String other : keys(countryGroupEdits == null ? countriesByContinent : countryGroupEdits.build(),
+					countryGroups))
+				if (countryGroup(other).get(country.getCode()) == country)
+					countryGroup(other).remove(country.getCode());
+		}
+
+		private static List<String> keys(Map<String, ?> built, Map<String, ?> changed) {
+			List<String> keys = new ArrayList<>(changed.keySet());
+			for (String key : built.keySet())
+				if (!changed.containsKey(key))
+					keys.add(key);
+			return keys;
+		}
+	}
+}
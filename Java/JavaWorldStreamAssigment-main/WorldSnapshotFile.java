@@ -0,0 +1,272 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/*
+ * Binary, columnar snapshot of the world data, read back by MappedWorldDao.
+ *
+ * Every column is a packed int (or double) array, all strings live in one
+ * UTF-8 blob and are referenced by string index:
+ *
+ *   header          magic, version, codeCount, cityCount, continentCount, stringCount, blobLength
+ *   continentName   int[continentCount]
+ *   code            int[codeCount]      sorted by code, cities with an unknown country get a code row too
+ *   countryName     int[codeCount]      -1 when there is no country for the code
+ *   countryContinent, countryPopulation, countryCapital   int[codeCount]
+ *   countryCityStart int[codeCount + 1] cities of code c are rows [start[c], start[c + 1])
+ *   countrySurfaceArea, countryGnp      double[codeCount]
+ *   cityId, cityPopulation, cityCode, cityName   int[cityCount], rows sorted by (code, id)
+ *                   cities without a code come first with cityCode -1, outside every country's rows
+ *   cityByIdOrder   int[cityCount]      rows sorted by id, for binary search
+ *   cityLatitude, cityLongitude   float[cityCount], NaN for no location (version 2 on)
+ *   stringOffset    int[stringCount + 1]
+ *   blob            byte[blobLength]
+ */
+public final class WorldSnapshotFile {
+	static final int MAGIC = 0x574C4431; // "WLD1"
+	static final int VERSION = 2;
+	static final int HEADER_BYTES = 7 * Integer.BYTES;
+
+	private WorldSnapshotFile() {
+	}
+
+	public static void write(Collection<Country> countries, Collection<City> cities, Path path) throws IOException {
+		Map<String, Country> countryByCode = new HashMap<>();
+		TreeSet<String> codes = new TreeSet<>();
+		TreeSet<String> continentNames = new TreeSet<>();
+		for (Country country : countries) {
+			countryByCode.put(country.getCode(), country);
+			codes.add(country.getCode());
+			if (country.getContinent() != null)
+				continentNames.add(country.getContinent());
+		}
+		for (City city : cities)
+			if (city.getCountryCode() != null)
+				codes.add(city.getCountryCode());
+
+		String[] codeTable = codes.toArray(new String[0]);
+		String[] continentTable = continentNames.toArray(new String[0]);
+		Map<String, Integer> codeOrdinal = ordinals(codeTable);
+		Map<String, Integer> continentOrdinal = ordinals(continentTable);
+
+		City[] rows = cities.toArray(new City[0]);
+		Arrays.sort(rows, Comparator.comparing(City::getCountryCode, Comparator.nullsFirst(Comparator.naturalOrder()))
+				.thenComparingInt(City::getId));
+
+		Strings strings = new Strings();
+		int[] continentName = new int[continentTable.length];
+		for (int i = 0; i < continentTable.length; i++)
+			continentName[i] = strings.add(continentTable[i]);
+
+		int[] code = new int[codeTable.length];
+		int[] countryName = new int[codeTable.length];
+		int[] countryContinent = new int[codeTable.length];
+		int[] countryPopulation = new int[codeTable.length];
+		int[] countryCapital = new int[codeTable.length];
+		double[] countrySurfaceArea = new double[codeTable.length];
+		double[] countryGnp = new double[codeTable.length];
+		for (int c = 0; c < codeTable.length; c++) {
+			code[c] = strings.add(codeTable[c]);
+			Country country = countryByCode.get(codeTable[c]);
+			countryName[c] = country == null ? -1 : strings.add(country.getName());
+			countryContinent[c] = country == null || country.getContinent() == null ? -1
+					: continentOrdinal.get(country.getContinent());
+			countryPopulation[c] = country == null ? 0 : country.getPopulation();
+			countryCapital[c] = country == null ? 0 : country.getCapital();
+			countrySurfaceArea[c] = country == null ? 0 : country.getSurfaceArea();
+			countryGnp[c] = country == null ? 0 : country.getGnp();
+		}
+
+		int[] cityCountryStart = new int[codeTable.length + 1];
+		int[] cityId = new int[rows.length];
+		int[] cityPopulation = new int[rows.length];
+		int[] cityCode = new int[rows.length];
+		int[] cityName = new int[rows.length];
+		float[] cityLatitude = new float[rows.length];
+		float[] cityLongitude = new float[rows.length];
+		// (id, row) packed in one long, sorting by it sorts the rows by id without boxing
+		long[] byId = new long[rows.length];
+		for (int r = 0; r < rows.length; r++) {
+			City city = rows[r];
+			cityId[r] = city.getId();
+			cityPopulation[r] = city.getPopulation();
+			cityCode[r] = city.getCountryCode() == null ? -1 : codeOrdinal.get(city.getCountryCode());
+			cityName[r] = strings.add(city.getName());
+			cityLatitude[r] = (float) city.getLatitude();
+			cityLongitude[r] = (float) city.getLongitude();
+			// a row without a code counts into start[0], the first country's rows begin after those
+			cityCountryStart[cityCode[r] + 1]++;
+			byId[r] = ((long) city.getId() << 32) | r;
+		}
+		for (int c = 0; c < codeTable.length; c++)
+			cityCountryStart[c + 1] += cityCountryStart[c];
+		Arrays.sort(byId);
+		int[] cityByIdOrder = new int[rows.length];
+		for (int r = 0; r < rows.length; r++)
+			cityByIdOrder[r] = (int) byId[r];
+
+		Layout layout = new Layout(VERSION, codeTable.length, rows.length, continentTable.length, strings.count(),
+				strings.blobLength());
+		if (layout.size > Integer.MAX_VALUE)
+			throw new IOException("Snapshot larger than 2 GB cannot be mapped: " + layout.size + " bytes");
+
+		// write next to the target and move it over, readers never map a half written file
+		Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, layout.size);
+			out.putInt(MAGIC).putInt(VERSION).putInt(layout.codeCount).putInt(layout.cityCount)
+					.putInt(layout.continentCount).putInt(layout.stringCount).putInt(layout.blobLength);
+			putInts(out, layout.continentName, continentName);
+			putInts(out, layout.code, code);
+			putInts(out, layout.countryName, countryName);
+			putInts(out, layout.countryContinent, countryContinent);
+			putInts(out, layout.countryPopulation, countryPopulation);
+			putInts(out, layout.countryCapital, countryCapital);
+			putInts(out, layout.countryCityStart, cityCountryStart);
+			putDoubles(out, layout.countrySurfaceArea, countrySurfaceArea);
+			putDoubles(out, layout.countryGnp, countryGnp);
+			putInts(out, layout.cityId, cityId);
+			putInts(out, layout.cityPopulation, cityPopulation);
+			putInts(out, layout.cityCode, cityCode);
+			putInts(out, layout.cityName, cityName);
+			putInts(out, layout.cityByIdOrder, cityByIdOrder);
+			putFloats(out, layout.cityLatitude, cityLatitude);
+			putFloats(out, layout.cityLongitude, cityLongitude);
+			putInts(out, layout.stringOffset, strings.offsets());
+			out.position((int) layout.blob);
+			for (byte[] bytes : strings.values)
+				out.put(bytes);
+			out.force();
+		}
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static Map<String, Integer> ordinals(String[] table) {
+		Map<String, Integer> ordinals = new HashMap<>();
+		for (int i = 0; i < table.length; i++)
+			ordinals.put(table[i], i);
+		return ordinals;
+	}
+
+	private static void putInts(MappedByteBuffer out, long offset, int[] values) {
+		out.position((int) offset);
+		out.asIntBuffer().put(values);
+	}
+
+	private static void putFloats(MappedByteBuffer out, long offset, float[] values) {
+		out.position((int) offset);
+		out.asFloatBuffer().put(values);
+	}
+
+	private static void putDoubles(MappedByteBuffer out, long offset, double[] values) {
+		out.position((int) offset);
+		out.asDoubleBuffer().put(values);
+	}
+
+	/*
+	 * Byte offset of every section, derived from the counts in the header
+	 * so the writer and MappedWorldDao can never disagree.
+	 */
+	static final class Layout {
+		final int codeCount;
+		final int cityCount;
+		final int continentCount;
+		final int stringCount;
+		final int blobLength;
+		final long continentName;
+		final long code;
+		final long countryName;
+		final long countryContinent;
+		final long countryPopulation;
+		final long countryCapital;
+		final long countryCityStart;
+		final long countrySurfaceArea;
+		final long countryGnp;
+		final long cityId;
+		final long cityPopulation;
+		final long cityCode;
+		final long cityName;
+		final long cityByIdOrder;
+		// both empty in a version 1 file
+		final long cityLatitude;
+		final long cityLongitude;
+		final boolean hasLocations;
+		final long stringOffset;
+		final long blob;
+		final long size;
+
+		Layout(int version, int codeCount, int cityCount, int continentCount, int stringCount, int blobLength) {
+			this.codeCount = codeCount;
+			this.cityCount = cityCount;
+			this.continentCount = continentCount;
+			this.stringCount = stringCount;
+			this.blobLength = blobLength;
+			continentName = HEADER_BYTES;
+			code = continentName + 4L * continentCount;
+			countryName = code + 4L * codeCount;
+			countryContinent = countryName + 4L * codeCount;
+			countryPopulation = countryContinent + 4L * codeCount;
+			countryCapital = countryPopulation + 4L * codeCount;
+			countryCityStart = countryCapital + 4L * codeCount;
+			// doubles start 8 byte aligned
+			countrySurfaceArea = align8(countryCityStart + 4L * (codeCount + 1));
+			countryGnp = countrySurfaceArea + 8L * codeCount;
+			cityId = countryGnp + 8L * codeCount;
+			cityPopulation = cityId + 4L * cityCount;
+			cityCode = cityPopulation + 4L * cityCount;
+			cityName = cityCode + 4L * cityCount;
+			cityByIdOrder = cityName + 4L * cityCount;
+			hasLocations = version >= 2;
+			cityLatitude = cityByIdOrder + 4L * cityCount;
+			cityLongitude = cityLatitude + (hasLocations ? 4L * cityCount : 0);
+			stringOffset = cityLongitude + (hasLocations ? 4L * cityCount : 0);
+			blob = stringOffset + 4L * (stringCount + 1);
+			size = blob + blobLength;
+		}
+
+		private static long align8(long offset) {
+			return (offset + 7) & ~7L;
+		}
+	}
+
+	private static final class Strings {
+		private final List<byte[]> values = new ArrayList<>();
+		private int blobLength;
+
+		int add(String value) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			values.add(bytes);
+			blobLength += bytes.length;
+			return values.size() - 1;
+		}
+
+		int count() {
+			return values.size();
+		}
+
+		int blobLength() {
+			return blobLength;
+		}
+
+		int[] offsets() {
+			int[] offsets = new int[values.size() + 1];
+			for (int i = 0; i < values.size(); i++)
+				offsets[i + 1] = offsets[i] + values.get(i).length;
+			return offsets;
+		}
+	}
+}
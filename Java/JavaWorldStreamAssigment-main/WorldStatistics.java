@@ -0,0 +1,355 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Keeps the Exercise1 / Exercise2 / Exercise5 answers current while the dao changes:
+ * the most populated city per country and per continent, and the most populated
+ * capital. Every city sits in a population ordered tree for its country, its
+ * continent and (if it is one) the capitals, so a mutation costs O(log n). The
+ * current winners are republished after every change and read without locking.
+ *
+ * There is no lock over the whole: each country, each continent ranking and the
+ * capitals have their own, so mutations of different countries only meet on their
+ * continent. Locks are taken country, then continent or capitals, never the other
+ * way round. The dao already runs the events for one city id, or one country code,
+ * one at a time.
+ *
+ * Cities are ranked by the population they had when the event arrived; changing a
+ * City object in place is only seen once it goes through updateCity. Cities whose
+ * code no country has are ranked too, but only a known country has a published
+ * winner, like Exercise1 only looks at the countries there are.
+ */
+public class WorldStatistics implements WorldChangeListener {
+	// most populated first, id breaks ties so no two cities are ever "equal"
+	private static final Comparator<Entry> BY_POPULATION = (a, b) -> a.population != b.population
+			? Integer.compare(b.population, a.population)
+			: Integer.compare(a.id, b.id);
+
+	private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+	// each guarded by itself
+	private final Map<String, CountryRanking> byCountry = new ConcurrentHashMap<>();
+	private final Map<String, TreeSet<Entry>> byContinent = new ConcurrentHashMap<>();
+	// all guarded by capitals, capitalReferences is read without it to skip the lock for most cities
+	private final TreeSet<Entry> capitals = new TreeSet<>(BY_POPULATION);
+	private final Map<Integer, Entry> capitalEntries = new HashMap<>();
+	private final Map<Integer, Integer> capitalReferences = new ConcurrentHashMap<>();
+
+	// published answers
+	private final Map<String, City> topByCountry = new ConcurrentHashMap<>();
+	private final Map<String, City> topByContinent = new ConcurrentHashMap<>();
+	private volatile City topCapital;
+
+	/*
+	 * Subscribes to the dao and loads what it holds now. Attach before writers
+	 * start: a removal racing the initial load can leave the removed city behind.
+	 */
+	public static WorldStatistics attach(InMemoryWorldDao dao) {
+		WorldStatistics statistics = new WorldStatistics();
+		dao.addChangeListener(statistics);
+		// whatever an event already put in stays, it is newer than this
+		for (Country country : dao.findAllCountries())
+			statistics.putCountry(country, true);
+		for (City city : dao.findAllCities())
+			statistics.add(city, true);
+		return statistics;
+	}
+
+	public City findMostPopulatedCity(String countryCode) {
+		return topByCountry.get(countryCode);
+	}
+
+	public City findMostPopulatedCityOfContinent(String continent) {
+		return topByContinent.get(continent);
+	}
+
+	public City findMostPopulatedCapital() {
+		return topCapital;
+	}
+
+	// live read-only views, one city per country / per continent
+	public Collection<City> mostPopulatedCityPerCountry() {
+		return Collections.unmodifiableCollection(topByCountry.values());
+	}
+
+	public Collection<City> mostPopulatedCityPerContinent() {
+		return Collections.unmodifiableCollection(topByContinent.values());
+	}
+
+	public List<City> findTopCities(String countryCode, int limit) {
+		CountryRanking country = byCountry.get(countryCode);
+		if (country == null)
+			return new ArrayList<>();
+		synchronized (country) {
+			return top(country.cities, limit);
+		}
+	}
+
+	public List<City> findTopCitiesOfContinent(String continent, int limit) {
+		TreeSet<Entry> ranking = byContinent.get(continent);
+		if (ranking == null)
+			return new ArrayList<>();
+		synchronized (ranking) {
+			return top(ranking, limit);
+		}
+	}
+
+	public List<City> findTopCapitals(int limit) {
+		synchronized (capitals) {
+			return top(capitals, limit);
+		}
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// WorldChangeListener
+
+	@Override
+	public void cityAdded(City city) {
+		add(city, false);
+	}
+
+	@Override
+	public void cityUpdated(City previous, City current) {
+		remove(current.getId());
+		add(current, false);
+	}
+
+	@Override
+	public void cityRemoved(City city) {
+		remove(city.getId());
+	}
+
+	@Override
+	public void countryAdded(Country country) {
+		putCountry(country, false);
+	}
+
+	@Override
+	public void countryUpdated(Country previous, Country current) {
+		putCountry(current, false);
+	}
+
+	@Override
+	public void countryRemoved(Country country) {
+		CountryRanking ranking = byCountry.get(country.getCode());
+		if (ranking == null)
+			return;
+		synchronized (ranking) {
+			moveContinent(ranking, null);
+			dropCapital(ranking.capital);
+			ranking.capital = null;
+			ranking.known = false;
+			publishCountry(country.getCode(), ranking);
+		}
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	private CountryRanking country(String code) {
+		return byCountry.computeIfAbsent(code, key -> new CountryRanking());
+	}
+
+	private TreeSet<Entry> continent(String continent) {
+		return byContinent.computeIfAbsent(continent, key -> new TreeSet<>(BY_POPULATION));
+	}
+
+	// ifAbsent: only for a country no event has put in yet, see attach
+	private void putCountry(Country country, boolean ifAbsent) {
+		CountryRanking ranking = country(country.getCode());
+		synchronized (ranking) {
+			if (ifAbsent && ranking.known)
+				return;
+			ranking.known = true;
+			publishCountry(country.getCode(), ranking);
+			moveContinent(ranking, country.getContinent());
+			Integer oldCapital = ranking.capital;
+			ranking.capital = country.getCapital();
+			if (oldCapital == null || oldCapital != country.getCapital()) {
+				dropCapital(oldCapital);
+				addCapital(country.getCapital());
+			}
+		}
+	}
+
+	// the country's cities change continent ranking, O(k log n) for k cities; caller holds country
+	private void moveContinent(CountryRanking country, String to) {
+		String from = country.continent;
+		if (from == null ? to == null : from.equals(to))
+			return;
+		country.continent = to;
+		if (from != null) {
+			TreeSet<Entry> ranking = continent(from);
+			synchronized (ranking) {
+				ranking.removeAll(country.cities);
+				publish(topByContinent, from, ranking);
+			}
+		}
+		if (to != null) {
+			TreeSet<Entry> ranking = continent(to);
+			synchronized (ranking) {
+				ranking.addAll(country.cities);
+				publish(topByContinent, to, ranking);
+			}
+		}
+	}
+
+	private void addCapital(int id) {
+		synchronized (capitals) {
+			if (capitalReferences.merge(id, 1, Integer::sum) == 1) {
+				// the reference is in before the lookup, a city added meanwhile finds it (see add)
+				Entry capital = entries.get(id);
+				if (capital != null)
+					putCapital(capital);
+			}
+			publishCapital();
+		}
+	}
+
+	private void dropCapital(Integer id) {
+		if (id == null)
+			return;
+		synchronized (capitals) {
+			Integer references = capitalReferences.merge(id, -1, Integer::sum);
+			if (references == 0) {
+				capitalReferences.remove(id);
+				// by id: the entry in the tree may be one a concurrent remove already took out of entries
+				Entry capital = capitalEntries.remove(id);
+				if (capital != null)
+					capitals.remove(capital);
+			}
+			publishCapital();
+		}
+	}
+
+	// ifAbsent: only for a city no event has put in yet, see attach
+	private void add(City city, boolean ifAbsent) {
+		Entry entry = new Entry(city);
+		if (ifAbsent) {
+			if (entries.putIfAbsent(entry.id, entry) != null)
+				return;
+		} else {
+			entries.put(entry.id, entry);
+		}
+		CountryRanking country = entry.countryCode == null ? null : country(entry.countryCode);
+		if (country != null) {
+			synchronized (country) {
+				country.cities.add(entry);
+				publishCountry(entry.countryCode, country);
+				if (country.continent != null) {
+					TreeSet<Entry> ranking = continent(country.continent);
+					synchronized (ranking) {
+						ranking.add(entry);
+						publish(topByContinent, country.continent, ranking);
+					}
+				}
+			}
+		}
+		// the entry is in before the check, a capital reference added meanwhile finds it (see addCapital)
+		if (capitalReferences.containsKey(entry.id)) {
+			synchronized (capitals) {
+				if (capitalReferences.containsKey(entry.id) && entries.get(entry.id) == entry) {
+					putCapital(entry);
+					publishCapital();
+				}
+			}
+		}
+	}
+
+	private void remove(int id) {
+		Entry entry = entries.remove(id);
+		if (entry == null)
+			return;
+		CountryRanking country = entry.countryCode == null ? null : byCountry.get(entry.countryCode);
+		if (country != null) {
+			synchronized (country) {
+				country.cities.remove(entry);
+				publishCountry(entry.countryCode, country);
+				if (country.continent != null) {
+					TreeSet<Entry> ranking = continent(country.continent);
+					synchronized (ranking) {
+						ranking.remove(entry);
+						publish(topByContinent, country.continent, ranking);
+					}
+				}
+			}
+		}
+		// a reference added after this check no longer finds the entry, one dropped takes it out by id
+		if (capitalReferences.containsKey(entry.id)) {
+			synchronized (capitals) {
+				if (capitalEntries.remove(entry.id, entry)) {
+					capitals.remove(entry);
+					publishCapital();
+				}
+			}
+		}
+	}
+
+	// caller holds capitals
+	private void putCapital(Entry entry) {
+		Entry previous = capitalEntries.put(entry.id, entry);
+		if (previous != null)
+			capitals.remove(previous);
+		capitals.add(entry);
+	}
+
+	private static void publish(Map<String, City> top, String key, TreeSet<Entry> ranking) {
+		if (ranking.isEmpty())
+			top.remove(key);
+		else
+			top.put(key, ranking.first().city);
+	}
+
+	// caller holds country
+	private void publishCountry(String code, CountryRanking country) {
+		if (country.known)
+			publish(topByCountry, code, country.cities);
+		else
+			topByCountry.remove(code);
+	}
+
+	// caller holds capitals
+	private void publishCapital() {
+		topCapital = capitals.isEmpty() ? null : capitals.first().city;
+	}
+
+	private static List<City> top(TreeSet<Entry> ranking, int limit) {
+		List<City> result = new ArrayList<>();
+		if (ranking == null)
+			return result;
+		Iterator<Entry> iterator = ranking.iterator();
+		while (iterator.hasNext() && result.size() < limit)
+			result.add(iterator.next().city);
+		return result;
+	}
+
+	// one country's cities, continent and capital, all guarded by the CountryRanking itself
+	private static final class CountryRanking {
+		final TreeSet<Entry> cities = new TreeSet<>(BY_POPULATION);
+		String continent;
+		Integer capital;
+		// set by a country event or the initial load, cleared when the country is removed
+		boolean known;
+	}
+
+	// the ranking key is frozen here, a City mutated in place cannot corrupt the trees
+	private static final class Entry {
+		final int id;
+		final int population;
+		final String countryCode;
+		final City city;
+
+		Entry(City city) {
+			this.id = city.getId();
+			this.population = city.getPopulation();
+			this.countryCode = city.getCountryCode();
+			this.city = city;
+		}
+	}
+}
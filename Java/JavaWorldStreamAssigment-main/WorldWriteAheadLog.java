@@ -0,0 +1,700 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.zip.CRC32C;
+
+/*
+ * Optional durability for an InMemoryWorldDao: every mutation is appended to a
+ * write-ahead log, snapshots are taken every so often, and open() rebuilds the dao
+ * from the newest snapshot plus the log after it.
+ *
+ *   InMemoryWorldDao dao = WorldWriteAheadLog.open(dir, new WorldDaoBuilder(), new Options());
+ *
+ * The directory holds
+ *
+ *   wal-<first sequence>.log       segments, a new one every segmentBytes
+ *   snapshot-<sequence>.bin        WorldSnapshotFile holding everything before that sequence
+ *
+ * and a record is  int bodyLength, int crc32c(body), body = long sequence, byte kind, fields.
+ * Replay stops at the first torn or corrupt record of the last segment and cuts it off there.
+ *
+ * Group commit: writers only copy their record into a shared buffer; one committer
+ * thread writes and fsyncs whatever accumulated in one go. With SYNC durability a
+ * mutation returns once its record is on disk, so concurrent writers share fsyncs;
+ * with ASYNC it returns at once and the committer syncs every syncIntervalMillis,
+ * so a crash loses at most that much.
+ *
+ * The dao logs a mutation before it changes anything, under the lock of the key it
+ * changes, so records of one key are in apply order and a mutation whose record
+ * could not be logged (closed, failed) leaves the dao as it was. Writers the
+ * maxPendingBytes limit holds back wait for the committer before they take any lock.
+ *
+ * A batch of the dao is one BATCH record (int count, then count records of the kinds
+ * above without their own header or sequence), written when the batch commits and
+ * replayed as one batch: a crash leaves all of it or none of it.
+ *
+ * A snapshot is taken while writers keep going, so it may already contain some of
+ * the records logged after its sequence. Records carry full values (an update logs
+ * the whole new city), replaying one twice gives the same state, so that is fine.
+ *
+ * setCountries / setCities are not mutations in this sense and are not logged.
+ * After an I/O failure every mutation throws UncheckedIOException; reopen the directory.
+ * A failed background checkpoint only costs a longer replay, the log keeps everything;
+ * it is kept for checkpointFailure() until one succeeds again.
+ */
+public class WorldWriteAheadLog implements Closeable {
+
+	public enum Durability {
+		// the mutation returns once its record is fsynced
+		SYNC,
+		// the mutation returns at once, the committer fsyncs every syncIntervalMillis
+		ASYNC
+	}
+
+	public static final class Options {
+		Durability durability = Durability.SYNC;
+		long syncIntervalMillis = 0;
+		long segmentBytes = 64L << 20;
+		long checkpointEvery = 1_000_000;
+		int maxPendingBytes = 16 << 20;
+
+		public Options durability(Durability durability) {
+			this.durability = durability;
+			return this;
+		}
+
+		// ASYNC: how often to fsync; SYNC: how long to wait for more writers before an fsync (0: never wait)
+		public Options syncIntervalMillis(long syncIntervalMillis) {
+			this.syncIntervalMillis = syncIntervalMillis;
+			return this;
+		}
+
+		public Options segmentBytes(long segmentBytes) {
+			this.segmentBytes = segmentBytes;
+			return this;
+		}
+
+		// records between background snapshots, 0 for none
+		public Options checkpointEvery(long checkpointEvery) {
+			this.checkpointEvery = checkpointEvery;
+			return this;
+		}
+
+		// writers wait for the committer once this much is waiting to be written
+		public Options maxPendingBytes(int maxPendingBytes) {
+			this.maxPendingBytes = maxPendingBytes;
+			return this;
+		}
+	}
+
+	private static final byte CITY_PUT = 1;
+	private static final byte CITY_REMOVED = 2;
+	private static final byte COUNTRY_PUT = 3;
+	private static final byte COUNTRY_REMOVED = 4;
+	// CITY_PUT followed by float latitude and longitude, for cities with a location
+	private static final byte CITY_PLACED = 5;
+	// a whole batch, see above
+	private static final byte BATCH = 6;
+	private static final int RECORD_HEADER = 2 * Integer.BYTES;
+	private static final String SEGMENT_PREFIX = "wal-";
+	private static final String SEGMENT_SUFFIX = ".log";
+	private static final String SNAPSHOT_PREFIX = "snapshot-";
+	private static final String SNAPSHOT_SUFFIX = ".bin";
+
+	private final Path directory;
+	private final Options options;
+	private final InMemoryWorldDao dao;
+	private final Thread committer;
+	private final ThreadLocal<long[]> lastAppended = ThreadLocal.withInitial(() -> new long[] { -1 });
+	private final AtomicBoolean checkpointRunning = new AtomicBoolean();
+
+	// guarded by this
+	private ByteBuffer pending = ByteBuffer.allocateDirect(1 << 20);
+	private ByteBuffer flushing = ByteBuffer.allocateDirect(1 << 20);
+	private final CRC32C crc = new CRC32C();
+	private int recordStart;
+	private long nextSequence;
+	private long durableSequence;
+	private boolean committerIdle;
+	private boolean closed;
+	private IOException failure;
+	// the records of the batch in progress, null when there is none; only ever one, under the dao's exclusive lock
+	private ByteBuffer batchRecords;
+	private int batchCount;
+
+	// committer thread only
+	private FileChannel segment;
+	private long segmentSize;
+	private volatile long lastCheckpoint;
+	// what the last background checkpoint failed with, null when it succeeded
+	private volatile Exception checkpointFailure;
+
+	private WorldWriteAheadLog(Path directory, Options options, InMemoryWorldDao dao, long nextSequence,
+			long lastCheckpoint) throws IOException {
+		this.directory = directory;
+		this.options = options;
+		this.dao = dao;
+		this.nextSequence = nextSequence;
+		this.durableSequence = nextSequence;
+		this.lastCheckpoint = lastCheckpoint;
+		openSegment(nextSequence);
+		committer = new Thread(this::commitLoop, "world-wal-committer");
+		committer.setDaemon(true);
+		committer.start();
+	}
+
+	/*
+	 * Recovers the dao kept in directory, or starts one from base when the directory
+	 * is new (base is only read then). Mutations of the returned dao are logged until
+	 * close().
+	 */
+	public static InMemoryWorldDao open(Path directory, WorldDaoBuilder base, Options options) throws IOException {
+		Files.createDirectories(directory);
+		long snapshotSequence = -1;
+		InMemoryWorldDao dao = null;
+		List<Long> snapshots = sequences(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+		for (int i = snapshots.size() - 1; i >= 0 && dao == null; i--) {
+			try {
+				dao = load(new MappedWorldDao(file(directory, SNAPSHOT_PREFIX, snapshots.get(i), SNAPSHOT_SUFFIX)),
+						base);
+				snapshotSequence = snapshots.get(i);
+			} catch (IOException e) {
+				// half written or damaged, an older one plus a longer replay will do
+			}
+		}
+		if (dao == null)
+			dao = base.buildInMemory();
+
+		long next = replay(directory, dao, Math.max(0, snapshotSequence));
+		WorldWriteAheadLog log = new WorldWriteAheadLog(directory, options, dao, next, Math.max(0, snapshotSequence));
+		dao.setWriteAheadLog(log);
+		// the next recovery should not have to start from base or replay all of this again
+		if (snapshotSequence < 0 || next > snapshotSequence)
+			log.checkpointInBackground();
+		return log.dao;
+	}
+
+	// the log writing for dao, null if it has none
+	public static WorldWriteAheadLog of(InMemoryWorldDao dao) {
+		return dao.getWriteAheadLog();
+	}
+
+	public synchronized long nextSequence() {
+		return nextSequence;
+	}
+
+	public synchronized long durableSequence() {
+		return durableSequence;
+	}
+
+	// why the last background checkpoint failed, null when it succeeded or none ran yet
+	public Exception checkpointFailure() {
+		return checkpointFailure;
+	}
+
+	// waits until everything the calling thread logged is on disk (SYNC), returns at once with ASYNC
+	public void awaitDurable() {
+		if (options.durability == Durability.SYNC)
+			awaitDurable(lastAppended.get()[0]);
+	}
+
+	// waits until everything logged so far is on disk, whatever the durability
+	public void flush() {
+		long last;
+		synchronized (this) {
+			last = nextSequence - 1;
+			notifyAll();
+		}
+		awaitDurable(last);
+	}
+
+	/*
+	 * Writes a snapshot and drops the segments and snapshots it makes redundant. Runs
+	 * concurrently with writers, they only wait while the sequence and the version
+	 * are read together.
+	 */
+	public void checkpoint() throws IOException {
+		long sequence;
+		WorldSnapshot snapshot;
+		// no mutation is between its record and its publish, so the version holds every record below sequence
+		Lock lock = dao.exclusiveLock();
+		lock.lock();
+		try {
+			synchronized (this) {
+				sequence = nextSequence;
+			}
+			snapshot = dao.snapshot();
+		} finally {
+			lock.unlock();
+		}
+		WorldSnapshotFile.write(snapshot.findAllCountries(), snapshot.findAllCities(),
+				file(directory, SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX));
+		lastCheckpoint = sequence;
+
+		for (long older : sequences(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX))
+			if (older < sequence)
+				Files.deleteIfExists(file(directory, SNAPSHOT_PREFIX, older, SNAPSHOT_SUFFIX));
+		// a segment can go once the one after it starts at or below the snapshot
+		List<Long> segments = sequences(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+		for (int i = 0; i + 1 < segments.size(); i++)
+			if (segments.get(i + 1) <= sequence)
+				Files.deleteIfExists(file(directory, SEGMENT_PREFIX, segments.get(i), SEGMENT_SUFFIX));
+	}
+
+	/*
+	 * Flushes what is pending and stops logging; the dao stays usable, without
+	 * durability. Waits for the mutation or batch in progress, so none of them is
+	 * half logged; not to be called from inside one.
+	 */
+	@Override
+	public void close() throws IOException {
+		Lock lock = dao.exclusiveLock();
+		lock.lock();
+		try {
+			dao.setWriteAheadLog(null);
+			synchronized (this) {
+				closed = true;
+				notifyAll();
+			}
+		} finally {
+			lock.unlock();
+		}
+		try {
+			committer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		synchronized (this) {
+			if (failure != null)
+				throw failure;
+		}
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// called by the dao before it applies the change, they never wait; a throw means nothing is logged
+
+	// added or updated, the whole city
+	void logCity(City city) {
+		byte[] name = utf8(city.getName());
+		byte[] code = utf8(city.getCountryCode());
+		boolean placed = city.hasLocation();
+		synchronized (this) {
+			ByteBuffer body = begin(placed ? CITY_PLACED : CITY_PUT,
+					2 * Integer.BYTES + stringBytes(name) + stringBytes(code) + (placed ? 2 * Float.BYTES : 0));
+			body.putInt(city.getId()).putInt(city.getPopulation());
+			putString(body, name);
+			putString(body, code);
+			if (placed)
+				body.putFloat((float) city.getLatitude()).putFloat((float) city.getLongitude());
+			end(body);
+		}
+	}
+
+	void logCityRemoved(int id) {
+		synchronized (this) {
+			ByteBuffer body = begin(CITY_REMOVED, Integer.BYTES);
+			body.putInt(id);
+			end(body);
+		}
+	}
+
+	// added or updated, the whole country
+	void logCountry(Country country) {
+		byte[] code = utf8(country.getCode());
+		byte[] name = utf8(country.getName());
+		byte[] continent = utf8(country.getContinent());
+		synchronized (this) {
+			ByteBuffer body = begin(COUNTRY_PUT, stringBytes(code) + stringBytes(name) + stringBytes(continent)
+					+ 2 * Integer.BYTES + 2 * Double.BYTES);
+			putString(body, code);
+			putString(body, name);
+			putString(body, continent);
+			body.putInt(country.getPopulation()).putInt(country.getCapital());
+			body.putDouble(country.getSurfaceArea()).putDouble(country.getGnp());
+			end(body);
+		}
+	}
+
+	void logCountryRemoved(String countryCode) {
+		byte[] code = utf8(countryCode);
+		synchronized (this) {
+			ByteBuffer body = begin(COUNTRY_REMOVED, stringBytes(code));
+			putString(body, code);
+			end(body);
+		}
+	}
+
+	// the records logged from here to commitBatch() become one BATCH record; the dao holds its exclusive lock
+	void beginBatch() {
+		synchronized (this) {
+			if (failure != null)
+				throw new UncheckedIOException("The write-ahead log failed earlier", failure);
+			if (closed)
+				throw new IllegalStateException("The write-ahead log is closed");
+			batchRecords = ByteBuffer.allocate(1 << 12);
+			batchCount = 0;
+		}
+	}
+
+	// logs the batch as one record, nothing when it changed nothing; a throw means none of it is logged
+	void commitBatch() {
+		synchronized (this) {
+			ByteBuffer records = batchRecords;
+			batchRecords = null;
+			if (records == null || batchCount == 0)
+				return;
+			ByteBuffer body = begin(BATCH, Integer.BYTES + records.position());
+			body.putInt(batchCount);
+			records.flip();
+			body.put(records);
+			end(body);
+		}
+	}
+
+	/*
+	 * Holds the caller back while the committer is behind by maxPendingBytes. The dao
+	 * calls it before it takes any lock; records logged by writers already past it may
+	 * take the buffer a little over the limit, it grows for them.
+	 */
+	void awaitCapacity() {
+		synchronized (this) {
+			while (failure == null && !closed && pending.position() > 0
+					&& pending.position() >= options.maxPendingBytes) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Interrupted waiting for the write-ahead log", e);
+				}
+			}
+		}
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// appending, all under this
+
+	// reserves the record header and writes the sequence and kind, fields follow
+	private ByteBuffer begin(byte kind, int fieldBytes) {
+		int recordBytes = RECORD_HEADER + Long.BYTES + 1 + fieldBytes;
+		if (failure != null)
+			throw new UncheckedIOException("The write-ahead log failed earlier", failure);
+		if (closed)
+			throw new IllegalStateException("The write-ahead log is closed");
+		if (batchRecords != null) {
+			// inside a batch a record is only its kind and fields
+			batchRecords = ensureRemaining(batchRecords, 1 + fieldBytes);
+			return batchRecords.put(kind);
+		}
+		pending = ensureRemaining(pending, recordBytes);
+		recordStart = pending.position();
+		// the checksum is filled in by end()
+		pending.putInt(Long.BYTES + 1 + fieldBytes).putInt(0).putLong(nextSequence).put(kind);
+		return pending;
+	}
+
+	// fills in the checksum and hands the record to the committer
+	private void end(ByteBuffer body) {
+		if (body == batchRecords) {
+			batchCount++;
+			return;
+		}
+		ByteBuffer content = body.duplicate();
+		content.position(recordStart + RECORD_HEADER).limit(body.position());
+		crc.reset();
+		crc.update(content);
+		body.putInt(recordStart + Integer.BYTES, (int) crc.getValue());
+		lastAppended.get()[0] = nextSequence++;
+		if (committerIdle) {
+			committerIdle = false;
+			notifyAll();
+		}
+	}
+
+	private static ByteBuffer ensureRemaining(ByteBuffer buffer, int bytes) {
+		if (buffer.remaining() >= bytes)
+			return buffer;
+		int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+		ByteBuffer larger = buffer.isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+		buffer.flip();
+		larger.put(buffer);
+		return larger;
+	}
+
+	private void awaitDurable(long sequence) {
+		if (sequence < 0)
+			return;
+		synchronized (this) {
+			while (durableSequence <= sequence && failure == null) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Interrupted waiting for the write-ahead log", e);
+				}
+			}
+			if (durableSequence <= sequence)
+				throw new UncheckedIOException("The write-ahead log failed", failure);
+		}
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// committer
+
+	private void commitLoop() {
+		try {
+			while (true) {
+				long upTo;
+				synchronized (this) {
+					while (!closed && pending.position() == 0) {
+						committerIdle = true;
+						wait();
+					}
+					committerIdle = false;
+					// give more writers the chance to join this write and fsync
+					long deadline = System.currentTimeMillis() + options.syncIntervalMillis;
+					for (long left = options.syncIntervalMillis; left > 0 && !closed; left = deadline
+							- System.currentTimeMillis())
+						wait(left);
+					if (closed && pending.position() == 0)
+						break;
+					ByteBuffer full = pending;
+					pending = flushing;
+					flushing = full;
+					upTo = nextSequence;
+					// writers held back by maxPendingBytes can go on
+					notifyAll();
+				}
+				flushing.flip();
+				while (flushing.hasRemaining())
+					segmentSize += segment.write(flushing);
+				flushing.clear();
+				segment.force(false);
+				synchronized (this) {
+					durableSequence = upTo;
+					notifyAll();
+				}
+				if (segmentSize >= options.segmentBytes)
+					openSegment(upTo);
+				if (options.checkpointEvery > 0 && upTo - lastCheckpoint >= options.checkpointEvery)
+					checkpointInBackground();
+			}
+			segment.close();
+		} catch (IOException e) {
+			synchronized (this) {
+				failure = e;
+				notifyAll();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void openSegment(long firstSequence) throws IOException {
+		if (segment != null)
+			segment.close();
+		segment = FileChannel.open(file(directory, SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		segmentSize = 0;
+	}
+
+	private void checkpointInBackground() {
+		if (!checkpointRunning.compareAndSet(false, true))
+			return;
+		Thread thread = new Thread(() -> {
+			try {
+				checkpoint();
+				checkpointFailure = null;
+			} catch (IOException | RuntimeException e) {
+				// the log still has everything, the next checkpoint tries again
+				checkpointFailure = e;
+			} finally {
+				checkpointRunning.set(false);
+			}
+		}, "world-wal-checkpoint");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+	// recovery
+
+	// base only lends its options, its data source is left alone
+	private static InMemoryWorldDao load(MappedWorldDao snapshot, WorldDaoBuilder base) {
+		Map<String, Country> countries = new ConcurrentHashMap<>();
+		Map<Integer, City> cities = new ConcurrentHashMap<>();
+		for (Country country : snapshot.findAllCountries())
+			countries.put(country.getCode(), country);
+		for (City city : snapshot.findAllCities())
+			cities.put(city.getId(), city);
+		return new WorldDaoBuilder().kernels(base.kernels).data(countries, cities).buildInMemory();
+	}
+
+	// applies every record from sequence on, returns the sequence after the last one
+	private static long replay(Path directory, InMemoryWorldDao dao, long sequence) throws IOException {
+		List<Long> segments = sequences(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+		long next = sequence;
+		for (int i = 0; i < segments.size(); i++) {
+			boolean last = i == segments.size() - 1;
+			if (!last && segments.get(i + 1) <= sequence)
+				continue;
+			Path path = file(directory, SEGMENT_PREFIX, segments.get(i), SEGMENT_SUFFIX);
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				CRC32C crc = new CRC32C();
+				int position = 0;
+				while (position < data.limit()) {
+					long seq = validRecord(data, position, crc);
+					if (seq < 0) {
+						if (!last)
+							throw new IOException("Corrupt record at byte " + position + " of " + path);
+						// a write the crash cut short, nothing after it was ever acknowledged
+						channel.truncate(position);
+						break;
+					}
+					int length = data.getInt(position);
+					if (seq >= next) {
+						if (seq != next)
+							throw new IOException("Record " + next + " is missing before " + path);
+						apply(dao, data, position + RECORD_HEADER + Long.BYTES);
+						next = seq + 1;
+					}
+					position += RECORD_HEADER + length;
+				}
+			}
+		}
+		return next;
+	}
+
+	// the record's sequence, or -1 when it is cut short or fails its checksum
+	private static long validRecord(ByteBuffer data, int position, CRC32C crc) {
+		if (data.limit() - position < RECORD_HEADER)
+			return -1;
+		int length = data.getInt(position);
+		if (length < Long.BYTES + 1 || length > data.limit() - position - RECORD_HEADER)
+			return -1;
+		ByteBuffer body = data.duplicate();
+		body.position(position + RECORD_HEADER).limit(position + RECORD_HEADER + length);
+		crc.reset();
+		crc.update(body);
+		if ((int) crc.getValue() != data.getInt(position + Integer.BYTES))
+			return -1;
+		return data.getLong(position + RECORD_HEADER);
+	}
+
+	private static void apply(InMemoryWorldDao dao, ByteBuffer data, int position) {
+		ByteBuffer in = data.duplicate();
+		in.position(position);
+		byte kind = in.get();
+		if (kind != BATCH) {
+			apply(dao, kind, in);
+			return;
+		}
+		int count = in.getInt();
+		// one version, as it was when logged
+		dao.batch(batched -> {
+			for (int i = 0; i < count; i++)
+				apply(dao, in.get(), in);
+		});
+	}
+
+	private static void apply(InMemoryWorldDao dao, byte kind, ByteBuffer in) {
+		switch (kind) {
+		case CITY_PUT:
+		case CITY_PLACED: {
+			int id = in.getInt();
+			int population = in.getInt();
+			City city = new City(id, getString(in), getString(in), population);
+			if (kind == CITY_PLACED) {
+				city.setLatitude(in.getFloat());
+				city.setLongitude(in.getFloat());
+			}
+			if (dao.updateCity(city) == null)
+				dao.addCity(city);
+			break;
+		}
+		case CITY_REMOVED:
+			dao.removeCity(new City(in.getInt(), null, null, 0));
+			break;
+		case COUNTRY_PUT: {
+			String code = getString(in);
+			String name = getString(in);
+			String continent = getString(in);
+			int population = in.getInt();
+			int capital = in.getInt();
+			double surfaceArea = in.getDouble();
+			double gnp = in.getDouble();
+			dao.addCountry(new Country(code, name, continent, population, surfaceArea, gnp, capital));
+			break;
+		}
+		case COUNTRY_REMOVED:
+			dao.removeCountry(new Country(getString(in), null, null, 0, 0, 0, 0));
+			break;
+		default:
+			throw new IllegalStateException("Unknown record kind " + kind);
+		}
+	}
+
+	///////////////////////////////////////////////////////////////////////////////
+
+	private static byte[] utf8(String value) {
+		return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static int stringBytes(byte[] bytes) {
+		return Integer.BYTES + (bytes == null ? 0 : bytes.length);
+	}
+
+	// length -1 stands for null
+	private static void putString(ByteBuffer out, byte[] bytes) {
+		if (bytes == null) {
+			out.putInt(-1);
+			return;
+		}
+		out.putInt(bytes.length).put(bytes);
+	}
+
+	private static String getString(ByteBuffer in) {
+		int length = in.getInt();
+		if (length < 0)
+			return null;
+		byte[] bytes = new byte[length];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static Path file(Path directory, String prefix, long sequence, String suffix) {
+		return directory.resolve(prefix + String.format("%020d", sequence) + suffix);
+	}
+
+	// the sequences in the names of the matching files, ascending
+	private static List<Long> sequences(Path directory, String prefix, String suffix) throws IOException {
+		List<Long> sequences = new ArrayList<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*" + suffix)) {
+			for (Path path : files) {
+				String name = path.getFileName().toString();
+				try {
+					sequences.add(Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())));
+				} catch (NumberFormatException e) {
+					// not one of ours
+				}
+			}
+		}
+		Collections.sort(sequences);
+		return sequences;
+	}
+}
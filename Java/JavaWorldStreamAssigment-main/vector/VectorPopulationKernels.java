@@ -0,0 +1,122 @@
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/*
+ * PopulationKernels on jdk.incubator.vector, the widest int vector the CPU has. Only
+ * built and loaded with --add-modules jdk.incubator.vector, see PopulationKernels.
+ *
+ * maxIndex takes two passes, a lane wise max and then the first lane equal to it,
+ * both vector compares. sum widens every vector into two long halves, a billion
+ * people do not fit an int lane. groupedMaxIndex gathers the best value so far of
+ * each lane's group and compares; only lanes that beat it, which after the first
+ * few thousand rows is almost none, go through the scalar update.
+ */
+public final class VectorPopulationKernels extends PopulationKernels {
+	private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+	public VectorPopulationKernels() {
+		// the halves of an int vector must each fill a long vector
+		if (LONGS.length() * 2 != INTS.length())
+			throw new IllegalStateException("Unexpected vector shapes " + INTS + ", " + LONGS);
+	}
+
+	@Override
+	public String name() {
+		return "vector" + INTS.length();
+	}
+
+	@Override
+	public int maxIndex(int[] values, int from, int to) {
+		if (from >= to)
+			return -1;
+		int bound = from + INTS.loopBound(to - from);
+		int max = Integer.MIN_VALUE;
+		if (bound > from) {
+			IntVector lanes = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+			for (int i = from; i < bound; i += INTS.length())
+				lanes = lanes.max(IntVector.fromArray(INTS, values, i));
+			max = lanes.reduceLanes(VectorOperators.MAX);
+		}
+		for (int i = bound; i < to; i++)
+			max = Math.max(max, values[i]);
+		for (int i = from; i < bound; i += INTS.length()) {
+			VectorMask<Integer> hit = IntVector.fromArray(INTS, values, i).eq(max);
+			if (hit.anyTrue())
+				return i + hit.firstTrue();
+		}
+		for (int i = bound; i < to; i++)
+			if (values[i] == max)
+				return i;
+		throw new IllegalStateException("maximum vanished");
+	}
+
+	@Override
+	public long sum(int[] values, int from, int to) {
+		int bound = from + INTS.loopBound(to - from);
+		LongVector sums = LongVector.zero(LONGS);
+		for (int i = from; i < bound; i += INTS.length()) {
+			IntVector lanes = IntVector.fromArray(INTS, values, i);
+			sums = sums.add(lanes.convertShape(VectorOperators.I2L, LONGS, 0))
+					.add(lanes.convertShape(VectorOperators.I2L, LONGS, 1));
+		}
+		long sum = sums.reduceLanes(VectorOperators.ADD);
+		for (int i = bound; i < to; i++)
+			sum += values[i];
+		return sum;
+	}
+
+	@Override
+	public int countBetween(int[] values, int from, int to, int min, int max) {
+		int bound = from + INTS.loopBound(to - from);
+		int count = 0;
+		for (int i = from; i < bound; i += INTS.length()) {
+			IntVector lanes = IntVector.fromArray(INTS, values, i);
+			count += lanes.compare(VectorOperators.GE, min).and(lanes.compare(VectorOperators.LE, max)).trueCount();
+		}
+		for (int i = bound; i < to; i++)
+			if (values[i] >= min && values[i] <= max)
+				count++;
+		return count;
+	}
+
+	@Override
+	public void groupedMaxIndex(int[] values, int[] groups, int from, int to, int[] best) {
+		// the best value of every group next to best, Integer.MIN_VALUE for none yet
+		int[] bestValues = new int[best.length];
+		for (int g = 0; g < best.length; g++)
+			bestValues[g] = best[g] < 0 ? Integer.MIN_VALUE : values[best[g]];
+		int bound = from + INTS.loopBound(to - from);
+		for (int i = from; i < bound; i += INTS.length()) {
+			IntVector group = IntVector.fromArray(INTS, groups, i);
+			VectorMask<Integer> valid = group.compare(VectorOperators.GE, 0)
+					.and(group.compare(VectorOperators.LT, best.length));
+			IntVector current = IntVector.fromArray(INTS, bestValues, 0, groups, i, valid);
+			// Integer.MIN_VALUE also stands for no best yet, those lanes go to update() to find out
+			VectorMask<Integer> better = IntVector.fromArray(INTS, values, i).compare(VectorOperators.GT, current)
+					.or(current.eq(Integer.MIN_VALUE)).and(valid);
+			// rare, so the whole vector goes through the scalar check in lane order: a group may
+			// come up twice in it, and reading single lanes out of the mask boxes it on JDK 17
+			if (better.anyTrue())
+				for (int j = i; j < i + INTS.length(); j++)
+					if (groups[j] >= 0 && groups[j] < best.length)
+						update(values, groups, j, best, bestValues);
+		}
+		for (int i = bound; i < to; i++) {
+			int group = groups[i];
+			if (group >= 0 && group < best.length)
+				update(values, groups, i, best, bestValues);
+		}
+	}
+
+	private static void update(int[] values, int[] groups, int i, int[] best, int[] bestValues) {
+		int group = groups[i];
+		if (best[group] < 0 || values[i] > bestValues[group]) {
+			best[group] = i;
+			bestValues[group] = values[i];
+		}
+	}
+}
@@ -0,0 +1,119 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/*
+ * Loading cities into an empty InMemoryWorldDao one addCity at a time against one
+ * addCities batch, and the same for updates, in three setups: a bare dao, one whose
+ * name and population indexes are in use, and one with a SYNC write-ahead log. Each
+ * line is the best of bench.rounds runs.
+ *
+ *   java -Xmx4g -cp ../JavaWorldStreamBenchmarks/out BatchIngestBenchmark
+ *
+ * -Dbench.sizes (default 1000000) cities per load; the write-ahead log runs use
+ * -Dbench.wal.size (default 20000), one fsync per addCity makes a million take hours.
+ */
+public class BatchIngestBenchmark {
+	private static final int ROUNDS = Integer.getInteger("bench.rounds", 3);
+	private static final int WAL_SIZE = Integer.getInteger("bench.wal.size", 20_000);
+
+	// a fresh dao already holding the preload
+	private interface Setup {
+		InMemoryWorldDao dao(List<City> preload) throws IOException;
+	}
+
+	private interface Load {
+		void apply(InMemoryWorldDao dao, List<City> cities);
+	}
+
+	public static void main(String[] args) throws Exception {
+		Path root = Files.createTempDirectory("ingest");
+		System.out.printf("%-36s %10s %12s %14s %10s%n", "benchmark", "cities", "ms", "cities/s", "speedup");
+		for (long size : Bench.sizes("1000000")) {
+			Map<String, Country> countries = SyntheticWorld.countries();
+			List<City> cities = SyntheticWorld.cities((int) size, countries);
+			List<City> updates = updates(cities);
+			compare("bare", cities, updates, preload -> {
+				InMemoryWorldDao dao = empty();
+				dao.addCities(preload);
+				return dao;
+			});
+			compare("searchIndexes", cities, updates, preload -> {
+				InMemoryWorldDao dao = empty();
+				// a big batch drops the search indexes, so they are built after it
+				dao.addCities(preload);
+				dao.findCitiesByNamePrefix("a", 1);
+				dao.topCities(1);
+				return dao;
+			});
+		}
+		Map<String, Country> countries = SyntheticWorld.countries();
+		List<City> cities = SyntheticWorld.cities(WAL_SIZE, countries);
+		int[] run = new int[1];
+		compare("wal.sync", cities, updates(cities), preload -> {
+			InMemoryWorldDao dao = WorldWriteAheadLog.open(root.resolve("wal" + run[0]++),
+					new WorldDaoBuilder().data(SyntheticWorld.countries(), new ConcurrentHashMap<>()),
+					new WorldWriteAheadLog.Options().checkpointEvery(0));
+			dao.addCities(preload);
+			return dao;
+		});
+		delete(root);
+		System.exit(0);
+	}
+
+	private static InMemoryWorldDao empty() {
+		return new WorldDaoBuilder().data(SyntheticWorld.countries(), new ConcurrentHashMap<>()).buildInMemory();
+	}
+
+	private static List<City> updates(List<City> cities) {
+		Random random = new Random(5);
+		List<City> updates = new ArrayList<>(cities.size());
+		for (City city : cities)
+			updates.add(new City(city.getId(), city.getName(), city.getCountryCode(), random.nextInt(10_000_000)));
+		return updates;
+	}
+
+	private static void compare(String setup, List<City> cities, List<City> updates, Setup dao) throws IOException {
+		List<City> none = new ArrayList<>();
+		double addLoop = best(setup + ".addCity.loop", cities, dao, (d, c) -> c.forEach(d::addCity), none, 0);
+		best(setup + ".addCities", cities, dao, InMemoryWorldDao::addCities, none, addLoop);
+		double updateLoop = best(setup + ".updateCity.loop", updates, dao, (d, c) -> c.forEach(d::updateCity),
+				cities, 0);
+		best(setup + ".updateCities", updates, dao, InMemoryWorldDao::updateCities, cities, updateLoop);
+	}
+
+	// every run gets a fresh dao holding preload, only the load itself is timed
+	private static double best(String name, List<City> cities, Setup setup, Load load, List<City> preload,
+			double baseline) throws IOException {
+		double best = Double.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++) {
+			InMemoryWorldDao dao = setup.dao(preload);
+			System.gc();
+			long start = System.nanoTime();
+			load.apply(dao, cities);
+			best = Math.min(best, (System.nanoTime() - start) / 1e6);
+			WorldWriteAheadLog log = WorldWriteAheadLog.of(dao);
+			if (log != null)
+				log.close();
+		}
+		System.out.printf("%-36s %10d %12.1f %14.0f %10s%n", name, cities.size(), best, cities.size() / best * 1e3,
+				baseline == 0 ? "" : String.format("%.1fx", baseline / best));
+		return best;
+	}
+
+	private static void delete(Path dir) throws IOException {
+		if (!Files.exists(dir))
+			return;
+		try (Stream<Path> paths = Files.walk(dir)) {
+			for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator)
+				Files.delete(path);
+		}
+	}
+}
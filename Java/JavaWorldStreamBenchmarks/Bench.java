@@ -0,0 +1,144 @@
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.CyclicBarrier;
+import java.util.function.Supplier;
+
+/*
+ * Small measurement harness for the world benchmarks, modelled on what JMH reports:
+ * a timed warmup, then a timed measurement window giving throughput, p50/p99
+ * latency per operation and allocated bytes per operation (the -prof gc number).
+ *
+ * JMH itself refuses benchmark classes in the default package, and the world
+ * sources have no package, so the benchmarks run on this instead.
+ *
+ * Knobs (system properties): bench.warmup.ms (default 2000), bench.measure.ms (default 5000)
+ */
+final class Bench {
+	private static final long WARMUP_MS = Long.getLong("bench.warmup.ms", 2000);
+	private static final long MEASURE_MS = Long.getLong("bench.measure.ms", 5000);
+	private static final com.sun.management.ThreadMXBean THREADS =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	// results are folded in here so the JIT cannot drop the measured work
+	private static volatile int sink;
+
+	private Bench() {
+	}
+
+	static void header() {
+		System.out.printf("%-44s %12s %14s %12s %12s %14s%n", "benchmark", "size", "ops/s", "p50 us",
+				"p99 us", "alloc B/op");
+	}
+
+	static void run(String name, long size, Supplier<?> operation) {
+		measure(operation, WARMUP_MS);
+
+		long allocatedBefore = allocatedBytes();
+		long start = System.nanoTime();
+		long[] latencies = measure(operation, MEASURE_MS);
+		long elapsed = System.nanoTime() - start;
+		long allocated = allocatedBytes() - allocatedBefore;
+
+		Arrays.sort(latencies);
+		System.out.printf("%-44s %12d %14.1f %12.2f %12.2f %14.0f%n", name, size,
+				latencies.length * 1e9 / elapsed, percentile(latencies, 0.50) / 1e3,
+				percentile(latencies, 0.99) / 1e3, allocated / (double) latencies.length);
+	}
+
+	/*
+	 * The same operation hammered from several threads at once, for calls too cheap to
+	 * time one by one: each sample is a batch of calls, reported as time per call.
+	 * ops/s is the total over all threads.
+	 */
+	static void runConcurrent(String name, int threads, int batch, Supplier<?> operation) {
+		Supplier<Object> batched = () -> {
+			Object result = null;
+			for (int i = 0; i < batch; i++)
+				result = operation.get();
+			return result;
+		};
+		CyclicBarrier start = new CyclicBarrier(threads);
+		long[][] samples = new long[threads][];
+		long[] elapsed = new long[threads];
+		long[] allocated = new long[threads];
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			int worker = t;
+			workers[t] = new Thread(() -> {
+				try {
+					measure(batched, WARMUP_MS);
+					start.await();
+					long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+					long begin = System.nanoTime();
+					samples[worker] = measure(batched, MEASURE_MS);
+					elapsed[worker] = System.nanoTime() - begin;
+					allocated[worker] = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			}, name + "-" + t);
+		}
+		for (Thread worker : workers)
+			worker.start();
+		for (Thread worker : workers) {
+			try {
+				worker.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		double opsPerSecond = 0;
+		long calls = 0;
+		long bytes = 0;
+		for (int t = 0; t < threads; t++) {
+			opsPerSecond += samples[t].length * (double) batch * 1e9 / elapsed[t];
+			calls += samples[t].length * (long) batch;
+			bytes += allocated[t];
+		}
+		long[] latencies = Arrays.stream(samples).flatMapToLong(Arrays::stream).sorted().toArray();
+		System.out.printf("%-44s %12d %14.1f %12.5f %12.5f %14.2f%n", name, threads, opsPerSecond,
+				percentile(latencies, 0.50) / 1e3 / batch, percentile(latencies, 0.99) / 1e3 / batch,
+				bytes / (double) calls);
+	}
+
+	// runs the operation until the window closes, one latency sample per call
+	private static long[] measure(Supplier<?> operation, long millis) {
+		long deadline = System.nanoTime() + millis * 1_000_000;
+		long[] samples = new long[1024];
+		int count = 0;
+		while (true) {
+			long begin = System.nanoTime();
+			Object result = operation.get();
+			long end = System.nanoTime();
+			sink += System.identityHashCode(result);
+			if (count == samples.length)
+				samples = Arrays.copyOf(samples, count * 2);
+			samples[count++] = end - begin;
+			if (end >= deadline)
+				return Arrays.copyOf(samples, count);
+		}
+	}
+
+	private static double percentile(long[] sorted, double fraction) {
+		if (sorted.length == 0)
+			return 0;
+		int index = (int) Math.ceil(fraction * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+	}
+
+	// summed over every live thread, so parallel streams are charged for their worker allocations too
+	private static long allocatedBytes() {
+		long[] ids = THREADS.getAllThreadIds();
+		long total = 0;
+		for (long bytes : THREADS.getThreadAllocatedBytes(ids))
+			if (bytes > 0)
+				total += bytes;
+		return total;
+	}
+
+	static long[] sizes(String defaults) {
+		return Arrays.stream(System.getProperty("bench.sizes", defaults).split(",")).mapToLong(Long::parseLong)
+				.toArray();
+	}
+}
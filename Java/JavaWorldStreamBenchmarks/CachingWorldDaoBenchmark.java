@@ -0,0 +1,53 @@
+import java.util.List;
+import java.util.Random;
+
+/*
+ * The exercise aggregations and grouped lookups straight on the dao and through a
+ * CachingWorldDao, read-only and with one city update every 1,000 reads.
+ *
+ *   java -Xmx4g -cp ../JavaWorldStreamBenchmarks/out CachingWorldDaoBenchmark
+ */
+public class CachingWorldDaoBenchmark {
+	private static final int WRITE_EVERY = 1000;
+
+	public static void main(String[] args) {
+		Bench.header();
+		for (long size : Bench.sizes("1000000")) {
+			InMemoryWorldDao dao = SyntheticWorld.dao((int) size);
+			CachingWorldDao cache = CachingWorldDao.attach(dao, 1024);
+			List<Country> countries = dao.findAllCountries();
+			List<City> cities = dao.findAllCities();
+			Random random = new Random(3);
+
+			Bench.run("exercise1.direct", size, () -> Exercise1.maxCityPerCountry(dao));
+			Bench.run("exercise1.cached", size, () -> cache.query("exercise1", Exercise1::maxCityPerCountry));
+			Bench.run("exercise2.direct", size, () -> Exercise2.maxCityPerContinent(dao));
+			Bench.run("exercise2.cached", size, () -> cache.query("exercise2", Exercise2::maxCityPerContinent));
+			Bench.run("exercise5.direct", size, () -> Exercise5.highestPopulatedCapital(dao, dao));
+			Bench.run("exercise5.cached", size,
+					() -> cache.query("exercise5", world -> Exercise5.highestPopulatedCapital(world, world)));
+			Bench.run("findCitiesByCountryCode.direct", size,
+					() -> dao.findCitiesByCountryCode(countries.get(random.nextInt(countries.size())).getCode()));
+			Bench.run("findCitiesByCountryCode.cached", size,
+					() -> cache.findCitiesByCountryCode(countries.get(random.nextInt(countries.size())).getCode()));
+
+			int[] reads = new int[1];
+			Bench.run("dashboard.cached.writeEvery" + WRITE_EVERY, size, () -> {
+				if (++reads[0] % WRITE_EVERY == 0) {
+					City city = cities.get(random.nextInt(cities.size()));
+					cache.updateCity(new City(city.getId(), city.getName(), city.getCountryCode(),
+							random.nextInt(10_000_000)));
+				}
+				switch (reads[0] % 3) {
+				case 0:
+					return cache.query("exercise2", Exercise2::maxCityPerContinent);
+				case 1:
+					return cache.findCitiesByCountryCode(countries.get(random.nextInt(countries.size())).getCode());
+				default:
+					return cache.findCountriesByContinent("Asia");
+				}
+			});
+			System.out.println("  " + cache);
+		}
+	}
+}
@@ -0,0 +1,141 @@
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Races on InMemoryWorldDao's compare and set updateCity and on addCity, in the
+ * manner of a jcstress test: each trial lets two threads hit the same city at once
+ * and tallies the outcome pair, and a run fails if a forbidden outcome ever shows up.
+ *
+ *   java -cp ../JavaWorldStreamBenchmarks/out CasStress
+ *
+ *   cas     both threads swap from the same expected city: exactly one wins (1,0 / 0,1)
+ *   add     both threads add the same new id: exactly one gets null back
+ *   counter threads add to one city's population, with a CAS retry loop and with a
+ *           plain read and updateCity; the CAS total must be exact, the plain one
+ *           shows the updates it loses
+ *
+ * -Dstress.trials (default 200000) trials for cas and add, -Dstress.threads (4) and
+ * -Dstress.increments (100000 per thread) for counter.
+ */
+public class CasStress {
+	private static final int TRIALS = Integer.getInteger("stress.trials", 200_000);
+	private static final int THREADS = Integer.getInteger("stress.threads", 4);
+	private static final int INCREMENTS = Integer.getInteger("stress.increments", 100_000);
+
+	private interface Actor {
+		// the outcome of one side of a trial
+		int act(InMemoryWorldDao dao, int trial);
+	}
+
+	public static void main(String[] args) throws Exception {
+		InMemoryWorldDao dao = SyntheticWorld.dao(1000);
+		boolean ok = true;
+
+		// every trial gets its own city, both sides swap from the instance stored before
+		City[] expected = new City[TRIALS];
+		for (int i = 0; i < TRIALS; i++) {
+			expected[i] = new City(1_000_000 + i, "cas" + i, "EGY", 0);
+			dao.addCity(expected[i]);
+		}
+		ok &= report("cas", race(dao,
+				(d, i) -> d.updateCity(expected[i], new City(1_000_000 + i, "cas" + i, "EGY", 1)) ? 1 : 0,
+				(d, i) -> d.updateCity(expected[i], new City(1_000_000 + i, "cas" + i, "EGY", 2)) ? 1 : 0),
+				"1, 0", "0, 1");
+
+		ok &= report("add", race(dao,
+				(d, i) -> d.addCity(new City(2_000_000 + i, "add" + i, "EGY", 1)) == null ? 1 : 0,
+				(d, i) -> d.addCity(new City(2_000_000 + i, "add" + i, "EGY", 2)) == null ? 1 : 0),
+				"1, 0", "0, 1");
+
+		ok &= counter(dao, true);
+		counter(dao, false);
+		System.out.println(ok ? "OK" : "FAILED");
+		if (!ok)
+			System.exit(1);
+	}
+
+	// runs both actors on every trial in lock step and counts the outcome pairs
+	private static Map<String, Integer> race(InMemoryWorldDao dao, Actor first, Actor second) throws Exception {
+		int[] results = new int[TRIALS * 2];
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		Thread a = new Thread(() -> lockStep(barrier, trial -> results[trial * 2] = first.act(dao, trial)));
+		Thread b = new Thread(() -> lockStep(barrier, trial -> results[trial * 2 + 1] = second.act(dao, trial)));
+		a.start();
+		b.start();
+		a.join();
+		b.join();
+		Map<String, Integer> outcomes = new TreeMap<>();
+		for (int i = 0; i < TRIALS; i++)
+			outcomes.merge(results[i * 2] + ", " + results[i * 2 + 1], 1, Integer::sum);
+		return outcomes;
+	}
+
+	private interface Trial {
+		void run(int trial);
+	}
+
+	private static void lockStep(CyclicBarrier barrier, Trial body) {
+		try {
+			for (int i = 0; i < TRIALS; i++) {
+				barrier.await();
+				body.run(i);
+			}
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static boolean report(String test, Map<String, Integer> outcomes, String... allowed) {
+		boolean ok = true;
+		for (Map.Entry<String, Integer> outcome : outcomes.entrySet()) {
+			boolean accepted = java.util.Arrays.asList(allowed).contains(outcome.getKey());
+			ok &= accepted;
+			System.out.printf("%-8s %-8s %10d  %s%n", test, outcome.getKey(), outcome.getValue(),
+					accepted ? "ACCEPTABLE" : "FORBIDDEN");
+		}
+		return ok;
+	}
+
+	private static boolean counter(InMemoryWorldDao dao, boolean cas) throws InterruptedException {
+		int id = cas ? 3_000_000 : 3_000_001;
+		dao.addCity(new City(id, "counter", "EGY", 0));
+		AtomicInteger retries = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[THREADS];
+		for (int t = 0; t < THREADS; t++) {
+			threads[t] = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int i = 0; i < INCREMENTS; i++) {
+					if (cas) {
+						while (true) {
+							City current = dao.findCityById(id);
+							City next = new City(id, "counter", "EGY", current.getPopulation() + 1);
+							if (dao.updateCity(current, next))
+								break;
+							retries.incrementAndGet();
+						}
+					} else {
+						City current = dao.findCityById(id);
+						dao.updateCity(new City(id, "counter", "EGY", current.getPopulation() + 1));
+					}
+				}
+			});
+			threads[t].start();
+		}
+		start.countDown();
+		for (Thread thread : threads)
+			thread.join();
+		int expected = THREADS * INCREMENTS;
+		int actual = dao.findCityById(id).getPopulation();
+		System.out.printf("%-8s %-8s %10d of %d, %d lost, %d retries%n", "counter", cas ? "cas" : "plain", actual,
+				expected, expected - actual, retries.get());
+		return actual == expected;
+	}
+}
@@ -0,0 +1,89 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+
+/*
+ * Export throughput in MB/s of output: the FileWriter loop writeCitiesToFile used to
+ * be against WorldExporter in every format, plain and gzipped. Whole exports take
+ * seconds, so instead of Bench.run each variant is run a few times and the best and
+ * mean rates are printed.
+ *
+ *   java -Xmx4g -cp ../JavaWorldStreamBenchmarks/out ExportBenchmark
+ *
+ * -Dbench.runs=3 sets the runs per variant, -Dbench.dir the output directory (default a temp dir).
+ */
+public class ExportBenchmark {
+	private static final int RUNS = Integer.getInteger("bench.runs", 3);
+
+	interface Export {
+		long run(Path path) throws IOException;
+	}
+
+	public static void main(String[] args) throws IOException {
+		String dirProperty = System.getProperty("bench.dir");
+		Path dir = dirProperty != null ? Path.of(dirProperty) : Files.createTempDirectory("export");
+		System.out.printf("%-28s %12s %14s %12s %12s%n", "benchmark", "size", "bytes", "best MB/s", "mean MB/s");
+		for (long size : Bench.sizes("10000000")) {
+			InMemoryWorldDao dao = SyntheticWorld.dao((int) size);
+			Map<Integer, City> cities = dao.getCities();
+			run("legacy.fileWriter", size, dir, path -> {
+				legacyWriteCitiesToFile(cities, path.toString());
+				return Files.size(path);
+			});
+			for (WorldExporter.Format format : WorldExporter.Format.values()) {
+				run("exporter." + format, size, dir, path -> export(new WorldExporter(format), cities.values(), path));
+				if (format != WorldExporter.Format.SNAPSHOT)
+					run("exporter." + format + ".gzip", size, dir,
+							path -> export(new WorldExporter(format, true), cities.values(), path));
+			}
+		}
+	}
+
+	private static long export(WorldExporter exporter, Collection<City> cities, Path path) throws IOException {
+		exporter.exportCities(cities, path);
+		return Files.size(path);
+	}
+
+	private static void run(String name, long size, Path dir, Export export) throws IOException {
+		Path path = dir.resolve(name);
+		double best = 0;
+		double total = 0;
+		long bytes = 0;
+		for (int run = 0; run < RUNS; run++) {
+			long start = System.nanoTime();
+			bytes = export.run(path);
+			double seconds = (System.nanoTime() - start) / 1e9;
+			double rate = bytes / 1e6 / seconds;
+			best = Math.max(best, rate);
+			total += rate;
+		}
+		Files.deleteIfExists(path);
+		System.out.printf("%-28s %12d %14d %12.1f %12.1f%n", name, size, bytes, best, total / RUNS);
+	}
+
+	// writeCitiesToFile as it was, for the baseline
+	private static void legacyWriteCitiesToFile(Map<Integer, City> map, String path) {
+		File file = new File(path);
+		BufferedWriter bf = null;
+		try {
+			bf = new BufferedWriter(new FileWriter(file));
+			for (Map.Entry<Integer, City> entry : map.entrySet()) {
+				bf.write(entry.getKey() + ", " + entry.getValue());
+				bf.newLine();
+			}
+			bf.flush();
+		} catch (IOException e) {
+			e.printStackTrace();
+		} finally {
+			try {
+				bf.close();
+			} catch (Exception e) {
+			}
+		}
+	}
+}
@@ -0,0 +1,87 @@
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/*
+ * findNearest and findWithin on the grid index over SyntheticWorld's made up
+ * locations, what keeping it current costs an updateCity that moves a city, and a
+ * plain scan over every city for comparison.
+ *
+ *   java -Xmx4g -cp ../JavaWorldStreamBenchmarks/out GeoIndexBenchmark
+ *
+ * Queries near a city land where cities are dense; queries anywhere mostly land
+ * in empty space far from the clusters, where the search circle has to grow.
+ */
+public class GeoIndexBenchmark {
+	private static final int QUERIES = 4096;
+
+	public static void main(String[] args) {
+		Bench.header();
+		for (long size : Bench.sizes("1000000,3000000")) {
+			InMemoryWorldDao dao = SyntheticWorld.dao((int) size);
+			List<City> cities = dao.findAllCities();
+			Random random = new Random(13);
+			double[][] nearCity = new double[QUERIES][];
+			double[][] anywhere = new double[QUERIES][];
+			for (int i = 0; i < QUERIES; i++) {
+				City city = cities.get(random.nextInt(cities.size()));
+				nearCity[i] = new double[] { Math.max(-90, Math.min(90, city.getLatitude() + random.nextGaussian())),
+						Math.max(-180, Math.min(180, city.getLongitude() + random.nextGaussian())) };
+				anywhere[i] = new double[] { Math.toDegrees(Math.asin(2 * random.nextDouble() - 1)),
+						-180 + 360 * random.nextDouble() };
+			}
+			dao.findNearest(0, 0, 1);
+
+			int[] next = new int[1];
+			for (int k : new int[] { 1, 10, 100 }) {
+				Bench.run("findNearest(" + k + ").nearCity", size, () -> {
+					double[] point = nearCity[next[0]++ & (QUERIES - 1)];
+					return dao.findNearest(point[0], point[1], k);
+				});
+			}
+			Bench.run("findNearest(10).anywhere", size, () -> {
+				double[] point = anywhere[next[0]++ & (QUERIES - 1)];
+				return dao.findNearest(point[0], point[1], 10);
+			});
+			Bench.run("findWithin(1x1 deg).nearCity", size, () -> {
+				double[] point = nearCity[next[0]++ & (QUERIES - 1)];
+				return dao.findWithin(box(point, 0.5));
+			});
+			Bench.run("findWithin(10x10 deg).nearCity", size, () -> {
+				double[] point = nearCity[next[0]++ & (QUERIES - 1)];
+				return dao.findWithin(box(point, 5));
+			});
+			Bench.run("updateCity.move", size, () -> {
+				City city = cities.get(random.nextInt(cities.size()));
+				return dao.updateCity(new City(city.getId(), city.getName(), city.getCountryCode(),
+						city.getPopulation(), city.getLatitude(), city.getLongitude()));
+			});
+			Bench.run("findNearest(10).scan", size, () -> {
+				double[] point = nearCity[next[0]++ & (QUERIES - 1)];
+				return scanNearest(cities, point[0], point[1], 10);
+			});
+		}
+	}
+
+	private static GeoBox box(double[] point, double half) {
+		return new GeoBox(Math.max(-90, point[0] - half), Math.max(-180, point[1] - half),
+				Math.min(90, point[0] + half), Math.min(180, point[1] + half));
+	}
+
+	// distance to every city, the k closest kept in a heap
+	private static PriorityQueue<double[]> scanNearest(List<City> cities, double latitude, double longitude, int k) {
+		PriorityQueue<double[]> nearest = new PriorityQueue<>((a, b) -> Double.compare(b[0], a[0]));
+		for (int i = 0; i < cities.size(); i++) {
+			City city = cities.get(i);
+			double distance = CitySpatialIndex.distanceKm(latitude, longitude, city.getLatitude(),
+					city.getLongitude());
+			if (nearest.size() < k) {
+				nearest.add(new double[] { distance, i });
+			} else if (distance < nearest.peek()[0]) {
+				nearest.poll();
+				nearest.add(new double[] { distance, i });
+			}
+		}
+		return nearest;
+	}
+}
@@ -0,0 +1,43 @@
+import java.util.Arrays;
+
+/*
+ * InMemoryWorldDao.getInstance() called from 1..N threads at once, next to the
+ * synchronized accessor it replaced, to show the monitor under contention.
+ *
+ *   java -cp ../JavaWorldStreamBenchmarks/out GetInstanceBenchmark
+ *
+ * -Dbench.threads=1,2,4,8 picks the thread counts (default 1..2x available processors, doubling).
+ */
+public class GetInstanceBenchmark {
+	private static final int BATCH = 1024;
+
+	// the old getInstance, kept here for comparison
+	private static InMemoryWorldDao instance;
+
+	private static InMemoryWorldDao synchronizedInstance() {
+		synchronized (GetInstanceBenchmark.class) {
+			if (instance == null)
+				instance = InMemoryWorldDao.getInstance();
+		}
+		return instance;
+	}
+
+	public static void main(String[] args) {
+		InMemoryWorldDao.getInstance();
+		System.out.printf("%-44s %12s %14s %12s %12s %14s%n", "benchmark", "threads", "ops/s", "p50 us/op",
+				"p99 us/op", "alloc B/op");
+		for (long threads : threads()) {
+			Bench.runConcurrent("getInstance.holder", (int) threads, BATCH, InMemoryWorldDao::getInstance);
+			Bench.runConcurrent("getInstance.synchronized", (int) threads, BATCH,
+					GetInstanceBenchmark::synchronizedInstance);
+		}
+	}
+
+	private static long[] threads() {
+		StringBuilder defaults = new StringBuilder("1");
+		for (int threads = 2; threads <= 2 * Runtime.getRuntime().availableProcessors(); threads *= 2)
+			defaults.append(',').append(threads);
+		String value = System.getProperty("bench.threads", defaults.toString());
+		return Arrays.stream(value.split(",")).mapToLong(Long::parseLong).toArray();
+	}
+}
@@ -0,0 +1,305 @@
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * Load generator for WorldHttpServer: N keep-alive connections held open at once,
+ * each sending its next request as soon as the previous answer is complete. One
+ * selector thread drives all of them, so 10,000 connections cost 10,000 sockets and
+ * not 10,000 threads. Reports throughput and latency percentiles over the
+ * measurement window; latency is from the first byte written to the last byte of
+ * the response read.
+ *
+ * Against a server already running (keep the two in separate JVMs for 10,000
+ * connections, each socket end is a file descriptor):
+ *
+ *   java -Dsun.net.httpserver.maxIdleConnections=20000 -cp out WorldHttpServer 8080
+ *   java -Dload.target=localhost:8080 -Dload.connections=10000 -cp out HttpLoadTest
+ *
+ * Without load.target it starts a server on the real data in this JVM.
+ *
+ * All connections are opened before the first request goes out. Knobs:
+ * load.connections (default 1000), load.warmup.seconds (5), load.seconds (15).
+ * The request mix is 80% /cities/{id}, 15% /countries/{code} and 5% /cities?country=,
+ * the last one a chunked list.
+ */
+public class HttpLoadTest {
+	private static final int CONNECTIONS = Integer.getInteger("load.connections", 1000);
+	private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup.seconds", 5);
+	private static final int SECONDS = Integer.getInteger("load.seconds", 15);
+	// connects in flight at once, more than the listen backlog only buys SYN retries
+	private static final int CONNECT_WAVE = 512;
+
+	public static void main(String[] args) throws IOException {
+		String target = System.getProperty("load.target");
+		WorldHttpServer server = null;
+		InetSocketAddress address;
+		if (target == null) {
+			if (System.getProperty("sun.net.httpserver.maxIdleConnections") == null)
+				System.setProperty("sun.net.httpserver.maxIdleConnections", String.valueOf(CONNECTIONS * 2));
+			server = WorldHttpServer.start(InMemoryWorldDao.getInstance(), new InetSocketAddress("localhost", 0));
+			address = new InetSocketAddress("localhost", server.getPort());
+		} else {
+			String[] hostPort = target.split(":");
+			address = new InetSocketAddress(hostPort[0], Integer.parseInt(hostPort[1]));
+		}
+		try {
+			new HttpLoadTest(address, requests()).run();
+		} finally {
+			if (server != null)
+				server.close();
+		}
+	}
+
+	// a fixed pool of request lines drawn from the real data, cycled through
+	private static byte[][] requests() {
+		InMemoryWorldDao dao = InMemoryWorldDao.getInstance();
+		List<City> cities = dao.findAllCities();
+		List<Country> countries = dao.findAllCountries();
+		Random random = new Random(17);
+		byte[][] requests = new byte[4096][];
+		for (int i = 0; i < requests.length; i++) {
+			int pick = random.nextInt(100);
+			String path;
+			if (pick < 80)
+				path = "/cities/" + cities.get(random.nextInt(cities.size())).getId();
+			else if (pick < 95)
+				path = "/countries/" + countries.get(random.nextInt(countries.size())).getCode();
+			else
+				path = "/cities?country=" + countries.get(random.nextInt(countries.size())).getCode();
+			requests[i] = ("GET " + path + " HTTP/1.1\r\nHost: localhost\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+		}
+		return requests;
+	}
+
+	private final InetSocketAddress address;
+	private final byte[][] requests;
+	private final Selector selector;
+	private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(64 * 1024);
+	private int nextRequest;
+	private int connecting;
+	private int opened;
+	// connected before the load starts, so the ramp up is not slowed by the traffic itself
+	private final List<Connection> parked = new ArrayList<>();
+	private boolean started;
+
+	private boolean measuring;
+	private long[] latencies = new long[1 << 16];
+	private int completed;
+	private long errors;
+	private long reconnects;
+
+	private HttpLoadTest(InetSocketAddress address, byte[][] requests) throws IOException {
+		this.address = address;
+		this.requests = requests;
+		this.selector = Selector.open();
+	}
+
+	private void run() throws IOException {
+		long connectStart = System.nanoTime();
+		long deadline = Long.MAX_VALUE;
+		long measureStart = 0;
+		int established = 0;
+		while (System.nanoTime() < deadline) {
+			while (opened < CONNECTIONS && connecting < CONNECT_WAVE)
+				open();
+			selector.select(100);
+			for (SelectionKey key : selector.selectedKeys()) {
+				Connection connection = (Connection) key.attachment();
+				boolean connectable = key.isConnectable();
+				try {
+					if (connectable) {
+						connection.channel.finishConnect();
+						connecting--;
+						established++;
+						start(connection);
+					} else if (key.isWritable()) {
+						connection.flush();
+					} else if (key.isReadable()) {
+						connection.read();
+					}
+				} catch (IOException e) {
+					errors++;
+					if (connectable)
+						connecting--;
+					connection.close();
+				}
+			}
+			selector.selectedKeys().clear();
+			if (established == CONNECTIONS && deadline == Long.MAX_VALUE) {
+				System.out.printf("%d connections open after %.1f s%n", CONNECTIONS,
+						(System.nanoTime() - connectStart) / 1e9);
+				established++;
+				started = true;
+				for (Connection connection : parked)
+					connection.send();
+				parked.clear();
+				measureStart = System.nanoTime() + WARMUP_SECONDS * 1_000_000_000L;
+				deadline = measureStart + SECONDS * 1_000_000_000L;
+			}
+			if (!measuring && measureStart > 0 && System.nanoTime() >= measureStart) {
+				measuring = true;
+				completed = 0;
+				errors = 0;
+				reconnects = 0;
+			}
+		}
+		long elapsed = System.nanoTime() - measureStart;
+		long[] sorted = Arrays.copyOf(latencies, completed);
+		Arrays.sort(sorted);
+		System.out.printf("%-12s %14s %12s %12s %12s %12s %10s %10s%n", "connections", "requests/s", "p50 ms",
+				"p99 ms", "p99.9 ms", "max ms", "errors", "reconnects");
+		System.out.printf("%-12d %14.1f %12.2f %12.2f %12.2f %12.2f %10d %10d%n", CONNECTIONS, completed * 1e9 / elapsed,
+				percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6, percentile(sorted, 0.999) / 1e6,
+				sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6, errors, reconnects);
+		selector.close();
+	}
+
+	private void open() throws IOException {
+		SocketChannel channel = SocketChannel.open();
+		channel.configureBlocking(false);
+		channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+		Connection connection = new Connection(channel);
+		opened++;
+		if (channel.connect(address)) {
+			connection.key = channel.register(selector, 0, connection);
+			start(connection);
+		} else {
+			connecting++;
+			connection.key = channel.register(selector, SelectionKey.OP_CONNECT, connection);
+		}
+	}
+
+	private void start(Connection connection) throws IOException {
+		if (started)
+			connection.send();
+		else
+			parked.add(connection);
+	}
+
+	private void record(long latency) {
+		if (!measuring)
+			return;
+		if (completed == latencies.length)
+			latencies = Arrays.copyOf(latencies, completed * 2);
+		latencies[completed++] = latency;
+	}
+
+	private static double percentile(long[] sorted, double fraction) {
+		if (sorted.length == 0)
+			return 0;
+		int index = (int) Math.ceil(fraction * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+	}
+
+	/*
+	 * One keep-alive connection. The response is collected until it is complete:
+	 * headers, then either Content-Length bytes or chunks up to the empty one.
+	 */
+	private final class Connection {
+		final SocketChannel channel;
+		SelectionKey key;
+		ByteBuffer out;
+		long sentAt;
+		byte[] in = new byte[16 * 1024];
+		int length;
+
+		Connection(SocketChannel channel) {
+			this.channel = channel;
+		}
+
+		void send() throws IOException {
+			out = ByteBuffer.wrap(requests[nextRequest++ & (requests.length - 1)]);
+			length = 0;
+			sentAt = System.nanoTime();
+			flush();
+		}
+
+		void flush() throws IOException {
+			channel.write(out);
+			key.interestOps(out.hasRemaining() ? SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+		}
+
+		void read() throws IOException {
+			readBuffer.clear();
+			int read = channel.read(readBuffer);
+			if (read < 0) {
+				// the server dropped the connection, count it and dial again
+				reconnects++;
+				close();
+				return;
+			}
+			readBuffer.flip();
+			if (length + read > in.length)
+				in = Arrays.copyOf(in, Math.max(in.length * 2, length + read));
+			readBuffer.get(in, length, read);
+			length += read;
+			int status = complete();
+			if (status == 0)
+				return;
+			record(System.nanoTime() - sentAt);
+			if (status != 200)
+				errors++;
+			send();
+		}
+
+		void close() {
+			key.cancel();
+			try {
+				channel.close();
+			} catch (IOException e) {
+				// nothing to do
+			}
+			opened--;
+		}
+
+		// the status code once the whole response is in, 0 before
+		private int complete() {
+			int headerEnd = indexOf("\r\n\r\n", 0);
+			if (headerEnd < 0)
+				return 0;
+			String headers = new String(in, 0, headerEnd, StandardCharsets.ISO_8859_1).toLowerCase();
+			int status = Integer.parseInt(headers.substring(9, 12));
+			int body = headerEnd + 4;
+			int contentLength = headers.indexOf("content-length:");
+			if (contentLength >= 0) {
+				int end = headers.indexOf("\r\n", contentLength);
+				int size = Integer.parseInt(
+						headers.substring(contentLength + 15, end < 0 ? headers.length() : end).trim());
+				return length >= body + size ? status : 0;
+			}
+			// chunked: walk the size lines until the zero sized chunk and its blank line
+			int at = body;
+			while (true) {
+				int lineEnd = indexOf("\r\n", at);
+				if (lineEnd < 0)
+					return 0;
+				int size = Integer.parseInt(new String(in, at, lineEnd - at, StandardCharsets.ISO_8859_1).trim(), 16);
+				if (size == 0)
+					return indexOf("\r\n", lineEnd + 2) >= 0 ? status : 0;
+				at = lineEnd + 2 + size + 2;
+				if (at > length)
+					return 0;
+			}
+		}
+
+		private int indexOf(String marker, int from) {
+			outer: for (int i = from; i <= length - marker.length(); i++) {
+				for (int j = 0; j < marker.length(); j++)
+					if (in[i + j] != marker.charAt(j))
+						continue outer;
+				return i;
+			}
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,176 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Runs mixed mutations on InMemoryWorldDao from several threads and then checks its
+ * secondary indexes (countries by continent, cities by country code) against ones
+ * rebuilt from the backing maps. A reader thread checks every snapshot it takes the
+ * same way while the writers run: a version never shows half a change.
+ *
+ *   java -cp ../JavaWorldStreamBenchmarks/out IndexStress
+ *
+ * The writers add, update (moving cities between countries and countries between
+ * continents) and remove both cities and countries. The countries they touch are
+ * their own, on continents of their own, so continents come and go during the run;
+ * an index left with an empty group or a stale continent fails the check.
+ *
+ * -Dstress.threads (default 4), -Dstress.operations (200000 per thread),
+ * -Dstress.cities (10000 synthetic cities to start with).
+ */
+public class IndexStress {
+	private static final int THREADS = Integer.getInteger("stress.threads", 4);
+	private static final int OPERATIONS = Integer.getInteger("stress.operations", 200_000);
+	private static final int CITIES = Integer.getInteger("stress.cities", 10_000);
+	// per thread, ids and codes no other thread uses
+	private static final int COUNTRIES_PER_THREAD = 8;
+	private static final int CITIES_PER_THREAD = 2_000;
+	private static final String[] CONTINENTS = { "Atlantis", "Lemuria", "Mu" };
+
+	public static void main(String[] args) throws Exception {
+		InMemoryWorldDao dao = SyntheticWorld.dao(CITIES);
+		List<String> realCodes = new ArrayList<>(dao.getCountries().keySet());
+		Collections.sort(realCodes);
+
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicLong snapshots = new AtomicLong();
+		List<String> readerFailures = Collections.synchronizedList(new ArrayList<>());
+		Thread reader = new Thread(() -> {
+			while (running.get() && readerFailures.isEmpty()) {
+				WorldSnapshot snapshot = dao.snapshot();
+				readerFailures.addAll(check("snapshot " + snapshot.getVersion(), snapshot,
+						snapshot.findAllCountries(), snapshot.findAllCities()));
+				snapshots.incrementAndGet();
+			}
+		});
+
+		AtomicInteger[] counts = new AtomicInteger[6];
+		for (int i = 0; i < counts.length; i++)
+			counts[i] = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] writers = new Thread[THREADS];
+		for (int t = 0; t < THREADS; t++) {
+			int thread = t;
+			writers[t] = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				write(dao, thread, realCodes, counts);
+			});
+			writers[t].start();
+		}
+		reader.start();
+		long began = System.nanoTime();
+		start.countDown();
+		for (Thread writer : writers)
+			writer.join();
+		long elapsed = System.nanoTime() - began;
+		running.set(false);
+		reader.join();
+
+		System.out.printf("%d threads x %d operations in %d ms: %d city adds, %d updates, %d removes,"
+				+ " %d country adds, %d updates, %d removes%n", THREADS, OPERATIONS, elapsed / 1_000_000,
+				counts[0].get(), counts[1].get(), counts[2].get(), counts[3].get(), counts[4].get(), counts[5].get());
+		System.out.printf("%d snapshots checked while writing%n", snapshots.get());
+
+		List<String> failures = new ArrayList<>(readerFailures);
+		failures.addAll(check("dao", dao, new ArrayList<>(dao.getCountries().values()),
+				new ArrayList<>(dao.getCities().values())));
+		for (String failure : failures.subList(0, Math.min(failures.size(), 20)))
+			System.out.println(failure);
+		System.out.println(failures.isEmpty() ? "OK" : "FAILED, " + failures.size() + " differences");
+		if (!failures.isEmpty())
+			System.exit(1);
+	}
+
+	private static void write(InMemoryWorldDao dao, int thread, List<String> realCodes, AtomicInteger[] counts) {
+		Random random = new Random(thread);
+		String[] codes = new String[COUNTRIES_PER_THREAD];
+		for (int i = 0; i < codes.length; i++)
+			codes[i] = "Z" + (char) ('A' + thread % 26) + (char) ('A' + i);
+		int firstId = 10_000_000 + thread * CITIES_PER_THREAD;
+		for (int i = 0; i < OPERATIONS; i++) {
+			int op = random.nextInt(6);
+			String code = codes[random.nextInt(codes.length)];
+			int id = firstId + random.nextInt(CITIES_PER_THREAD);
+			// most cities go to the thread's own countries, some to real ones and some to none yet added
+			String cityCode = random.nextInt(4) == 0 ? realCodes.get(random.nextInt(realCodes.size())) : code;
+			switch (op) {
+			case 0:
+				dao.addCity(new City(id, "stress" + id, cityCode, random.nextInt(1_000_000)));
+				break;
+			case 1:
+				dao.updateCity(new City(id, "stress" + id, cityCode, random.nextInt(1_000_000)));
+				break;
+			case 2:
+				dao.removeCity(new City(id, null, null, 0));
+				break;
+			case 3:
+				dao.addCountry(country(code, random));
+				break;
+			case 4:
+				dao.updateCountry(country(code, random));
+				break;
+			default:
+				dao.removeCountry(country(code, random));
+				break;
+			}
+			counts[op].incrementAndGet();
+		}
+	}
+
+	private static Country country(String code, Random random) {
+		return new Country(code, "Stress " + code, CONTINENTS[random.nextInt(CONTINENTS.length)],
+				random.nextInt(1_000_000), 1, 1, 0);
+	}
+
+	// every difference between the view's indexes and the ones rebuilt from countries and cities
+	private static List<String> check(String name, WorldDao view, List<Country> countries, List<City> cities) {
+		Map<String, Set<String>> byContinent = new HashMap<>();
+		for (Country country : countries)
+			if (country.getContinent() != null)
+				byContinent.computeIfAbsent(country.getContinent(), key -> new HashSet<>()).add(country.getCode());
+		Map<String, Set<Integer>> byCountry = new HashMap<>();
+		for (City city : cities)
+			if (city.getCountryCode() != null)
+				byCountry.computeIfAbsent(city.getCountryCode(), key -> new HashSet<>()).add(city.getId());
+
+		List<String> failures = new ArrayList<>();
+		if (!view.getAllContinents().equals(byContinent.keySet()))
+			failures.add(name + ": continents " + view.getAllContinents() + ", rebuilt " + byContinent.keySet());
+		Set<String> continents = new HashSet<>(byContinent.keySet());
+		continents.addAll(view.getAllContinents());
+		for (String continent : continents) {
+			Set<String> indexed = new HashSet<>();
+			for (Country country : view.findCountriesByContinent(continent))
+				indexed.add(country.getCode());
+			Set<String> rebuilt = byContinent.getOrDefault(continent, Collections.emptySet());
+			if (!indexed.equals(rebuilt))
+				failures.add(name + ": continent " + continent + " has " + indexed + ", rebuilt " + rebuilt);
+		}
+		Set<String> codes = new HashSet<>(byCountry.keySet());
+		for (Country country : countries)
+			codes.add(country.getCode());
+		for (String code : codes) {
+			Set<Integer> indexed = new HashSet<>();
+			for (City city : view.findCitiesByCountryCode(code))
+				indexed.add(city.getId());
+			Set<Integer> rebuilt = byCountry.getOrDefault(code, Collections.emptySet());
+			if (!indexed.equals(rebuilt))
+				failures.add(name + ": country " + code + " has " + indexed.size() + " cities, rebuilt "
+						+ rebuilt.size());
+		}
+		return failures;
+	}
+}
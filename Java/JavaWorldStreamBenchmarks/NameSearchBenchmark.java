@@ -0,0 +1,75 @@
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/*
+ * findCitiesByNamePrefix / findCitiesByNameFuzzy on the name index, next to a
+ * stream scan over every city for the same prefix. The copies SyntheticWorld makes
+ * get a numbered name ("Cairo 17"), so every size has that many distinct names.
+ *
+ *   java -Xmx4g -cp ../JavaWorldStreamBenchmarks/out NameSearchBenchmark
+ *
+ * Queries are drawn from the real names: prefixes of 1 to 4 chars, and whole names
+ * with one char replaced for the fuzzy lookups. Limit 10, as an autocomplete would ask.
+ */
+public class NameSearchBenchmark {
+	private static final int LIMIT = 10;
+	private static final int QUERIES = 4096;
+
+	public static void main(String[] args) {
+		Bench.header();
+		for (long size : Bench.sizes("1000000,3000000")) {
+			InMemoryWorldDao dao = dao((int) size);
+			String[] prefixes = new String[QUERIES];
+			String[] typos = new String[QUERIES];
+			queries(dao, prefixes, typos);
+			dao.findCitiesByNamePrefix("", 1);
+
+			int[] next = new int[1];
+			Bench.run("namePrefix.index", size, () -> dao.findCitiesByNamePrefix(query(prefixes, next), LIMIT));
+			Bench.run("nameFuzzy.index.distance=1", size,
+					() -> dao.findCitiesByNameFuzzy(query(typos, next), 1, LIMIT));
+			Bench.run("nameFuzzy.index.distance=2", size,
+					() -> dao.findCitiesByNameFuzzy(query(typos, next), 2, LIMIT));
+			Bench.run("namePrefix.streamScan", size, () -> {
+				String prefix = CityNameIndex.normalize(query(prefixes, next));
+				return dao.streamCities().filter(c -> CityNameIndex.normalize(c.getName()).startsWith(prefix))
+						.limit(LIMIT).collect(Collectors.toList());
+			});
+		}
+	}
+
+	private static InMemoryWorldDao dao(int cityCount) {
+		Map<String, Country> countries = SyntheticWorld.countries();
+		List<City> cities = SyntheticWorld.cities(cityCount, countries);
+		int real = Math.min(cityCount, 4079);
+		Map<Integer, City> byId = new ConcurrentHashMap<>(cityCount * 4 / 3 + 1);
+		for (int i = 0; i < cities.size(); i++) {
+			City city = cities.get(i);
+			if (i >= real)
+				city = new City(city.getId(), city.getName() + " " + i / real, city.getCountryCode(),
+						city.getPopulation());
+			byId.put(city.getId(), city);
+		}
+		return new WorldDaoBuilder().data(countries, byId).buildInMemory();
+	}
+
+	private static void queries(InMemoryWorldDao dao, String[] prefixes, String[] typos) {
+		List<City> real = dao.findAllCities().stream().filter(c -> c.getName().indexOf(' ') < 0)
+				.collect(Collectors.toList());
+		Random random = new Random(7);
+		for (int i = 0; i < QUERIES; i++) {
+			String name = real.get(random.nextInt(real.size())).getName();
+			prefixes[i] = name.substring(0, Math.min(name.length(), 1 + random.nextInt(4)));
+			char[] chars = name.toCharArray();
+			chars[random.nextInt(chars.length)] = (char) ('a' + random.nextInt(26));
+			typos[i] = new String(chars);
+		}
+	}
+
+	private static String query(String[] queries, int[] next) {
+		return queries[next[0]++ & (QUERIES - 1)];
+	}
+}
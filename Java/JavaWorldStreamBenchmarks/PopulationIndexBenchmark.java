@@ -0,0 +1,90 @@
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/*
+ * findCitiesByPopulationRange and topCities on the population index, next to the
+ * scan-and-sort the CityDao defaults do, plus what keeping the index current costs
+ * an updateCity.
+ *
+ *   java -Xmx4g -cp ../JavaWorldStreamBenchmarks/out PopulationIndexBenchmark
+ *
+ * The ranges start at a random city's population and are 0.1% of the largest
+ * population wide. Most cities are small, so a range holds tens of thousands of them.
+ */
+public class PopulationIndexBenchmark {
+	private static final int QUERIES = 4096;
+
+	public static void main(String[] args) {
+		Bench.header();
+		for (long size : Bench.sizes("1000000,3000000")) {
+			InMemoryWorldDao dao = SyntheticWorld.dao((int) size);
+			CityDao scanning = scanning(dao);
+			List<City> cities = dao.findAllCities();
+			int[] from = new int[QUERIES];
+			Random random = new Random(11);
+			for (int i = 0; i < QUERIES; i++)
+				from[i] = cities.get(random.nextInt(cities.size())).getPopulation();
+			int width = dao.topCities(1).get(0).getPopulation() / 1000;
+			dao.topCities(1);
+
+			int[] next = new int[1];
+			Bench.run("populationRange.index", size, () -> {
+				int min = from[next[0]++ & (QUERIES - 1)];
+				return dao.findCitiesByPopulationRange(min, min + width);
+			});
+			Bench.run("topCities(10).index", size, () -> dao.topCities(10));
+			Bench.run("topCities(1000).index", size, () -> dao.topCities(1000));
+			Bench.run("updateCity.withIndex", size, () -> {
+				City city = cities.get(random.nextInt(cities.size()));
+				return dao.updateCity(new City(city.getId(), city.getName(), city.getCountryCode(),
+						random.nextInt(10_000_000)));
+			});
+			Bench.run("populationRange.scanSort", size, () -> {
+				int min = from[next[0]++ & (QUERIES - 1)];
+				return scanning.findCitiesByPopulationRange(min, min + width);
+			});
+			Bench.run("topCities(10).scanSort", size, () -> scanning.topCities(10));
+		}
+	}
+
+	// the same dao seen through the CityDao defaults only
+	private static CityDao scanning(InMemoryWorldDao dao) {
+		return new CityDao() {
+			@Override
+			public City findCityById(int id) {
+				return dao.findCityById(id);
+			}
+
+			@Override
+			public City removeCity(City city) {
+				return dao.removeCity(city);
+			}
+
+			@Override
+			public City addCity(City city) {
+				return dao.addCity(city);
+			}
+
+			@Override
+			public City updateCity(City city) {
+				return dao.updateCity(city);
+			}
+
+			@Override
+			public List<City> findAllCities() {
+				return dao.findAllCities();
+			}
+
+			@Override
+			public List<City> findCitiesByCountryCode(String countryCode) {
+				return dao.findCitiesByCountryCode(countryCode);
+			}
+
+			@Override
+			public Stream<City> streamCities() {
+				return dao.streamCities();
+			}
+		};
+	}
+}
@@ -0,0 +1,76 @@
+import static java.util.Comparator.comparing;
+
+import java.util.List;
+import java.util.Random;
+
+/*
+ * PopulationKernels, scalar against vector, next to the stream code they replace:
+ * Stream.max(Comparator.comparing(City::getPopulation)) as Exercise1 writes it, the
+ * summing and counting streams, and topCityBy's grouped pass. The kernel rows run
+ * on a PopulationColumns built once; the dao rows go through the dao's own columns,
+ * and the mixed rows write a city before every read, which the dao patches in.
+ *
+ * The vector kernels need their own compile step and the incubator module:
+ *   javac -encoding UTF-8 -d out ../JavaWorldStreamAssigment-main/*.java *.java
+ *   javac -encoding UTF-8 --add-modules jdk.incubator.vector -cp out -d out ../JavaWorldStreamAssigment-main/vector/*.java
+ *   cd ../JavaWorldStreamAssigment-main
+ *   java -Xmx6g --add-modules jdk.incubator.vector -cp ../JavaWorldStreamBenchmarks/out PopulationKernelBenchmark
+ *
+ * Without them only the scalar rows are printed.
+ */
+public class PopulationKernelBenchmark {
+
+	public static void main(String[] args) {
+		PopulationKernels vector = PopulationKernels.vector();
+		System.out.println("vector kernels: " + (vector == null ? "not available" : vector.name()));
+		PopulationKernels[] kernels = vector == null ? new PopulationKernels[] { PopulationKernels.scalar() }
+				: new PopulationKernels[] { PopulationKernels.scalar(), vector };
+		Bench.header();
+		for (long size : Bench.sizes("1000000,10000000")) {
+			InMemoryWorldDao dao = SyntheticWorld.dao((int) size);
+			List<City> cities = dao.findAllCities();
+			PopulationColumns columns = new PopulationColumns(cities);
+			String[] continents = WorldDao.continentsByCountryOrdinal(dao.findAllCountries());
+
+			Bench.run("max.stream.comparing", size, () -> cities.stream().max(comparing(City::getPopulation)));
+			for (PopulationKernels k : kernels)
+				Bench.run("max." + k.name(), size, () -> columns.mostPopulated(k));
+			Bench.run("sum.stream", size, () -> cities.stream().mapToLong(City::getPopulation).sum());
+			for (PopulationKernels k : kernels)
+				Bench.run("sum." + k.name(), size, () -> columns.sum(k));
+			Bench.run("countBetween.stream", size, () -> cities.stream()
+					.filter(c -> c.getPopulation() >= 100_000 && c.getPopulation() <= 1_000_000).count());
+			for (PopulationKernels k : kernels)
+				Bench.run("countBetween." + k.name(), size, () -> columns.countBetween(k, 100_000, 1_000_000));
+
+			Bench.run("maxPerCountry.exercise1", size, () -> Exercise1.maxCityPerCountry(dao));
+			Bench.run("maxPerCountry.reduceTopCity", size,
+					() -> WorldDao.reduceTopCity(cities.stream(), City::getCountryCode, WorldDao.BY_POPULATION));
+			for (PopulationKernels k : kernels)
+				Bench.run("maxPerCountry." + k.name(), size, () -> columns.mostPopulatedByCountry(k));
+			for (PopulationKernels k : kernels)
+				Bench.run("maxPerContinent." + k.name(), size, () -> columns.mostPopulatedByContinent(k, continents));
+
+			Bench.run("dao.topCityByCountry." + PopulationKernels.preferred().name(), size,
+					() -> dao.topCityByCountry(WorldDao.BY_POPULATION));
+			Bench.run("dao.findMostPopulatedCity." + PopulationKernels.preferred().name(), size,
+					dao::findMostPopulatedCity);
+
+			Random random = new Random(1);
+			Bench.run("mixed.updateCity+findMostPopulatedCity", size, () -> {
+				update(dao, cities, random);
+				return dao.findMostPopulatedCity();
+			});
+			Bench.run("mixed.updateCity+topCityByCountry", size, () -> {
+				update(dao, cities, random);
+				return dao.topCityByCountry(WorldDao.BY_POPULATION);
+			});
+			Bench.run("mixed.updateCity", size, () -> update(dao, cities, random));
+		}
+	}
+
+	private static City update(InMemoryWorldDao dao, List<City> cities, Random random) {
+		City city = cities.get(random.nextInt(cities.size()));
+		return dao.updateCity(new City(city.getId(), city.getName(), city.getCountryCode(), random.nextInt(10_000_000)));
+	}
+}
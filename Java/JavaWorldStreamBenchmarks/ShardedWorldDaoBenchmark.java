@@ -0,0 +1,75 @@
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * ShardedWorldDao throughput from 1 to 8 shards, the shards first as InMemoryWorldDaos
+ * in this JVM and then as WorldShardServer processes on localhost. For each shard count:
+ *
+ *   point       findCityById / findCountryByCode / findCitiesByCountryCode mix
+ *               (80 / 15 / 5), from bench.threads client threads at once
+ *   topCityByContinent, topCities(10)   scatter-gather, one caller
+ *
+ *   java -Xmx4g -cp ../JavaWorldStreamBenchmarks/out ShardedWorldDaoBenchmark
+ *
+ * Knobs: bench.sizes (default 1000000 cities), bench.shards (1,2,4,8),
+ * bench.threads (8), bench.shard.xmx (768m, heap of each shard process).
+ * Shard processes build the same SyntheticWorld and keep their own partition.
+ */
+public class ShardedWorldDaoBenchmark {
+	private static final int THREADS = Integer.getInteger("bench.threads", 8);
+	private static final String SHARD_XMX = System.getProperty("bench.shard.xmx", "768m");
+
+	public static void main(String[] args) throws IOException {
+		int[] shardCounts = Arrays.stream(System.getProperty("bench.shards", "1,2,4,8").split(","))
+				.mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+		Bench.header();
+		for (long size : Bench.sizes("1000000")) {
+			for (int shards : shardCounts) {
+				Map<String, Country> countries = SyntheticWorld.countries();
+				Map<Integer, City> cities = new HashMap<>();
+				for (City city : SyntheticWorld.cities((int) size, countries))
+					cities.put(city.getId(), city);
+				try (ShardedWorldDao dao = ShardedWorldDao.inMemory(countries, cities, shards)) {
+					run("inMemory." + shards, size, dao);
+				}
+			}
+			for (int shards : shardCounts) {
+				try (ShardedWorldDao dao = ShardedWorldDao.launch(shards, Shard.class.getName(),
+						List.of("-Xmx" + SHARD_XMX, "-Dbench.sizes=" + size))) {
+					run("process." + shards, size, dao);
+				}
+			}
+		}
+	}
+
+	private static void run(String name, long size, ShardedWorldDao dao) {
+		List<City> cities = dao.findAllCities();
+		List<Country> countries = dao.findAllCountries();
+		Bench.runConcurrent(name + ".point", THREADS, 64, () -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			int pick = random.nextInt(100);
+			if (pick < 80)
+				return dao.findCityById(cities.get(random.nextInt(cities.size())).getId());
+			String code = countries.get(random.nextInt(countries.size())).getCode();
+			return pick < 95 ? dao.findCountryByCode(code) : dao.findCitiesByCountryCode(code);
+		});
+		Bench.run(name + ".topCityByContinent", size, () -> dao.topCityByContinent(WorldDao.BY_POPULATION));
+		Bench.run(name + ".topCities10", size, () -> dao.topCities(10));
+	}
+
+	// main of a shard process, started by ShardedWorldDao.launch with <shard> <shards>
+	public static final class Shard {
+		public static void main(String[] args) throws IOException {
+			Map<String, Country> countries = SyntheticWorld.countries();
+			Map<Integer, City> cities = new HashMap<>();
+			for (City city : SyntheticWorld.cities((int) Bench.sizes("1000000")[0], countries))
+				cities.put(city.getId(), city);
+			WorldShardServer.serveUntilStdinCloses(WorldShardServer.partition(countries, cities,
+					Integer.parseInt(args[0]), Integer.parseInt(args[1])), 0);
+		}
+	}
+}
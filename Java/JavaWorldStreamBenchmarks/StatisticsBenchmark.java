@@ -0,0 +1,43 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * WorldStatistics answers against re-streaming the cities, with a writer thread
+ * updating random city populations the whole time.
+ *
+ *   java -Xmx6g -cp ../JavaWorldStreamBenchmarks/out StatisticsBenchmark
+ */
+public class StatisticsBenchmark {
+
+	public static void main(String[] args) throws InterruptedException {
+		Bench.header();
+		for (long size : Bench.sizes("4079,1000000")) {
+			InMemoryWorldDao dao = SyntheticWorld.dao((int) size);
+			WorldStatistics statistics = WorldStatistics.attach(dao);
+			List<City> cities = dao.findAllCities();
+
+			Thread writer = new Thread(() -> {
+				Random random = new Random(7);
+				while (!Thread.currentThread().isInterrupted()) {
+					City city = cities.get(random.nextInt(cities.size()));
+					dao.updateCity(new City(city.getId(), city.getName(), city.getCountryCode(),
+							random.nextInt(10_000_000)));
+				}
+			}, "writer");
+			writer.setDaemon(true);
+			writer.start();
+
+			Bench.run("mostPopulatedCityPerCountry.statistics", size,
+					() -> new ArrayList<>(statistics.mostPopulatedCityPerCountry()));
+			Bench.run("mostPopulatedCityPerCountry.stream", size, () -> Exercise1.maxCityPerCountry(dao));
+			Bench.run("mostPopulatedCityOfContinent.statistics", size,
+					() -> statistics.findMostPopulatedCityOfContinent("Asia"));
+			Bench.run("mostPopulatedCapital.statistics", size, statistics::findMostPopulatedCapital);
+			Bench.run("mostPopulatedCapital.stream", size, () -> Exercise5.highestPopulatedCapital(dao, dao));
+
+			writer.interrupt();
+			writer.join();
+		}
+	}
+}
@@ -0,0 +1,81 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * The real world data scaled to any number of cities. The first 4,079 cities are
+ * the real ones (so every capital still exists), the rest are copies of them with
+ * new ids and a jittered population, spread over the same 239 countries.
+ *
+ * The data files have no locations, so every city gets a made up one: each country
+ * a random centre, its cities scattered a few degrees around it. Clustered like
+ * real cities, which is what the spatial index has to cope with.
+ */
+final class SyntheticWorld {
+	private static final long SEED = 42;
+
+	private SyntheticWorld() {
+	}
+
+	static InMemoryWorldDao dao(int cityCount) {
+		Map<String, Country> countries = countries();
+		Map<Integer, City> cities = new ConcurrentHashMap<>(cityCount * 4 / 3 + 1);
+		for (City city : cities(cityCount, countries))
+			cities.put(city.getId(), city);
+		return new WorldDaoBuilder().data(countries, cities).buildInMemory();
+	}
+
+	// fresh Country objects every call, their city lists belong to one dao
+	static Map<String, Country> countries() {
+		Map<String, Country> countries = new ConcurrentHashMap<>();
+		try (InputStream in = WorldDataLoader.open(WorldDataLoader.COUNTRIES_FILE)) {
+			WorldDataLoader.loadCountries(in, countries);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return countries;
+	}
+
+	static List<City> cities(int cityCount, Map<String, Country> countries) {
+		Map<Integer, City> base = new ConcurrentHashMap<>();
+		try (InputStream in = WorldDataLoader.open(WorldDataLoader.CITIES_FILE)) {
+			WorldDataLoader.loadCities(in, base, countries);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		City[] real = base.values().stream().sorted((a, b) -> Integer.compare(a.getId(), b.getId()))
+				.toArray(City[]::new);
+		int nextId = real[real.length - 1].getId() + 1;
+
+		Random random = new Random(SEED);
+		Random places = new Random(SEED + 1);
+		Map<String, double[]> centres = new HashMap<>();
+		List<City> cities = new ArrayList<>(cityCount);
+		for (int i = 0; i < cityCount; i++) {
+			City template = real[i % real.length];
+			City city;
+			if (i < real.length) {
+				city = template;
+			} else {
+				int population = (int) (template.getPopulation() * (0.5 + random.nextDouble()));
+				city = new City(nextId++, template.getName(), template.getCountryCode(), population);
+			}
+			double[] centre = centres.computeIfAbsent(String.valueOf(city.getCountryCode()),
+					code -> new double[] { -55 + 125 * places.nextDouble(), -180 + 360 * places.nextDouble() });
+			city.setLatitude(Math.max(-90, Math.min(90, centre[0] + 3 * places.nextGaussian())));
+			city.setLongitude(wrap(centre[1] + 3 * places.nextGaussian()));
+			cities.add(city);
+		}
+		return cities;
+	}
+
+	private static double wrap(double longitude) {
+		return longitude < -180 ? longitude + 360 : longitude >= 180 ? longitude - 360 : longitude;
+	}
+}
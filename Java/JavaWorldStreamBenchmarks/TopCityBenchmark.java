@@ -0,0 +1,41 @@
+import static java.util.Comparator.comparingInt;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+ * WorldDao.topCityBy speedup curve: the same single pass run in fork/join pools of
+ * 1..N threads, next to the Exercise2 nested streams it replaces.
+ *
+ *   java -Xmx6g -cp ../JavaWorldStreamBenchmarks/out TopCityBenchmark
+ *
+ * -Dbench.threads=1,2,4,8 picks the pool sizes (default 1..available processors, doubling).
+ */
+public class TopCityBenchmark {
+	private static final Comparator<City> BY_POPULATION = comparingInt(City::getPopulation);
+
+	public static void main(String[] args) {
+		Bench.header();
+		for (long size : Bench.sizes("1000000,10000000")) {
+			InMemoryWorldDao dao = SyntheticWorld.dao((int) size);
+			Bench.run("maxCityPerContinent.exercise2", size, () -> Exercise2.maxCityPerContinent(dao));
+			for (long threads : threads()) {
+				ForkJoinPool pool = new ForkJoinPool((int) threads);
+				Bench.run("topCityByContinent.threads=" + threads, size,
+						() -> pool.submit(() -> dao.topCityByContinent(BY_POPULATION)).join());
+				Bench.run("topCityByCountry.threads=" + threads, size,
+						() -> pool.submit(() -> dao.topCityByCountry(BY_POPULATION)).join());
+				pool.shutdown();
+			}
+		}
+	}
+
+	private static long[] threads() {
+		StringBuilder defaults = new StringBuilder("1");
+		for (int threads = 2; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2)
+			defaults.append(',').append(threads);
+		String value = System.getProperty("bench.threads", defaults.toString());
+		return Arrays.stream(value.split(",")).mapToLong(Long::parseLong).toArray();
+	}
+}
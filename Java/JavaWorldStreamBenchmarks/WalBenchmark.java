@@ -0,0 +1,121 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/*
+ * WorldWriteAheadLog: sustained updateCity throughput with the log in each durability
+ * mode (and without one), then the time open() takes to recover the directory, once
+ * by replaying the whole log and once from a snapshot.
+ *
+ *   java -Xmx4g -cp ../JavaWorldStreamBenchmarks/out WalBenchmark
+ *
+ * -Dbench.ops (default 1000000) mutations per run, -Dbench.threads (default 1,4,64) writer
+ * threads, -Dbench.dir where the logs go (default a temp dir).
+ */
+public class WalBenchmark {
+	private static final long OPS = Long.getLong("bench.ops", 1_000_000);
+
+	public static void main(String[] args) throws Exception {
+		String dirProperty = System.getProperty("bench.dir");
+		Path root = dirProperty != null ? Path.of(dirProperty) : Files.createTempDirectory("wal");
+		System.out.printf("%-36s %8s %12s %14s %12s%n", "benchmark", "threads", "ops", "ops/s", "MB logged");
+
+		for (String threads : System.getProperty("bench.threads", "1,4,64").split(",")) {
+			int writers = Integer.parseInt(threads);
+			run("none", writers, null, null);
+			run("async.10ms", writers, root, new WorldWriteAheadLog.Options()
+					.durability(WorldWriteAheadLog.Durability.ASYNC).syncIntervalMillis(10).checkpointEvery(0));
+			run("sync", writers, root, new WorldWriteAheadLog.Options().checkpointEvery(0));
+			run("sync.1ms", writers, root, new WorldWriteAheadLog.Options().syncIntervalMillis(1).checkpointEvery(0));
+		}
+
+		System.out.printf("%n%-36s %12s %12s%n", "recovery", "records", "ms");
+		Path dir = root.resolve("recovery");
+		delete(dir);
+		WorldWriteAheadLog.Options options = new WorldWriteAheadLog.Options()
+				.durability(WorldWriteAheadLog.Durability.ASYNC).syncIntervalMillis(10).checkpointEvery(0);
+		InMemoryWorldDao dao = WorldWriteAheadLog.open(dir, new WorldDaoBuilder(), options);
+		// let the initial snapshot of the base data land before the log grows
+		Thread.sleep(1000);
+		mutate(dao, 4, OPS);
+		WorldWriteAheadLog log = WorldWriteAheadLog.of(dao);
+		long records = log.nextSequence();
+		log.close();
+		recover("replay whole log", dir, records, options);
+		// that open left a snapshot behind, wait for it and open again
+		Thread.sleep(2000);
+		recover("snapshot, empty tail", dir, records, options);
+		delete(root);
+	}
+
+	private static void run(String name, int writers, Path root, WorldWriteAheadLog.Options options)
+			throws Exception {
+		Path dir = root == null ? null : root.resolve(name + "-" + writers);
+		if (dir != null)
+			delete(dir);
+		InMemoryWorldDao dao = dir == null ? new WorldDaoBuilder().buildInMemory()
+				: WorldWriteAheadLog.open(dir, new WorldDaoBuilder(), options);
+		// sync writers wait for every fsync, a single one only gets a fraction of the ops done in time
+		long ops = options != null && options.durability == WorldWriteAheadLog.Durability.SYNC && writers < 64
+				? Math.min(OPS, 20_000L * writers) : OPS;
+		long start = System.nanoTime();
+		mutate(dao, writers, ops);
+		WorldWriteAheadLog log = WorldWriteAheadLog.of(dao);
+		if (log != null)
+			log.flush();
+		double seconds = (System.nanoTime() - start) / 1e9;
+		if (log != null)
+			log.close();
+		System.out.printf("%-36s %8d %12d %14.0f %12.1f%n", "updateCity.wal=" + name, writers, ops, ops / seconds,
+				dir == null ? 0 : size(dir) / 1e6);
+		if (dir != null)
+			delete(dir);
+	}
+
+	private static void recover(String name, Path dir, long records, WorldWriteAheadLog.Options options)
+			throws IOException {
+		long start = System.nanoTime();
+		InMemoryWorldDao dao = WorldWriteAheadLog.open(dir, new WorldDaoBuilder(), options);
+		double millis = (System.nanoTime() - start) / 1e6;
+		WorldWriteAheadLog.of(dao).close();
+		System.out.printf("%-36s %12d %12.0f%n", name, records, millis);
+	}
+
+	private static void mutate(InMemoryWorldDao dao, int writers, long ops) throws InterruptedException {
+		List<City> cities = dao.findAllCities();
+		Thread[] threads = new Thread[writers];
+		for (int t = 0; t < writers; t++) {
+			int seed = t;
+			threads[t] = new Thread(() -> {
+				Random random = new Random(seed);
+				for (long i = seed; i < ops; i += writers) {
+					City city = cities.get(random.nextInt(cities.size()));
+					dao.updateCity(new City(city.getId(), city.getName(), city.getCountryCode(),
+							random.nextInt(10_000_000)));
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+	}
+
+	private static long size(Path dir) throws IOException {
+		try (Stream<Path> files = Files.list(dir)) {
+			return files.mapToLong(path -> path.toFile().length()).sum();
+		}
+	}
+
+	private static void delete(Path dir) throws IOException {
+		if (!Files.exists(dir))
+			return;
+		try (Stream<Path> files = Files.walk(dir)) {
+			for (Path path : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator)
+				Files.delete(path);
+		}
+	}
+}
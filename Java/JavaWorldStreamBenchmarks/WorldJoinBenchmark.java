@@ -0,0 +1,54 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Joining every city to its country: the findCountryByCode per city the Exercise1
+ * print loop does, against WorldJoin's hash join and sort-merge join. Each operation
+ * is one full join, the sink sums a little of both sides so no pair goes unused.
+ *
+ *   java -Xmx4g -cp ../JavaWorldStreamBenchmarks/out WorldJoinBenchmark
+ *
+ * The synthetic cities cycle through the real ones, so they are not in country
+ * order; sortMerge.presorted gets them sorted by country beforehand. hash.cityBuild
+ * joins only the first 100 cities, where the cities are the smaller side.
+ */
+public class WorldJoinBenchmark {
+	public static void main(String[] args) {
+		Bench.header();
+		for (long size : Bench.sizes("1000000,10000000")) {
+			Map<String, Country> countryMap = SyntheticWorld.countries();
+			List<City> cities = SyntheticWorld.cities((int) size, countryMap);
+			List<Country> countries = new ArrayList<>(countryMap.values());
+			// countries only, findCountryByCode is all the lookup loop needs
+			CountryDao countryDao = new WorldDaoBuilder().data(countryMap, new ConcurrentHashMap<>()).buildInMemory();
+			List<City> presorted = new ArrayList<>(cities);
+			presorted.sort(Comparator.comparingInt(City::getCountryOrdinal));
+			List<City> few = cities.subList(0, 100);
+
+			Bench.run("lookup.findCountryByCode", size, () -> {
+				long total = 0;
+				for (City city : cities) {
+					Country country = countryDao.findCountryByCode(city.getCountryCode());
+					if (country != null)
+						total += city.getPopulation() + country.getCodeOrdinal();
+				}
+				return total;
+			});
+			Bench.run("hash", size, () -> join(cities, countries, WorldJoin.Strategy.HASH));
+			Bench.run("sortMerge", size, () -> join(cities, countries, WorldJoin.Strategy.SORT_MERGE));
+			Bench.run("sortMerge.presorted", size, () -> join(presorted, countries, WorldJoin.Strategy.SORT_MERGE));
+			Bench.run("hash.presorted", size, () -> join(presorted, countries, WorldJoin.Strategy.HASH));
+			Bench.run("hash.cityBuild(100)", size, () -> join(few, countries, WorldJoin.Strategy.HASH));
+		}
+	}
+
+	private static long join(List<City> cities, List<Country> countries, WorldJoin.Strategy strategy) {
+		long[] total = new long[1];
+		WorldJoin.join(cities, countries, strategy,
+				(city, country) -> total[0] += city.getPopulation() + country.getCodeOrdinal());
+		return total[0];
+	}
+}
@@ -0,0 +1,109 @@
+import static java.util.Comparator.comparing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/*
+ * Exercise1 / Exercise2 / Exercise5 measured as sequential stream (the exercise code
+ * itself), parallel stream and a hand written loop, on the world data scaled from
+ * the real 4k cities up to 10M.
+ *
+ * Run from JavaWorldStreamBenchmarks (the data files are read from the assignment folder):
+ *   javac -encoding UTF-8 -d out ../JavaWorldStreamAssigment-main/*.java *.java
+ *   cd ../JavaWorldStreamAssigment-main
+ *   java -Xmx6g -cp ../JavaWorldStreamBenchmarks/out WorldStreamBenchmark
+ *
+ * -Dbench.sizes=4079,100000 picks the dataset sizes, see Bench for the timing knobs.
+ */
+public class WorldStreamBenchmark {
+
+	public static void main(String[] args) {
+		Bench.header();
+		for (long size : Bench.sizes("4079,100000,1000000,10000000")) {
+			InMemoryWorldDao dao = SyntheticWorld.dao((int) size);
+
+			Bench.run("maxCityPerCountry.stream", size, () -> Exercise1.maxCityPerCountry(dao));
+			Bench.run("maxCityPerCountry.parallel", size, () -> maxCityPerCountryParallel(dao));
+			Bench.run("maxCityPerCountry.loop", size, () -> maxCityPerCountryLoop(dao));
+
+			Bench.run("maxCityPerContinent.stream", size, () -> Exercise2.maxCityPerContinent(dao));
+			Bench.run("maxCityPerContinent.parallel", size, () -> maxCityPerContinentParallel(dao));
+			Bench.run("maxCityPerContinent.loop", size, () -> maxCityPerContinentLoop(dao));
+
+			Bench.run("highestPopulatedCapital.stream", size, () -> Exercise5.highestPopulatedCapital(dao, dao));
+			Bench.run("highestPopulatedCapital.parallel", size, () -> highestPopulatedCapitalParallel(dao));
+			Bench.run("highestPopulatedCapital.loop", size, () -> highestPopulatedCapitalLoop(dao));
+		}
+	}
+
+	static List<City> maxCityPerCountryParallel(CountryDao countryDao) {
+		return countryDao.findAllCountries()
+				.parallelStream()
+				.map(country -> country.getCities().parallelStream().max(comparing(City::getPopulation)))
+				.filter(Optional::isPresent)
+				.map(Optional::get)
+				.collect(Collectors.toList());
+	}
+
+	static List<City> maxCityPerCountryLoop(CountryDao countryDao) {
+		List<City> result = new ArrayList<>();
+		for (Country country : countryDao.findAllCountries()) {
+			City best = null;
+			for (City city : country.getCities())
+				if (best == null || city.getPopulation() > best.getPopulation())
+					best = city;
+			if (best != null)
+				result.add(best);
+		}
+		return result;
+	}
+
+	static List<City> maxCityPerContinentParallel(CountryDao countryDao) {
+		return new ArrayList<>(countryDao.findAllCountries()
+				.parallelStream()
+				.flatMap(country -> country.getCities().stream()
+						.map(city -> Map.entry(country.getContinent(), city)))
+				.collect(Collectors.groupingByConcurrent(Map.Entry::getKey,
+						Collectors.mapping(Map.Entry::getValue,
+								Collectors.collectingAndThen(Collectors.maxBy(comparing(City::getPopulation)),
+										Optional::get))))
+				.values());
+	}
+
+	static List<City> maxCityPerContinentLoop(CountryDao countryDao) {
+		Map<String, City> best = new HashMap<>();
+		for (Country country : countryDao.findAllCountries()) {
+			City max = best.get(country.getContinent());
+			for (City city : country.getCities())
+				if (max == null || city.getPopulation() > max.getPopulation())
+					max = city;
+			if (max != null)
+				best.put(country.getContinent(), max);
+		}
+		return new ArrayList<>(best.values());
+	}
+
+	static City highestPopulatedCapitalParallel(WorldDao worldDao) {
+		return worldDao.findAllCountries()
+				.parallelStream()
+				.map(Country::getCapital)
+				.map(worldDao::findCityById)
+				.filter(city -> city != null)
+				.max(comparing(City::getPopulation))
+				.get();
+	}
+
+	static City highestPopulatedCapitalLoop(WorldDao worldDao) {
+		City best = null;
+		for (Country country : worldDao.findAllCountries()) {
+			City capital = worldDao.findCityById(country.getCapital());
+			if (capital != null && (best == null || capital.getPopulation() > best.getPopulation()))
+				best = capital;
+		}
+		return best;
+	}
+}